@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Bloom filter over the primary key values of an RDBMS Event Table, used for answering contains() checks of keys
+ * which do not exist without querying the database. A negative answer is exact, while a positive answer is wrong
+ * with the configured false positive probability as long as no more than the expected number of keys are added.
+ * <p>
+ * Keys cannot be removed, hence deleted keys increase the observed false positive rate over time. The rate is
+ * tracked through {@link #recordNegative()} and {@link #recordFalsePositive()}, and {@link #isDrifted()} tells
+ * when the filter should be rebuilt.
+ */
+public class RDBMSBloomFilter {
+
+    private static final long MIN_DRIFT_SAMPLES = 1000;
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final int expectedKeys;
+    private final double falsePositiveRate;
+    private final AtomicLong addedKeys = new AtomicLong();
+    private final AtomicLong negatives = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    /**
+     * @param expectedKeys      the number of keys the filter is sized for.
+     * @param falsePositiveRate the false positive probability at the expected number of keys.
+     */
+    public RDBMSBloomFilter(int expectedKeys, double falsePositiveRate) {
+        this.expectedKeys = expectedKeys;
+        this.falsePositiveRate = falsePositiveRate;
+        long optimalBits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) Math.max(1, (optimalBits + 63) / 64));
+        this.bitCount = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedKeys * Math.log(2)));
+    }
+
+    /**
+     * @return the approximate number of distinct keys added to the filter.
+     */
+    public long getKeyCount() {
+        return addedKeys.get();
+    }
+
+    /**
+     * Adds the given primary key values to the filter.
+     *
+     * @param key the primary key values.
+     */
+    public void put(List<Object> key) {
+        long hash = mix(key.hashCode());
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        boolean changed = false;
+        for (int i = 1; i <= hashCount; i++) {
+            long bitIndex = Math.floorMod(hash1 + (long) i * hash2, bitCount);
+            int word = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+            long current = bits.get(word);
+            while ((current & mask) == 0) {
+                if (bits.compareAndSet(word, current, current | mask)) {
+                    changed = true;
+                    break;
+                }
+                current = bits.get(word);
+            }
+        }
+        //Keys which set no new bit are most likely added already, hence they are not counted
+        if (changed) {
+            addedKeys.incrementAndGet();
+        }
+    }
+
+    /**
+     * Checks whether the given primary key values may have been added to the filter.
+     *
+     * @param key the primary key values.
+     * @return false if the key has definitely not been added.
+     */
+    public boolean mightContain(List<Object> key) {
+        long hash = mix(key.hashCode());
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bitIndex = Math.floorMod(hash1 + (long) i * hash2, bitCount);
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records a check of a key for which {@link #mightContain(List)} returned false.
+     */
+    public void recordNegative() {
+        negatives.incrementAndGet();
+    }
+
+    /**
+     * Records a check of a key for which {@link #mightContain(List)} returned true, but which does not exist in the
+     * table.
+     */
+    public void recordFalsePositive() {
+        falsePositives.incrementAndGet();
+    }
+
+    /**
+     * Checks whether the filter no longer provides the configured false positive rate, either because more keys
+     * than expected were added or because the observed rate is more than twice the configured rate.
+     *
+     * @return true if the filter should be rebuilt.
+     */
+    public boolean isDrifted() {
+        if (addedKeys.get() > expectedKeys) {
+            return true;
+        }
+        long falsePositiveCount = falsePositives.get();
+        long samples = negatives.get() + falsePositiveCount;
+        return samples >= MIN_DRIFT_SAMPLES && falsePositiveCount > 2 * falsePositiveRate * samples;
+    }
+
+    /**
+     * Finalization step of MurmurHash3, spreading the bits of the key hash code over 64 bits.
+     */
+    private static long mix(int hashCode) {
+        long hash = hashCode;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms;
+
+import io.siddhi.core.table.record.RecordIterator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link RecordIterator} over records held in memory, such as those served from the primary key cache or the table
+ * mirror. There are no database resources to release when it is closed.
+ */
+public class RDBMSCachedRecordIterator implements RecordIterator<Object[]> {
+
+    private final Iterator<Object[]> iterator;
+
+    public RDBMSCachedRecordIterator(Iterator<Object[]> iterator) {
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public Object[] next() {
+        if (!iterator.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return iterator.next();
+    }
+
+    @Override
+    public void close() {
+        //Nothing to release
+    }
+}
@@ -20,9 +20,14 @@ package io.siddhi.extension.store.rdbms;
 import io.siddhi.core.executor.ExpressionExecutor;
 import io.siddhi.core.table.record.UpdateOrInsertReducer;
 import io.siddhi.core.util.collection.operator.CompiledCondition;
+import io.siddhi.extension.store.rdbms.config.RDBMSTypeMapping;
+import io.siddhi.extension.store.rdbms.util.RDBMSParameterBinder;
 
 import java.util.List;
+import java.util.Map;
 import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Implementation class of {@link CompiledCondition} corresponding to the RDBMS Event Table.
@@ -34,11 +39,21 @@ public class RDBMSCompiledCondition implements CompiledCondition {
     private boolean useSubSelect;
     private String subSelectQuerySelectors;
     private String outerCompiledCondition;
+    private String lastValueSelectors;
+    private String lastValueWindowSelectors;
+    private String lastValueWindowColumns;
     private UpdateOrInsertReducer updateOrInsertReducer;
     private ExpressionExecutor inMemorySetExpressionExecutor;
     private SortedMap<Integer, Object> parameters;
     private boolean isContainsConditionExist;
     private List<Integer> ordinalOfContainPattern;
+    private Map<String, String> equalityConditionAttributes;
+    private String[] primaryKeyParameterNames;
+    private int[] mirrorColumnIndices;
+    private String[] mirrorParameterNames;
+    private RDBMSResidualCondition residualCondition;
+    private final Map<Object, String> preparedQueries = new ConcurrentHashMap<>();
+    private volatile RDBMSParameterBinder parameterBinder;
 
     public RDBMSCompiledCondition(String compiledQuery, SortedMap<Integer, Object> parameters,
                                   boolean isContainsConditionExist, List<Integer> ordinalOfContainPattern,
@@ -99,4 +114,132 @@ public class RDBMSCompiledCondition implements CompiledCondition {
     public ExpressionExecutor getInMemorySetExpressionExecutor() {
         return inMemorySetExpressionExecutor;
     }
+
+    public Map<String, String> getEqualityConditionAttributes() {
+        return equalityConditionAttributes;
+    }
+
+    public void setEqualityConditionAttributes(Map<String, String> equalityConditionAttributes) {
+        this.equalityConditionAttributes = equalityConditionAttributes;
+    }
+
+    /**
+     * Returns the names of the parameters holding the primary key values, in primary key order, if this condition is
+     * an equality on exactly the primary key of the table.
+     *
+     * @return the parameter names, or null if the condition is not a primary key lookup.
+     */
+    public String[] getPrimaryKeyParameterNames() {
+        return primaryKeyParameterNames;
+    }
+
+    public void setPrimaryKeyParameterNames(String[] primaryKeyParameterNames) {
+        this.primaryKeyParameterNames = primaryKeyParameterNames;
+    }
+
+    /**
+     * Returns the indices of the table columns compared by this condition, if it can be evaluated against the table
+     * mirror, i.e. it is a conjunction of equalities between columns and stream variables of the same type.
+     *
+     * @return the column indices, which are empty if the condition matches all rows, or null if the condition
+     * cannot be evaluated against the mirror.
+     */
+    public int[] getMirrorColumnIndices() {
+        return mirrorColumnIndices;
+    }
+
+    /**
+     * @return the names of the parameters holding the values of the columns given by {@link #getMirrorColumnIndices()}.
+     */
+    public String[] getMirrorParameterNames() {
+        return mirrorParameterNames;
+    }
+
+    public void setMirrorCondition(int[] mirrorColumnIndices, String[] mirrorParameterNames) {
+        this.mirrorColumnIndices = mirrorColumnIndices;
+        this.mirrorParameterNames = mirrorParameterNames;
+    }
+
+    /**
+     * Returns the selectors of a selection containing incrementalAggregator:last() with each last() compiled as the
+     * 'last' function, for databases which compute it in a single grouped scan instead of the sub-select.
+     *
+     * @return the selectors, or null if the selection does not contain incrementalAggregator:last().
+     */
+    public String getLastValueSelectors() {
+        return lastValueSelectors;
+    }
+
+    public void setLastValueSelectors(String lastValueSelectors) {
+        this.lastValueSelectors = lastValueSelectors;
+    }
+
+    /**
+     * Returns the selectors of a selection containing incrementalAggregator:last(), to be applied on the derived
+     * table returned by {@link #getLastValueWindowColumns()}, with each last() reading the column holding its value.
+     *
+     * @return the selectors, or null if the selection does not contain incrementalAggregator:last().
+     */
+    public String getLastValueWindowSelectors() {
+        return lastValueWindowSelectors;
+    }
+
+    public void setLastValueWindowSelectors(String lastValueWindowSelectors) {
+        this.lastValueWindowSelectors = lastValueWindowSelectors;
+    }
+
+    /**
+     * Returns the columns added to each record of the derived table, holding the value of each last() as the
+     * 'last.window' function partitioned as {{PARTITION}}.
+     *
+     * @return the columns, or null if the selection does not contain incrementalAggregator:last().
+     */
+    public String getLastValueWindowColumns() {
+        return lastValueWindowColumns;
+    }
+
+    public void setLastValueWindowColumns(String lastValueWindowColumns) {
+        this.lastValueWindowColumns = lastValueWindowColumns;
+    }
+
+    /**
+     * Returns the part of this condition which is evaluated in memory against the records read from the database, as
+     * it cannot be expressed in SQL.
+     *
+     * @return the residual condition, or null if the whole condition is evaluated by the database.
+     */
+    public RDBMSResidualCondition getResidualCondition() {
+        return residualCondition;
+    }
+
+    public void setResidualCondition(RDBMSResidualCondition residualCondition) {
+        this.residualCondition = residualCondition;
+    }
+
+    /**
+     * Returns the final SQL composed for this condition against the given key, composing and retaining it on the
+     * first call so that subsequent executions do not rebuild the same query string.
+     *
+     * @param key      the query template or compiled expressions the SQL is composed with.
+     * @param composer the function composing the SQL.
+     * @return the composed SQL.
+     */
+    public String getPreparedQuery(Object key, Supplier<String> composer) {
+        return preparedQueries.computeIfAbsent(key, k -> composer.get());
+    }
+
+    /**
+     * Returns the binder of the condition parameters, building it on the first call.
+     *
+     * @param typeMapping the type mapping of the database.
+     * @return the parameter binder.
+     */
+    public RDBMSParameterBinder getParameterBinder(RDBMSTypeMapping typeMapping) {
+        RDBMSParameterBinder binder = parameterBinder;
+        if (binder == null) {
+            binder = new RDBMSParameterBinder(parameters, ordinalOfContainPattern, typeMapping);
+            parameterBinder = binder;
+        }
+        return binder;
+    }
 }
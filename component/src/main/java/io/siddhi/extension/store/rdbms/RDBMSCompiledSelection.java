@@ -20,6 +20,10 @@ package io.siddhi.extension.store.rdbms;
 
 import io.siddhi.core.util.collection.operator.CompiledSelection;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 /**
  * Implementation class of {@link CompiledSelection} corresponding to the RDBMS Event Table.
  * Maintains the compiled select, group by, having etc. clauses.
@@ -32,6 +36,13 @@ public class RDBMSCompiledSelection implements CompiledSelection {
     private RDBMSCompiledCondition compiledOrderByClause;
     private Long limit;
     private Long offset;
+    private Object[] recordSelectors;
+    private String keysetShape;
+    private int[] keysetColumnIndices;
+    private int[] keysetOutputPositions;
+    private boolean[] keysetDescending;
+    private final Map<RDBMSCompiledCondition, String> preparedQueries = new ConcurrentHashMap<>();
+    private final Map<RDBMSCompiledCondition, String> preparedSeekQueries = new ConcurrentHashMap<>();
 
     public RDBMSCompiledSelection (RDBMSCompiledCondition compiledSelectClause,
                                    RDBMSCompiledCondition compiledGroupByClause,
@@ -68,6 +79,86 @@ public class RDBMSCompiledSelection implements CompiledSelection {
     public Long getOffset() {
         return offset;
     }
-}
 
+    /**
+     * Returns the selectors of this selection when it can be evaluated on a single table record, i.e. when each
+     * selected attribute is a table column (given by its index), a stream variable or a constant.
+     *
+     * @return the column indices, stream variables and constants selected, or null if the selection cannot be
+     * evaluated on a single record.
+     */
+    public Object[] getRecordSelectors() {
+        return recordSelectors;
+    }
+
+    public void setRecordSelectors(Object[] recordSelectors) {
+        this.recordSelectors = recordSelectors;
+    }
+
+    /**
+     * Returns the shape of this selection for keyset pagination, i.e. its SELECT and ORDER BY clauses without the
+     * limit and offset, which is the same for all pages of a paginated query.
+     *
+     * @return the shape, or null if keyset pagination is not applicable to this selection.
+     */
+    public String getKeysetShape() {
+        return keysetShape;
+    }
 
+    /**
+     * @return the indices of the table columns this selection is ordered by, in ORDER BY order.
+     */
+    public int[] getKeysetColumnIndices() {
+        return keysetColumnIndices;
+    }
+
+    /**
+     * @return the positions of the ORDER BY columns in the selected records, in ORDER BY order.
+     */
+    public int[] getKeysetOutputPositions() {
+        return keysetOutputPositions;
+    }
+
+    /**
+     * @return whether each ORDER BY column is sorted in descending order, in ORDER BY order.
+     */
+    public boolean[] getKeysetDescending() {
+        return keysetDescending;
+    }
+
+    /**
+     * Enables keyset pagination for this selection, which should be ordered by the primary key columns of the table
+     * and select all of them.
+     */
+    public void setKeysetPagination(String keysetShape, int[] keysetColumnIndices, int[] keysetOutputPositions,
+                                    boolean[] keysetDescending) {
+        this.keysetShape = keysetShape;
+        this.keysetColumnIndices = keysetColumnIndices;
+        this.keysetOutputPositions = keysetOutputPositions;
+        this.keysetDescending = keysetDescending;
+    }
+
+    /**
+     * Returns the final SELECT composed for this selection and the given condition, composing and retaining it on
+     * the first call.
+     *
+     * @param compiledCondition the condition the selection is queried with.
+     * @param composer          the function composing the SQL.
+     * @return the composed SQL.
+     */
+    public String getPreparedQuery(RDBMSCompiledCondition compiledCondition, Supplier<String> composer) {
+        return preparedQueries.computeIfAbsent(compiledCondition, k -> composer.get());
+    }
+
+    /**
+     * Returns the SELECT seeking past the last key of a previous page, composed for this selection and the given
+     * condition, composing and retaining it on the first call.
+     *
+     * @param compiledCondition the condition the selection is queried with.
+     * @param composer          the function composing the SQL.
+     * @return the composed SQL.
+     */
+    public String getPreparedSeekQuery(RDBMSCompiledCondition compiledCondition, Supplier<String> composer) {
+        return preparedSeekQueries.computeIfAbsent(compiledCondition, k -> composer.get());
+    }
+}
@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.Stack;
@@ -36,9 +37,16 @@ import java.util.TreeMap;
 
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.CLOSE_PARENTHESIS;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.EQUALS;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FUNCTION_LAST;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FUNCTION_LAST_WINDOW;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FUNCTION_MARKER_END;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FUNCTION_MARKER_SEPARATOR;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FUNCTION_MARKER_START;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.OPEN_PARENTHESIS;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_PARTITION;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_AS;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_MAX;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_TAUTOLOGY;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SUB_SELECT_QUERY_REF;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.WHITESPACE;
 
@@ -69,10 +77,57 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
     private Stack<String> lastConditionParams;
     private StringBuilder subSelect;
     private StringBuilder outerCompiledCondition;
+    private StringBuilder lastValueCondition;
+    private StringBuilder lastValueWindowCondition;
+
+    private Map<String, String> equalityConditionAttributes;
+    private boolean equalityOnlyCondition = true;
+    private boolean withinEqualityCompare = false;
+    private String compareStoreAttribute;
+    private String compareStreamAttribute;
 
     private String[] supportedFunctions = {"sum", "avg", "min", "max"};
 
+    // Functions rendered through the function templates of the database, keyed by their qualified Siddhi name
+    private static final Map<String, String> PUSH_DOWN_FUNCTIONS = new HashMap<>();
+    private static final List<String> CAST_TYPES = Arrays.asList("int", "long", "float", "double", "string");
+    private static final String FUNCTION_COUNT = "count";
+    private static final String FUNCTION_DISTINCT_COUNT = "distinctCount";
+    private static final String FUNCTION_CAST = "cast";
+
+    private Stack<String> functions;
+    private Stack<Integer> castTypePositions;
+    private boolean nextConstantIsCastType;
+
+    // Conjuncts at the top level of the condition which cannot be expressed in SQL are evaluated in memory instead
+    private boolean residualConditionSupported;
+    private int nodeDepth;
+    private int conjunctIndex;
+    private int conjunctStart;
+    private boolean residualConjunct;
+    private List<Integer> residualConjuncts;
+    private List<Attribute> residualVariables;
+    private List<Attribute> conjunctVariables;
+
+    static {
+        PUSH_DOWN_FUNCTIONS.put(FUNCTION_COUNT, FUNCTION_COUNT);
+        PUSH_DOWN_FUNCTIONS.put(FUNCTION_DISTINCT_COUNT, FUNCTION_DISTINCT_COUNT);
+        PUSH_DOWN_FUNCTIONS.put("ifThenElse", "ifThenElse");
+        PUSH_DOWN_FUNCTIONS.put("coalesce", "coalesce");
+        PUSH_DOWN_FUNCTIONS.put(FUNCTION_CAST, FUNCTION_CAST);
+        PUSH_DOWN_FUNCTIONS.put("convert", FUNCTION_CAST);
+        PUSH_DOWN_FUNCTIONS.put("str:upper", "upper");
+        PUSH_DOWN_FUNCTIONS.put("str:lower", "lower");
+        PUSH_DOWN_FUNCTIONS.put("str:length", "length");
+        PUSH_DOWN_FUNCTIONS.put("math:abs", "abs");
+        PUSH_DOWN_FUNCTIONS.put("math:round", "round");
+    }
+
     public RDBMSConditionVisitor(String tableName, boolean isAfterSelectClause) {
+        this(tableName, isAfterSelectClause, false);
+    }
+
+    public RDBMSConditionVisitor(String tableName, boolean isAfterSelectClause, boolean residualConditionSupported) {
         this.tableName = tableName;
         this.condition = new StringBuilder();
         this.streamVarCount = 0;
@@ -81,9 +136,18 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
         this.parameters = new TreeMap<>();
         this.subSelect = new StringBuilder();
         this.outerCompiledCondition = new StringBuilder();
+        this.lastValueCondition = new StringBuilder();
+        this.lastValueWindowCondition = new StringBuilder();
         this.lastConditionParams = new Stack<>();
         this.isAfterSelectClause = isAfterSelectClause;
         this.ordinalOfContainPattern = new ArrayList<>();
+        this.equalityConditionAttributes = new HashMap<>();
+        this.functions = new Stack<>();
+        this.castTypePositions = new Stack<>();
+        this.residualConditionSupported = residualConditionSupported;
+        this.residualConjuncts = new ArrayList<>();
+        this.residualVariables = new ArrayList<>();
+        this.conjunctVariables = new ArrayList<>();
     }
 
     private RDBMSConditionVisitor() {
@@ -99,6 +163,27 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
         return this.subSelect.toString();
     }
 
+    /**
+     * Returns incrementalAggregator:last() as a single aggregate function, which is used instead of the sub-select
+     * on databases having a template for it.
+     *
+     * @return the 'last' function marker over the attribute and the attribute it is ordered by.
+     */
+    public String returnLastValueCondition() {
+        return this.lastValueCondition.toString();
+    }
+
+    /**
+     * Returns incrementalAggregator:last() as a window function, which is evaluated on each record of a derived
+     * table on databases having a template for it but not for the aggregate. The partition of the window is left as
+     * the {{PARTITION}} placeholder, as it is only known once the group by clause is compiled.
+     *
+     * @return the 'last.window' function marker over the attribute, the attribute it is ordered by and the partition.
+     */
+    public String returnLastValueWindowCondition() {
+        return this.lastValueWindowCondition.toString();
+    }
+
     public boolean isContainsAttributeFunction() {
         return containsAttributeFunction;
     }
@@ -123,6 +208,40 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
         return isContainsConditionExist;
     }
 
+    /**
+     * Returns the indices of the top level conjuncts of the condition which could not be expressed in SQL, in which
+     * case the compiled condition holds a tautology in their place. Conjuncts are counted from left to right, where
+     * each operand of an AND at the top level of the condition, which is not an AND itself, is a conjunct.
+     *
+     * @return the indices of the conjuncts to be evaluated in memory.
+     */
+    public List<Integer> getResidualConjuncts() {
+        return residualConjuncts;
+    }
+
+    /**
+     * Returns the variables of the conjuncts given by {@link #getResidualConjuncts()} in the order they are visited,
+     * where stream variables are given by their parameter name and type, and store variables by null.
+     *
+     * @return the variables of the conjuncts to be evaluated in memory.
+     */
+    public List<Attribute> getResidualVariables() {
+        return residualVariables;
+    }
+
+    /**
+     * Returns the store attributes of the condition mapped to the stream variables they are compared against, if
+     * the condition is only a conjunction of equality comparisons between store attributes and stream variables.
+     *
+     * @return map of store attribute names to stream variable ids, or null if the condition has any other form.
+     */
+    public Map<String, String> getEqualityConditionAttributes() {
+        if (!equalityOnlyCondition || equalityConditionAttributes.isEmpty()) {
+            return null;
+        }
+        return equalityConditionAttributes;
+    }
+
     @Override
     public void beginVisitAnd() {
         condition.append(OPEN_PARENTHESIS);
@@ -155,12 +274,15 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void beginVisitOr() {
+        this.beginNode();
+        equalityOnlyCondition = false;
         condition.append(OPEN_PARENTHESIS);
     }
 
     @Override
     public void endVisitOr() {
         condition.append(CLOSE_PARENTHESIS);
+        this.endNode();
     }
 
     @Override
@@ -185,22 +307,42 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void beginVisitNot() {
+        this.beginNode();
+        equalityOnlyCondition = false;
         condition.append(RDBMSTableConstants.SQL_NOT).append(WHITESPACE);
     }
 
     @Override
     public void endVisitNot() {
-        //Not applicable
+        this.endNode();
     }
 
     @Override
     public void beginVisitCompare(Compare.Operator operator) {
+        this.beginNode();
+        if (operator == Compare.Operator.EQUAL && !withinEqualityCompare) {
+            withinEqualityCompare = true;
+            compareStoreAttribute = null;
+            compareStreamAttribute = null;
+        } else {
+            equalityOnlyCondition = false;
+        }
         condition.append(OPEN_PARENTHESIS);
     }
 
     @Override
     public void endVisitCompare(Compare.Operator operator) {
+        if (withinEqualityCompare) {
+            if (compareStoreAttribute == null || compareStreamAttribute == null ||
+                    equalityConditionAttributes.containsKey(compareStoreAttribute)) {
+                equalityOnlyCondition = false;
+            } else {
+                equalityConditionAttributes.put(compareStoreAttribute, compareStreamAttribute);
+            }
+            withinEqualityCompare = false;
+        }
         condition.append(CLOSE_PARENTHESIS);
+        this.endNode();
     }
 
     @Override
@@ -245,6 +387,8 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void beginVisitIsNull(String streamId) {
+        this.beginNode();
+        equalityOnlyCondition = false;
     }
 
     @Override
@@ -254,20 +398,36 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
                    "in having clause.");
         }
         condition.append(RDBMSTableConstants.SQL_IS_NULL).append(WHITESPACE);
+        this.endNode();
     }
 
     @Override
     public void beginVisitIn(String storeId) {
+        this.beginNode();
+        equalityOnlyCondition = false;
         condition.append(RDBMSTableConstants.SQL_IN).append(WHITESPACE);
     }
 
     @Override
     public void endVisitIn(String storeId) {
-        //Not applicable
+        this.endNode();
     }
 
     @Override
     public void beginVisitConstant(Object value, Attribute.Type type) {
+        this.beginNode();
+        equalityOnlyCondition = false;
+        if (nextConstantIsCastType) {
+            // The target type of cast() and convert() becomes part of the function template name
+            nextConstantIsCastType = false;
+            String castType = String.valueOf(value).trim().toLowerCase(Locale.ENGLISH);
+            if (!CAST_TYPES.contains(castType)) {
+                throw new OperationNotSupportedException("The RDBMS Event table supports cast() and convert() " +
+                        "only to the types " + CAST_TYPES + " but '" + value + "' was specified.");
+            }
+            condition.insert(castTypePositions.pop(), "." + castType);
+            return;
+        }
         String name;
         if (nextProcessContainsPattern) {
             name = this.generatePatternConstantName();
@@ -281,17 +441,20 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void endVisitConstant(Object value, Attribute.Type type) {
-        //Not applicable
+        this.endNode();
     }
 
     @Override
     public void beginVisitMath(MathOperator mathOperator) {
+        this.beginNode();
+        equalityOnlyCondition = false;
         condition.append(OPEN_PARENTHESIS);
     }
 
     @Override
     public void endVisitMath(MathOperator mathOperator) {
         condition.append(CLOSE_PARENTHESIS);
+        this.endNode();
     }
 
     @Override
@@ -333,28 +496,49 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void beginVisitAttributeFunction(String namespace, String functionName) {
-        if (RDBMSTableUtils.isEmpty(namespace) &&
+        this.beginNode();
+        equalityOnlyCondition = false;
+        String qualifiedName = (RDBMSTableUtils.isEmpty(namespace)) ? functionName : namespace.trim() + ":" +
+                functionName;
+        if (PUSH_DOWN_FUNCTIONS.containsKey(qualifiedName)) {
+            String templateName = PUSH_DOWN_FUNCTIONS.get(qualifiedName);
+            if (templateName.equals(FUNCTION_COUNT) || templateName.equals(FUNCTION_DISTINCT_COUNT)) {
+                containsAttributeFunction = true;
+            }
+            condition.append(FUNCTION_MARKER_START).append(templateName);
+            if (templateName.equals(FUNCTION_CAST)) {
+                castTypePositions.push(condition.length());
+            }
+            condition.append("}}");
+            functions.push(templateName);
+        } else if (RDBMSTableUtils.isEmpty(namespace) &&
                 (Arrays.stream(supportedFunctions).anyMatch(functionName::equals))) {
             condition.append(functionName).append(RDBMSTableConstants.OPEN_PARENTHESIS);
             containsAttributeFunction = true;
+            functions.push("");
         } else if (namespace.trim().equals("str") && functionName.equals("contains")) {
             condition.append("CONTAINS").append(OPEN_PARENTHESIS);
             isContainsConditionExist = true;
             nextProcessContainsPattern = true;
+            functions.push("");
         } else if (namespace.trim().equals("incrementalAggregator") && functionName.equals("last")) {
             lastConditionExist = true;
+            functions.push("");
+        } else if (residualConditionSupported) {
+            residualConjunct = true;
+            functions.push("");
         } else {
-            throw new OperationNotSupportedException("The RDBMS Event table does not support functions other than " +
-                    "sum(), avg(), min(), max(), str:contains() and incrementalAggregator:last() but function '" +
-                    ((RDBMSTableUtils.isEmpty(namespace)) ? "" + functionName : namespace + ":" + functionName) +
-                    "' was specified.");
-
+            throw new OperationNotSupportedException(this.unsupportedFunctionMessage(qualifiedName));
         }
     }
 
     @Override
     public void endVisitAttributeFunction(String namespace, String functionName) {
-        if ((namespace.trim().equals("str") && functionName.equals("contains")) ||
+        String qualifiedName = (RDBMSTableUtils.isEmpty(namespace)) ? functionName : namespace.trim() + ":" +
+                functionName;
+        if (PUSH_DOWN_FUNCTIONS.containsKey(qualifiedName)) {
+            condition.append(FUNCTION_MARKER_END).append(WHITESPACE);
+        } else if ((namespace.trim().equals("str") && functionName.equals("contains")) ||
                 (Arrays.stream(supportedFunctions).anyMatch(functionName::equals))) {
             condition.append(CLOSE_PARENTHESIS).append(WHITESPACE);
         } else if (namespace.trim().equals("incrementalAggregator") && functionName.equals("last")) {
@@ -368,27 +552,83 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
             String attributeName = lastConditionParams.pop();
             condition.append(SQL_MAX).append(OPEN_PARENTHESIS).append(this.tableName).append(".").append(attributeName)
                     .append(CLOSE_PARENTHESIS).append(WHITESPACE);
-
-        } else {
-            throw new OperationNotSupportedException("The RDBMS Event table does not support functions other than " +
-                    "sum(), avg(), min(), max(), str:contains() and incrementalAggregator:last() but function '" +
-                    ((RDBMSTableUtils.isEmpty(namespace)) ? "" + functionName : namespace + ":" + functionName) +
-                    "' was specified.");
+            lastValueCondition.append(FUNCTION_MARKER_START).append(FUNCTION_LAST).append("}}")
+                    .append(this.tableName).append(".").append(attributeName).append(WHITESPACE)
+                    .append(FUNCTION_MARKER_SEPARATOR).append(this.tableName).append(".").append(maxVariableName)
+                    .append(WHITESPACE).append(FUNCTION_MARKER_END).append(WHITESPACE);
+            lastValueWindowCondition.append(FUNCTION_MARKER_START).append(FUNCTION_LAST_WINDOW).append("}}")
+                    .append(this.tableName).append(".").append(attributeName).append(WHITESPACE)
+                    .append(FUNCTION_MARKER_SEPARATOR).append(PLACEHOLDER_PARTITION).append(WHITESPACE)
+                    .append(FUNCTION_MARKER_SEPARATOR).append(this.tableName).append(".").append(maxVariableName)
+                    .append(WHITESPACE).append(FUNCTION_MARKER_END).append(WHITESPACE);
+        } else if (!residualConditionSupported) {
+            throw new OperationNotSupportedException(this.unsupportedFunctionMessage(qualifiedName));
         }
+        functions.pop();
+        this.endNode();
     }
 
     @Override
     public void beginVisitParameterAttributeFunction(int index) {
-        //Not applicable
+        String function = functions.isEmpty() ? "" : functions.peek();
+        if (function.equals(FUNCTION_CAST) && index == 1) {
+            nextConstantIsCastType = true;
+        } else if (function.equals(FUNCTION_COUNT)) {
+            throw new OperationNotSupportedException("The RDBMS Event table supports count() only without " +
+                    "arguments.");
+        } else if (!function.isEmpty() && index > 0) {
+            condition.append(FUNCTION_MARKER_SEPARATOR);
+        }
     }
 
     @Override
     public void endVisitParameterAttributeFunction(int index) {
-        //Not applicable
+        if (nextConstantIsCastType) {
+            throw new OperationNotSupportedException("The RDBMS Event table supports cast() and convert() only " +
+                    "when the type is given as a constant.");
+        }
+    }
+
+    /**
+     * Marks the beginning of an expression other than AND, which starts a conjunct if it is at the top level of the
+     * condition.
+     */
+    private void beginNode() {
+        if (nodeDepth++ == 0) {
+            conjunctStart = condition.length();
+        }
+    }
+
+    /**
+     * Marks the end of an expression other than AND. At the end of a conjunct which cannot be expressed in SQL, the
+     * SQL compiled for the conjunct is replaced by a tautology, and its variables are retained for evaluating it in
+     * memory.
+     */
+    private void endNode() {
+        if (--nodeDepth > 0) {
+            return;
+        }
+        if (residualConjunct) {
+            condition.setLength(conjunctStart);
+            condition.append(SQL_TAUTOLOGY).append(WHITESPACE);
+            residualConjuncts.add(conjunctIndex);
+            residualVariables.addAll(conjunctVariables);
+            residualConjunct = false;
+        }
+        conjunctVariables.clear();
+        conjunctIndex++;
+    }
+
+    private String unsupportedFunctionMessage(String qualifiedName) {
+        return "The RDBMS Event table does not support functions other than sum(), avg(), min(), max(), count(), " +
+                "distinctCount(), ifThenElse(), coalesce(), cast(), convert(), str:upper(), str:lower(), " +
+                "str:length(), str:contains(), math:abs(), math:round() and incrementalAggregator:last() but " +
+                "function '" + qualifiedName + "' was specified.";
     }
 
     @Override
     public void beginVisitStreamVariable(String id, String streamId, String attributeName, Attribute.Type type) {
+        this.beginNode();
         String name;
         if (nextProcessContainsPattern) {
             name = this.generatePatternStreamVarName();
@@ -396,17 +636,30 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
         } else {
             name = this.generateStreamVarName();
         }
+        if (withinEqualityCompare && compareStreamAttribute == null) {
+            compareStreamAttribute = id;
+        } else {
+            equalityOnlyCondition = false;
+        }
         this.placeholders.put(name, new Attribute(id, type));
+        this.conjunctVariables.add(new Attribute(id, type));
         condition.append("[").append(name).append("]").append(WHITESPACE);
     }
 
     @Override
     public void endVisitStreamVariable(String id, String streamId, String attributeName, Attribute.Type type) {
-        //Not applicable
+        this.endNode();
     }
 
     @Override
     public void beginVisitStoreVariable(String storeId, String attributeName, Attribute.Type type) {
+        this.beginNode();
+        this.conjunctVariables.add(null);
+        if (withinEqualityCompare && compareStoreAttribute == null) {
+            compareStoreAttribute = attributeName;
+        } else {
+            equalityOnlyCondition = false;
+        }
         if (!lastConditionExist) {
             if (!isAfterSelectClause) {
                 condition.append(this.tableName).append(".").append(attributeName).append(WHITESPACE);
@@ -422,7 +675,7 @@ public class RDBMSConditionVisitor extends BaseExpressionVisitor {
 
     @Override
     public void endVisitStoreVariable(String storeId, String attributeName, Attribute.Type type) {
-        //Not applicable
+        this.endNode();
     }
 
     /**
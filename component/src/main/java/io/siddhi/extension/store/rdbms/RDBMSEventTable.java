@@ -17,7 +17,6 @@
  */
 package io.siddhi.extension.store.rdbms;
 
-import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
@@ -42,8 +41,15 @@ import io.siddhi.extension.store.rdbms.config.RDBMSTypeMapping;
 import io.siddhi.extension.store.rdbms.exception.RDBMSTableException;
 import io.siddhi.extension.store.rdbms.metrics.RDBMSMetrics;
 import io.siddhi.extension.store.rdbms.metrics.RDBMSStatus;
+import io.siddhi.extension.store.rdbms.util.Constant;
+import io.siddhi.extension.store.rdbms.util.PostgreSQLCopyLoader;
+import io.siddhi.extension.store.rdbms.util.RDBMSDataSourceRegistry;
+import io.siddhi.extension.store.rdbms.util.RDBMSDialect;
+import io.siddhi.extension.store.rdbms.util.RDBMSFunctionRenderer;
+import io.siddhi.extension.store.rdbms.util.RDBMSSchemaCatalog;
 import io.siddhi.extension.store.rdbms.util.RDBMSTableConstants;
 import io.siddhi.extension.store.rdbms.util.RDBMSTableUtils;
+import io.siddhi.extension.store.rdbms.util.RDBMSValueBinder;
 import io.siddhi.query.api.annotation.Annotation;
 import io.siddhi.query.api.annotation.Element;
 import io.siddhi.query.api.definition.Attribute;
@@ -59,59 +65,94 @@ import org.wso2.carbon.datasource.core.api.DataSourceService;
 import org.wso2.carbon.datasource.core.exception.DataSourceException;
 import org.wso2.carbon.si.metrics.core.internal.MetricsDataHolder;
 
+import java.io.IOException;
 import java.sql.Connection;
+import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.SortedMap;
+import java.util.StringJoiner;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.naming.InitialContext;
 import javax.naming.NamingException;
 
+import static io.siddhi.core.util.SiddhiConstants.ANNOTATION_ELEMENT_TYPE;
 import static io.siddhi.core.util.SiddhiConstants.ANNOTATION_STORE;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_DRIVER_CLASS_NAME;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_BATCH_LOOKUP_CONCURRENCY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_BATCH_LOOKUP_SIZE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_BLOOM_FILTER_FP_RATE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_BLOOM_FILTER_SIZE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_COPY_BULK_LOAD;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_DATASOURCE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_FETCH_SIZE;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_FIELD_LENGTHS;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_JNDI_RESOURCE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_KEYSET_PAGINATION;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_MIRROR;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_MIRROR_LAST_MODIFIED_COLUMN;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_MIRROR_REFRESH_INTERVAL;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_MULTI_ROW_INSERT;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_PASSWORD;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_POOL_PROPERTIES;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_PRIMARY_KEY_CACHE_EXPIRY_TIME;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_PRIMARY_KEY_CACHE_MAX_MEMORY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_PRIMARY_KEY_CACHE_SIZE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_QUERY_CACHE_EXPIRY_TIME;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_QUERY_CACHE_MAX_MEMORY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_READ_DATASOURCE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_READ_REPLICA_LAG;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_READ_URL;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_TABLE_CHECK_METADATA;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_TABLE_CHECK_QUERY;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_TABLE_NAME;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_URL;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_USERNAME;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.BATCH_ENABLE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.BATCH_SIZE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.BIG_STRING_TYPE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.BINARY_TYPE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.BOOLEAN_TYPE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_WRITE_BEHIND;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_WRITE_BEHIND_BUFFER_SIZE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_WRITE_BEHIND_FLUSH_INTERVAL;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ANNOTATION_ELEMENT_WRITE_BEHIND_FLUSH_SIZE;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.CLOSE_PARENTHESIS;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.COLLATION;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.DOUBLE_TYPE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FIELD_SIZE_LIMIT;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FLOAT_TYPE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.GROUP_BY_CLAUSE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.HAVING_CLAUSE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.INDEX_CREATE_QUERY;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.INTEGER_TYPE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.IS_LIMIT_BEFORE_OFFSET;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.LIMIT_CLAUSE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.LIMIT_WRAPPER_CLAUSE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.LONG_TYPE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.OFFSET_CLAUSE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.OFFSET_WRAPPER_CLAUSE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.DATABASE_CATALOG;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.DATABASE_PRODUCT_NAME;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.DATABASE_URL;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.DEFAULT_BATCH_LOOKUP_CONCURRENCY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.DEFAULT_BLOOM_FILTER_FALSE_POSITIVE_RATE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.DEFAULT_QUERY_CACHE_MAX_MEMORY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.DEFAULT_WRITE_BEHIND_BUFFER_SIZE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.DEFAULT_WRITE_BEHIND_FLUSH_INTERVAL;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.DEFAULT_WRITE_BEHIND_FLUSH_SIZE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.EQUALS;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FUNCTION_LAST;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FUNCTION_LAST_WINDOW;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.KEYSET_PAGINATION_MAX_BOUNDARIES;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.LAST_VALUE_COLUMN_PREFIX;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.MULTI_INSERT_PARAMETER_LIMIT;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.OPEN_PARENTHESIS;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ORDER_BY_CLAUSE;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_COLUMNS;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_COLUMNS_FOR_CREATE;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_COLUMNS_VALUES;
@@ -119,37 +160,39 @@ import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLD
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_INDEX;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_INDEX_NUMBER;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_INNER_QUERY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_PARTITION;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_PRIMARY_KEYS;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_PRIMARY_KEYS_MATCH;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_Q;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_ROWS;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_SELECTORS;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_SOURCE_COLUMNS;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_TABLE_NAME;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_VALUES;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PROPERTY_SEPARATOR;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.QUERY_WRAPPER_CLAUSE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_VALUES_AS_COLUMNS;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.QUESTION_MARK;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_CONTAINS_CONDITION;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_DELETE_QUERY;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_EXISTS_QUERY;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_INSERT_QUERY;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_SELECT_QUERY;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_UPDATE_QUERY;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SELECT_CLAUSE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SELECT_QUERY_TEMPLATE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SELECT_QUERY_WITH_SUB_SELECT_TEMPLATE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RDBMS_STORE_TYPE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.READ_REPLICA_RETRY_INTERVAL;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_COPY_QUERY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_MULTI_INSERT_QUERY;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SEPARATOR;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_AND;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_AS;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_COLLATE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_COMPARE_EQUAL;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_COMPARE_GREATER_THAN;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_COMPARE_GREATER_THAN_EQUAL;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_COMPARE_LESS_THAN;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_IN;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_MAX;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_NOT_NULL;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_OR;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_PARTITION_BY;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SQL_PRIMARY_KEY_DEF;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.STRING_SIZE;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.STRING_TYPE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.STREAMING_MODE_CURSOR;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.STREAMING_MODE_ROW;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SUB_SELECT_QUERY_REF;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.TABLE_CHECK_QUERY;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.TABLE_CREATE_QUERY;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.TRANSACTION_SUPPORTED;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.TYPE_MAPPING;
-import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.WHERE_CLAUSE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.UPDATE_OR_ADD_LOCK_STRIPES;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.UPSERT_SOURCE_REF;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.WHITESPACE;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableUtils.processFindConditionWithContainsConditionTemplate;
 
@@ -176,7 +219,15 @@ import static io.siddhi.extension.store.rdbms.util.RDBMSTableUtils.processFindCo
                         type = {DataType.STRING}),
                 @Parameter(name = "pool.properties",
                         description = "Any pool parameters for the database connection must be specified as key-value" +
-                                " pairs.",
+                                " pairs. Tables with the same 'jdbc.url', 'username', 'password', " +
+                                "'jdbc.driver.name' and 'pool.properties' share one connection pool, which is " +
+                                "closed when the last of them is disconnected. Properties prefixed with " +
+                                "'dataSource.' are passed to the JDBC driver, which is where statements are best " +
+                                "cached, as the driver cache outlives the checkouts of a pooled connection. E.g. " +
+                                "'dataSource.cachePrepStmts:true,dataSource.useServerPrepStmts:true' for MySQL, " +
+                                "'dataSource.implicitCachingEnabled:true' for Oracle, " +
+                                "'dataSource.disableStatementPooling:false,dataSource.statementPoolingCacheSize:" +
+                                "100' for Microsoft SQL Server and 'dataSource.prepareThreshold:1' for PostgreSQL.",
                         type = {DataType.STRING},
                         optional = true,
                         defaultValue = "null"),
@@ -195,6 +246,30 @@ import static io.siddhi.extension.store.rdbms.util.RDBMSTableUtils.processFindCo
                         type = {DataType.STRING},
                         optional = true,
                         defaultValue = "null"),
+                @Parameter(name = "read.jdbc.url",
+                        description = "The JDBC URL of a read replica of the database. When this is given, find, " +
+                                "contains and on-demand query operations are served by a separate connection pool " +
+                                "to the replica, created with the same username, password, driver and pool " +
+                                "properties, while all writes go to the database given by 'jdbc.url'. Reads fall " +
+                                "back to the primary database when the replica is unavailable.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "null"),
+                @Parameter(name = "read.datasource",
+                        description = "The name of the Carbon datasource of a read replica of the database, which " +
+                                "is used instead of 'read.jdbc.url'. Only works in Siddhi Distribution",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "null"),
+                @Parameter(name = "read.replica.lag",
+                        description = "The time in milliseconds by which the read replica may lag behind the " +
+                                "primary database. Reads made within this time after a write made through this " +
+                                "table are served by the primary database, so that they observe the write. The " +
+                                "window only follows the table's own writes; writes made to the database by other " +
+                                "tables or applications do not affect where reads are served from.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "0"),
                 @Parameter(name = "table.name",
                         description = "The name with which the event table should be persisted in the store. If no " +
                                 "name is specified via this parameter, the event table is persisted with the same " +
@@ -221,6 +296,16 @@ import static io.siddhi.extension.store.rdbms.util.RDBMSTableUtils.processFindCo
                         optional = true,
                         defaultValue = "The tableCheckQuery which define in store rdbms configs"
                 ),
+                @Parameter(name = "table.check.metadata",
+                        description = "This property allows the existence of the table to be checked against the " +
+                                "database metadata instead of the table check query. The columns of the tables of " +
+                                "the Siddhi app which enable this property are read once for the app through a " +
+                                "single metadata call on the current schema, and a warning is logged if an existing " +
+                                "table lacks a column of the definition or has a column of an incompatible type. " +
+                                "This is ignored if a 'table.check.query' is given.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false"),
                 @Parameter(name = "use.collation",
                         description = "This property allows users to use collation for string attributes. By " +
                                 "default it's false and binary collation is not used. Currently 'latin1_bin' and " +
@@ -234,7 +319,175 @@ import static io.siddhi.extension.store.rdbms.util.RDBMSTableUtils.processFindCo
                         description = "This property allows users to insert null values to the numeric columns. ",
                         type = {DataType.BOOL},
                         optional = true,
-                        defaultValue = "false")
+                        defaultValue = "false"),
+                @Parameter(name = "multi.row.insert",
+                        description = "This property allows inserting records using multi-row " +
+                                "'INSERT ... VALUES (...), (...)' statements instead of a JDBC batch of single-row " +
+                                "inserts. Each statement carries as many rows as the database's " +
+                                "'multiInsertParameterLimit' permits, up to the configured 'batchSize'. This is " +
+                                "ignored for databases that do not define a 'recordMultiInsertQuery'.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false"),
+                @Parameter(name = "copy.bulk.load",
+                        description = "This property allows PostgreSQL tables to load inserted records through " +
+                                "the 'COPY ... FROM STDIN' protocol instead of a JDBC batch, which is considerably " +
+                                "faster for append-only tables. If a COPY operation fails while the connection is " +
+                                "still valid, the records are inserted through the regular insert path. This is " +
+                                "ignored for databases that do not define a 'recordCopyQuery' and for tables with " +
+                                "'object' attributes.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false"),
+                @Parameter(name = "write.behind",
+                        description = "This property enables the write-behind mode, in which insert, update and " +
+                                "delete operations are buffered and written to the database asynchronously. " +
+                                "Consecutive operations of the same kind are coalesced into larger batches, and " +
+                                "buffered operations are written before any read from the table is served.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false"),
+                @Parameter(name = "write.behind.buffer.size",
+                        description = "The maximum number of rows held by the write-behind buffer. Writes block " +
+                                "when the buffer is full.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "50000"),
+                @Parameter(name = "write.behind.flush.size",
+                        description = "The number of buffered rows which triggers a write-behind flush.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "5000"),
+                @Parameter(name = "write.behind.flush.interval",
+                        description = "The maximum time in milliseconds a buffered row waits before it is " +
+                                "written by the write-behind buffer.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "50"),
+                @Parameter(name = "primary.key.cache.size",
+                        description = "The maximum number of records held by a read-through cache in front of " +
+                                "find and contains operations whose condition matches exactly the primary key " +
+                                "of the table. Records written through this table invalidate their cache " +
+                                "entries. The primary key cache is disabled if neither this nor " +
+                                "'primary.key.cache.max.memory' is given.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "N/A"),
+                @Parameter(name = "primary.key.cache.max.memory",
+                        description = "The maximum estimated memory in megabytes held by the primary key cache.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "N/A"),
+                @Parameter(name = "primary.key.cache.expiry.time",
+                        description = "The time in milliseconds after which a primary key cache entry expires. " +
+                                "This bounds the staleness of records written to the table by other clients. " +
+                                "Entries do not expire if this is not given.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "N/A"),
+                @Parameter(name = "query.cache.expiry.time",
+                        description = "The time in milliseconds for which the results of on-demand and join " +
+                                "queries served by the database are cached, keyed by the query and the values " +
+                                "bound to it. Concurrent executions of the same query are served by a single " +
+                                "database read. Any write through this table invalidates all cached results, " +
+                                "while writes by other clients are seen once the results expire. Query results " +
+                                "are not cached if this is not given.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "N/A"),
+                @Parameter(name = "query.cache.max.memory",
+                        description = "The maximum estimated memory in megabytes held by the query result cache. " +
+                                "Results larger than this are not cached.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "16"),
+                @Parameter(name = "keyset.pagination",
+                        description = "Enables keyset pagination for on-demand queries with a limit which are " +
+                                "ordered by exactly the primary key columns of the table and select all of them " +
+                                "as they are. When a page of such a query is read to the end, the key of its " +
+                                "last record is remembered. The query of the page following it is then executed " +
+                                "with a condition seeking past that key instead of an offset, hence the database " +
+                                "does not scan the preceding records. Writes through this table discard the " +
+                                "remembered keys, while records written by other clients are seen as by any " +
+                                "keyset paginated read and may not shift the following pages.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false"),
+                @Parameter(name = "batch.lookup.size",
+                        description = "The maximum number of primary keys read with a single statement when " +
+                                "find, contains and on-demand query operations whose condition matches exactly the " +
+                                "primary key of the table are batched. Lookups arriving while another lookup is " +
+                                "being read are combined into one 'IN' query, hence a lookup is never delayed " +
+                                "when there are no concurrent lookups. Lookups are not batched if this is not " +
+                                "given.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "N/A"),
+                @Parameter(name = "batch.lookup.concurrency",
+                        description = "The maximum number of batched primary key reads which are in progress at " +
+                                "the same time when 'batch.lookup.size' is given. With the default of one, all " +
+                                "primary key lookups of the table are serialized behind a single in-flight read, " +
+                                "which minimizes the number of round trips and connections used but bounds the " +
+                                "lookup throughput by the latency of one read. Larger values allow that many " +
+                                "reads to proceed in parallel, each one combining the lookups queued before it.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "1"),
+                @Parameter(name = "bloom.filter.size",
+                        description = "The number of primary keys for which a Bloom filter over the primary key of " +
+                                "the table is sized. The filter is built from the keys of the table when the " +
+                                "store connects, and keys written through this table are added to it. Contains " +
+                                "checks whose condition matches exactly the primary key are answered without " +
+                                "querying the database when the filter tells that the key does not exist. The " +
+                                "filter is rebuilt in the background when more keys than this are added or when " +
+                                "deleted keys raise its false positive rate. Keys added by other clients are not " +
+                                "seen until the filter is rebuilt, and keys are compared exactly, hence this " +
+                                "should not be used with case insensitive key collations. The Bloom filter is " +
+                                "disabled if this is not given.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "N/A"),
+                @Parameter(name = "bloom.filter.false.positive.rate",
+                        description = "The false positive probability of the Bloom filter at its configured size.",
+                        type = {DataType.DOUBLE},
+                        optional = true,
+                        defaultValue = "0.01"),
+                @Parameter(name = "mirror",
+                        description = "If this is set to 'true', all rows of the table are loaded into memory when " +
+                                "the store connects, and find, contains and on-demand query operations whose " +
+                                "condition only matches table columns against stream variables for equality are " +
+                                "served from memory. Rows are looked up by the primary key and the columns of " +
+                                "the @Index annotations. Writes made through this table are applied to both the " +
+                                "database and the mirror. This is meant for reference tables which fit in memory, " +
+                                "and requires a primary key.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false"),
+                @Parameter(name = "mirror.refresh.interval",
+                        description = "The interval in milliseconds at which the mirror is refreshed with the " +
+                                "changes made to the table by other clients. If " +
+                                "'mirror.last.modified.column' is given, only the rows modified since the last " +
+                                "refresh are read, otherwise the whole table is reloaded. The mirror is not " +
+                                "refreshed if this is not given.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "N/A"),
+                @Parameter(name = "mirror.last.modified.column",
+                        description = "The attribute holding the last modification time or version of a row, " +
+                                "which is used to read only the modified rows when refreshing the mirror. Rows " +
+                                "deleted by other clients are only removed from the mirror by a full reload.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "N/A"),
+                @Parameter(name = "fetch.size",
+                        description = "The number of rows fetched from the database at a time when iterating the " +
+                                "results of find operations and on-demand queries. When this is given, results " +
+                                "are streamed incrementally using the database's 'streamingMode' instead of being " +
+                                "buffered by the driver. This overrides the '{{RDBMS-Name}}.fetchSize' system " +
+                                "parameter.",
+                        type = {DataType.INT},
+                        optional = true,
+                        defaultValue = "N/A")
         },
         examples = {
                 @Example(
@@ -360,6 +613,27 @@ import static io.siddhi.extension.store.rdbms.util.RDBMSTableUtils.processFindCo
                                 "<b>DB2.*</b>: INSERT INTO {{TABLE_NAME}} ({{COLUMNS}}) VALUES ({{Q}})",
                         possibleParameters = "N/A"
                 ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.recordMultiInsertQuery",
+                        description = "The template query for the 'insert multiple records in a single statement' " +
+                                "operation in {{RDBMS-Name}}. This is used only when 'multi.row.insert' is enabled.",
+                        defaultValue = "<b>H2</b>: INSERT INTO {{TABLE_NAME}} ({{COLUMNS}}) VALUES {{ROWS}}<br>" +
+                                "<b>MySQL</b>: INSERT INTO {{TABLE_NAME}} ({{COLUMNS}}) VALUES {{ROWS}}<br>" +
+                                "<b>Oracle</b>: N/A<br>" +
+                                "<b>Microsoft SQL Server</b>: INSERT INTO {{TABLE_NAME}} ({{COLUMNS}}) " +
+                                "VALUES {{ROWS}}<br>" +
+                                "<b>PostgreSQL</b>: INSERT INTO {{TABLE_NAME}} ({{COLUMNS}}) VALUES {{ROWS}}<br>" +
+                                "<b>DB2.*</b>: INSERT INTO {{TABLE_NAME}} ({{COLUMNS}}) VALUES {{ROWS}}",
+                        possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.recordCopyQuery",
+                        description = "The template query for the 'bulk load records' operation in " +
+                                "{{RDBMS-Name}}. This is used only when 'copy.bulk.load' is enabled.",
+                        defaultValue = "<b>PostgreSQL</b>: COPY {{TABLE_NAME}} ({{COLUMNS}}) FROM STDIN WITH CSV<br>" +
+                                "<b>Others</b>: N/A",
+                        possibleParameters = "N/A"
+                ),
                 @SystemParameter(
                         name = "{{RDBMS-Name}}.recordUpdateQuery",
                         description = "The template query for the 'update record' operation in {{RDBMS-Name}}.",
@@ -373,15 +647,52 @@ import static io.siddhi.extension.store.rdbms.util.RDBMSTableUtils.processFindCo
                                 "<b>DB2.*</b>: UPDATE {{TABLE_NAME}} SET {{COLUMNS_AND_VALUES}} {{CONDITION}}",
                         possibleParameters = "N/A"
                 ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.recordUpsertQuery",
+                        description = "The template query for the single statement 'update or insert record' " +
+                                "operation in {{RDBMS-Name}}. This is used when the condition of the update or " +
+                                "insert query only matches the primary key columns against the added values, and " +
+                                "the values of the record must be bound before the {{COLUMNS_AND_VALUES}} of the " +
+                                "template. The source of a MERGE statement should be referred to as 'src'. A " +
+                                "template without {{COLUMNS_AND_VALUES}} is considered to replace the whole row, " +
+                                "hence it is used only when every column is set to the value being added. A MERGE " +
+                                "statement is atomic against concurrent upserts of the same key only if it holds a " +
+                                "range lock on the key it reads, as the HOLDLOCK hint of the Microsoft SQL Server " +
+                                "template does. With the Oracle and DB2 templates, concurrent upserts of a new key " +
+                                "from other connections, such as other nodes, may both take the insert branch. One " +
+                                "of them then fails with a duplicate key error, and is reported as a failed write.",
+                        defaultValue = "<b>H2</b>: MERGE INTO {{TABLE_NAME}} ({{COLUMNS}}) KEY ({{PRIMARY_KEYS}}) " +
+                                "VALUES ({{Q}})<br>" +
+                                "<b>MySQL</b>: INSERT INTO {{TABLE_NAME}} ({{COLUMNS}}) VALUES ({{Q}}) ON DUPLICATE " +
+                                "KEY UPDATE {{COLUMNS_AND_VALUES}}<br>" +
+                                "<b>Oracle</b>: MERGE INTO {{TABLE_NAME}} USING (SELECT {{VALUES_AS_COLUMNS}} FROM " +
+                                "DUAL) src ON ({{PRIMARY_KEYS_MATCH}}) WHEN MATCHED THEN UPDATE SET " +
+                                "{{COLUMNS_AND_VALUES}} WHEN NOT MATCHED THEN INSERT ({{COLUMNS}}) VALUES " +
+                                "({{SOURCE_COLUMNS}})<br>" +
+                                "<b>Microsoft SQL Server</b>: MERGE INTO {{TABLE_NAME}} WITH (HOLDLOCK) USING " +
+                                "(VALUES ({{Q}})) AS src ({{COLUMNS}}) ON ({{PRIMARY_KEYS_MATCH}}) WHEN MATCHED " +
+                                "THEN UPDATE SET {{COLUMNS_AND_VALUES}} WHEN NOT MATCHED THEN INSERT ({{COLUMNS}}) " +
+                                "VALUES ({{SOURCE_COLUMNS}});<br>" +
+                                "<b>PostgreSQL</b>: INSERT INTO {{TABLE_NAME}} ({{COLUMNS}}) VALUES ({{Q}}) ON " +
+                                "CONFLICT ({{PRIMARY_KEYS}}) DO UPDATE SET {{COLUMNS_AND_VALUES}}<br>" +
+                                "<b>DB2.*</b>: MERGE INTO {{TABLE_NAME}} USING (VALUES ({{Q}})) AS src ({{COLUMNS}}) " +
+                                "ON ({{PRIMARY_KEYS_MATCH}}) WHEN MATCHED THEN UPDATE SET {{COLUMNS_AND_VALUES}} " +
+                                "WHEN NOT MATCHED THEN INSERT ({{COLUMNS}}) VALUES ({{SOURCE_COLUMNS}})<br>" +
+                                "<b>Others</b>: N/A",
+                        possibleParameters = "N/A"
+                ),
                 @SystemParameter(
                         name = "{{RDBMS-Name}}.recordSelectQuery",
-                        description = "The template query for the 'select record' operation in {{RDBMS-Name}}.",
-                        defaultValue = "<b>H2</b>: SELECT * FROM {{TABLE_NAME}} {{CONDITION}}<br>" +
-                                "<b>MySQL</b>: SELECT * FROM {{TABLE_NAME}} {{CONDITION}}<br>" +
-                                "<b>Oracle</b>: SELECT * FROM {{TABLE_NAME}} {{CONDITION}}<br>" +
-                                "<b>Microsoft SQL Server</b>: SELECT * FROM {{TABLE_NAME}} {{CONDITION}}<br>" +
-                                "<b>PostgreSQL</b>: SELECT * FROM {{TABLE_NAME}} {{CONDITION}}<br>" +
-                                "<b>DB2.*</b>: SELECT * FROM {{TABLE_NAME}} {{CONDITION}}",
+                        description = "The template query for the 'select record' operation in {{RDBMS-Name}}. " +
+                                "The columns of the table definition are selected in place of {{COLUMNS}}, hence " +
+                                "columns of the database table which are not part of the definition are not read.",
+                        defaultValue = "<b>H2</b>: SELECT {{COLUMNS}} FROM {{TABLE_NAME}} {{CONDITION}}<br>" +
+                                "<b>MySQL</b>: SELECT {{COLUMNS}} FROM {{TABLE_NAME}} {{CONDITION}}<br>" +
+                                "<b>Oracle</b>: SELECT {{COLUMNS}} FROM {{TABLE_NAME}} {{CONDITION}}<br>" +
+                                "<b>Microsoft SQL Server</b>: SELECT {{COLUMNS}} FROM {{TABLE_NAME}} " +
+                                "{{CONDITION}}<br>" +
+                                "<b>PostgreSQL</b>: SELECT {{COLUMNS}} FROM {{TABLE_NAME}} {{CONDITION}}<br>" +
+                                "<b>DB2.*</b>: SELECT {{COLUMNS}} FROM {{TABLE_NAME}} {{CONDITION}}",
                         possibleParameters = "N/A"
                 ),
                 @SystemParameter(
@@ -442,6 +753,39 @@ import static io.siddhi.extension.store.rdbms.util.RDBMSTableUtils.processFindCo
                                 "<b>DB2.*</b>: 1000",
                         possibleParameters = "N/A"
                 ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.multiInsertParameterLimit",
+                        description = "This defines the maximum number of bind parameters that a single multi-row " +
+                                "insert statement may carry in {{RDBMS-Name}}.",
+                        defaultValue = "<b>H2</b>: 30000<br>" +
+                                "<b>MySQL</b>: 65535<br>" +
+                                "<b>Oracle</b>: N/A<br>" +
+                                "<b>Microsoft SQL Server</b>: 2000<br>" +
+                                "<b>PostgreSQL</b>: 32767<br>" +
+                                "<b>DB2.*</b>: 10000",
+                        possibleParameters = "0 =< n =< INT_MAX"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.fetchSize",
+                        description = "This defines the number of rows fetched from {{RDBMS-Name}} at a time when " +
+                                "iterating read results. The driver default is used if this is 0.",
+                        defaultValue = "0",
+                        possibleParameters = "0 =< n =< INT_MAX"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.streamingMode",
+                        description = "This defines how {{RDBMS-Name}} streams read results when a fetch size is " +
+                                "configured. 'row' sets the fetch size to Integer.MIN_VALUE so that the driver " +
+                                "streams row by row, while 'cursor' reads on a connection with auto-commit " +
+                                "disabled so that the driver fetches through a cursor.",
+                        defaultValue = "<b>H2</b>: N/A<br>" +
+                                "<b>MySQL</b>: row<br>" +
+                                "<b>Oracle</b>: N/A<br>" +
+                                "<b>Microsoft SQL Server</b>: N/A<br>" +
+                                "<b>PostgreSQL</b>: cursor<br>" +
+                                "<b>DB2.*</b>: N/A",
+                        possibleParameters = "row, cursor"
+                ),
                 @SystemParameter(
                         name = "{{RDBMS-Name}}.batchEnable",
                         description = "This specifies whether 'Update' and 'Insert' operations can be performed for" +
@@ -563,6 +907,34 @@ import static io.siddhi.extension.store.rdbms.util.RDBMSTableUtils.processFindCo
                                 "<b>PostgreSQL</b>: N/A<br>" +
                                 "<b>DB2.*</b>: N/A",
                         possibleParameters = "N/A"
+                ),
+                @SystemParameter(
+                        name = "{{RDBMS-Name}}.functionTemplates.{{Function-Name}}",
+                        description = "This is used to specify the SQL into which a function used in a store " +
+                                "query or condition is pushed down. The function arguments are referred to as " +
+                                "{{0}}, {{1}}, ... or all together as {{PARAMETERS}}, each used once and in order. " +
+                                "Templates are defined for 'count', 'distinctCount', 'ifThenElse', 'coalesce', " +
+                                "'upper', 'lower', 'length', 'abs', 'round' and 'cast.int', 'cast.long', " +
+                                "'cast.float', 'cast.double' and 'cast.string', which render cast() and convert(). " +
+                                "When a 'last' template is given, taking the value of {{0}} in the row having the " +
+                                "greatest {{1}}, incrementalAggregator:last() is computed as an aggregate of a " +
+                                "single grouped query instead of joining the table with a sub-select. Otherwise, " +
+                                "when a 'last.window' template is given, taking the value of {{0}} as a window " +
+                                "function partitioned by {{1}} and ordered by {{2}}, the grouped query reads a " +
+                                "derived table holding that value on each row. Templates which use an argument out " +
+                                "of order or more than once are rejected when the table connects.",
+                        defaultValue = "<b>H2</b>: e.g. round: ROUND({{0}})<br>" +
+                                "<b>MySQL</b>: e.g. last.window (8.0 onwards): FIRST_VALUE({{0}}) OVER ({{1}} " +
+                                "ORDER BY {{2}} DESC)<br>" +
+                                "<b>Oracle</b>: e.g. last: MAX({{0}}) KEEP (DENSE_RANK LAST ORDER BY {{1}} NULLS " +
+                                "FIRST)<br>" +
+                                "<b>Microsoft SQL Server</b>: e.g. last.window: FIRST_VALUE({{0}}) OVER ({{1}} " +
+                                "ORDER BY {{2}} DESC)<br>" +
+                                "<b>PostgreSQL</b>: e.g. last: (ARRAY_AGG({{0}} ORDER BY {{1}} DESC NULLS LAST))[1]" +
+                                "<br>" +
+                                "<b>DB2.*</b>: e.g. last.window: FIRST_VALUE({{0}}) OVER ({{1}} ORDER BY {{2}} DESC " +
+                                "NULLS LAST)",
+                        possibleParameters = "N/A"
                 )
         }
 )
@@ -575,6 +947,13 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
     private HikariDataSource dataSource;
     private boolean isLocalDatasource;
     private String dataSourceName;
+    private HikariDataSource readDataSource;
+    private boolean isLocalReadDatasource;
+    private String readDataSourceName;
+    private String readJdbcUrl;
+    private int readReplicaLag;
+    private volatile long lastWriteTime;
+    private volatile long readReplicaRetryTime;
     private String tableName;
     private List<Attribute> attributes;
     private ConfigReader configReader;
@@ -586,7 +965,43 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
     private String containsQuery;
     private String deleteQuery;
     private String insertQuery;
+    private RDBMSValueBinder[] recordBinders;
+    private String multiInsertQuery;
+    private int multiInsertRowsPerStatement;
+    private PostgreSQLCopyLoader copyLoader;
+    private RDBMSWriteBehindBuffer writeBehindBuffer;
     private String recordUpdateQuery;
+    private String recordUpsertQuery;
+    private Map<String, Integer> primaryKeyIndices;
+    private int[] primaryKeyColumnIndices;
+    private RDBMSPrimaryKeyCache primaryKeyCache;
+    private int primaryKeyCacheSize;
+    private int primaryKeyCacheMaxMemory;
+    private int primaryKeyCacheExpiryTime;
+    private RDBMSQueryResultCache queryResultCache;
+    private boolean keysetPagination;
+    private RDBMSKeysetPageIndex keysetPageIndex;
+    private int queryCacheExpiryTime;
+    private int queryCacheMaxMemory;
+    private boolean mirror = false;
+    private int mirrorRefreshInterval;
+    private int mirrorLastModifiedIndex = -1;
+    private int[] mirrorIndexedColumns;
+    private RDBMSTableMirror tableMirror;
+    private ScheduledFuture<?> mirrorRefreshFuture;
+    private volatile Object mirrorWatermark;
+    private int keyLookupBatchSize;
+    private int keyLookupConcurrency;
+    private RDBMSKeyLookupBatcher keyLookupBatcher;
+    private final Map<Integer, String> keyLookupQueries = new ConcurrentHashMap<>();
+    private int bloomFilterSize;
+    private double bloomFilterFalsePositiveRate;
+    private volatile RDBMSBloomFilter bloomFilter;
+    private volatile RDBMSBloomFilter rebuildingBloomFilter;
+    private long bloomFilterGeneration;
+    private final Object bloomFilterLock = new Object();
+    private final AtomicBoolean bloomFilterRebuildActive = new AtomicBoolean();
+    private ReentrantLock[] updateOrAddLocks;
     private String tableCheckQuery;
     private String createQuery;
     private String indexQuery;
@@ -605,8 +1020,18 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
     private String stringSize;
     private String recordContainsConditionTemplate;
     private RDBMSSelectQueryTemplate rdbmsSelectQueryTemplate;
+    private RDBMSFunctionRenderer functionRenderer;
     private boolean useCollation = false;
     private boolean allowNullValues = false;
+    private boolean multiRowInsert = false;
+    private boolean copyBulkLoad = false;
+    private boolean tableCheckMetadata = false;
+    private boolean writeBehind = false;
+    private int writeBehindBufferSize;
+    private int writeBehindFlushSize;
+    private int writeBehindFlushInterval;
+    private int fetchSize;
+    private String streamingMode;
     private String collation;
     private RDBMSMetrics metrics;
     private RDBMSTypeMapping typeMapping;
@@ -618,14 +1043,83 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
         useCollation = Boolean.parseBoolean(storeAnnotation.getElement(RDBMSTableConstants
                 .USE_COLLATION));
         allowNullValues = Boolean.parseBoolean(storeAnnotation.getElement(RDBMSTableConstants.ALLOW_NULL));
+        multiRowInsert = Boolean.parseBoolean(storeAnnotation.getElement(ANNOTATION_ELEMENT_MULTI_ROW_INSERT));
+        copyBulkLoad = Boolean.parseBoolean(storeAnnotation.getElement(ANNOTATION_ELEMENT_COPY_BULK_LOAD));
+        tableCheckMetadata = Boolean.parseBoolean(storeAnnotation.getElement(ANNOTATION_ELEMENT_TABLE_CHECK_METADATA));
+        writeBehind = Boolean.parseBoolean(storeAnnotation.getElement(ANNOTATION_ELEMENT_WRITE_BEHIND));
+        if (writeBehind) {
+            writeBehindBufferSize = this.readPositiveInteger(ANNOTATION_ELEMENT_WRITE_BEHIND_BUFFER_SIZE,
+                    DEFAULT_WRITE_BEHIND_BUFFER_SIZE);
+            writeBehindFlushSize = this.readPositiveInteger(ANNOTATION_ELEMENT_WRITE_BEHIND_FLUSH_SIZE,
+                    DEFAULT_WRITE_BEHIND_FLUSH_SIZE);
+            writeBehindFlushInterval = this.readPositiveInteger(ANNOTATION_ELEMENT_WRITE_BEHIND_FLUSH_INTERVAL,
+                    DEFAULT_WRITE_BEHIND_FLUSH_INTERVAL);
+        }
+        fetchSize = this.readPositiveInteger(ANNOTATION_ELEMENT_FETCH_SIZE, 0);
         primaryKeys = AnnotationHelper.getAnnotation(SiddhiConstants.ANNOTATION_PRIMARY_KEY,
                 tableDefinition.getAnnotations());
         indices = AnnotationHelper.getAnnotations(SiddhiConstants.ANNOTATION_INDEX,
                 tableDefinition.getAnnotations());
         RDBMSTableUtils.validateAnnotation(primaryKeys);
         indices.forEach(RDBMSTableUtils::validateAnnotation);
+        primaryKeyIndices = new LinkedHashMap<>();
+        if (primaryKeys != null) {
+            for (Element primaryKey : primaryKeys.getElements()) {
+                for (int i = 0; i < attributes.size(); i++) {
+                    if (attributes.get(i).getName().equals(primaryKey.getValue().trim())) {
+                        primaryKeyIndices.put(attributes.get(i).getName(), i);
+                    }
+                }
+            }
+        }
+        primaryKeyColumnIndices = primaryKeyIndices.values().stream().mapToInt(Integer::intValue).toArray();
+        primaryKeyCacheSize = this.readPositiveInteger(ANNOTATION_ELEMENT_PRIMARY_KEY_CACHE_SIZE, 0);
+        primaryKeyCacheMaxMemory = this.readPositiveInteger(ANNOTATION_ELEMENT_PRIMARY_KEY_CACHE_MAX_MEMORY, 0);
+        primaryKeyCacheExpiryTime = this.readPositiveInteger(ANNOTATION_ELEMENT_PRIMARY_KEY_CACHE_EXPIRY_TIME, 0);
+        if ((primaryKeyCacheSize > 0 || primaryKeyCacheMaxMemory > 0) && primaryKeyColumnIndices.length == 0) {
+            log.warn("Primary key cache is configured for store '" + tableDefinition.getId() + "' but the table " +
+                    "does not define a primary key. Hence the primary key cache is disabled.");
+            primaryKeyCacheSize = 0;
+            primaryKeyCacheMaxMemory = 0;
+        }
+        queryCacheExpiryTime = this.readPositiveInteger(ANNOTATION_ELEMENT_QUERY_CACHE_EXPIRY_TIME, 0);
+        queryCacheMaxMemory = this.readPositiveInteger(ANNOTATION_ELEMENT_QUERY_CACHE_MAX_MEMORY,
+                DEFAULT_QUERY_CACHE_MAX_MEMORY);
+        keysetPagination = Boolean.parseBoolean(storeAnnotation.getElement(ANNOTATION_ELEMENT_KEYSET_PAGINATION));
+        if (keysetPagination && primaryKeyColumnIndices.length == 0) {
+            log.warn("Keyset pagination is configured for store '" + tableDefinition.getId() + "' but the table " +
+                    "does not define a primary key. Hence keyset pagination is disabled.");
+            keysetPagination = false;
+        }
+        keyLookupBatchSize = primaryKeyColumnIndices.length == 0 ? 0 :
+                this.readPositiveInteger(ANNOTATION_ELEMENT_BATCH_LOOKUP_SIZE, 0);
+        keyLookupConcurrency = this.readPositiveInteger(ANNOTATION_ELEMENT_BATCH_LOOKUP_CONCURRENCY,
+                DEFAULT_BATCH_LOOKUP_CONCURRENCY);
+        bloomFilterSize = this.readPositiveInteger(ANNOTATION_ELEMENT_BLOOM_FILTER_SIZE, 0);
+        if (bloomFilterSize > 0 && primaryKeyColumnIndices.length == 0) {
+            log.warn("Bloom filter is configured for store '" + tableDefinition.getId() + "' but the table does " +
+                    "not define a primary key. Hence the Bloom filter is disabled.");
+            bloomFilterSize = 0;
+        }
+        bloomFilterFalsePositiveRate = this.readBloomFilterFalsePositiveRate();
+        mirror = Boolean.parseBoolean(storeAnnotation.getElement(ANNOTATION_ELEMENT_MIRROR));
+        if (mirror && primaryKeyColumnIndices.length == 0) {
+            log.warn("Mirror is enabled for store '" + tableDefinition.getId() + "' but the table does not define " +
+                    "a primary key. Hence the mirror is disabled.");
+            mirror = false;
+        }
+        if (mirror) {
+            this.initMirror();
+        }
+        updateOrAddLocks = new ReentrantLock[UPDATE_OR_ADD_LOCK_STRIPES];
+        for (int i = 0; i < updateOrAddLocks.length; i++) {
+            updateOrAddLocks[i] = new ReentrantLock();
+        }
         jndiResourceName = storeAnnotation.getElement(ANNOTATION_ELEMENT_JNDI_RESOURCE);
         dataSourceName = storeAnnotation.getElement(ANNOTATION_ELEMENT_DATASOURCE);
+        readDataSourceName = storeAnnotation.getElement(ANNOTATION_ELEMENT_READ_DATASOURCE);
+        readJdbcUrl = storeAnnotation.getElement(ANNOTATION_ELEMENT_READ_URL);
+        readReplicaLag = this.readPositiveInteger(ANNOTATION_ELEMENT_READ_REPLICA_LAG, 0);
         if (null != configReader) {
             this.configReader = configReader;
         } else {
@@ -637,56 +1131,168 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
         this.tableCheckQuery = RDBMSTableUtils.isEmpty(tableCheckQuery) ? null : tableCheckQuery;
     }
 
+    private double readBloomFilterFalsePositiveRate() {
+        String value = storeAnnotation.getElement(ANNOTATION_ELEMENT_BLOOM_FILTER_FP_RATE);
+        if (RDBMSTableUtils.isEmpty(value)) {
+            return DEFAULT_BLOOM_FILTER_FALSE_POSITIVE_RATE;
+        }
+        try {
+            double rate = Double.parseDouble(value.trim());
+            if (rate > 0 && rate < 1) {
+                return rate;
+            }
+        } catch (NumberFormatException e) {
+            //Handled below
+        }
+        throw new RDBMSTableException("Invalid value '" + value + "' given for '" +
+                ANNOTATION_ELEMENT_BLOOM_FILTER_FP_RATE + "' of store '" + tableDefinition.getId() +
+                "'. A number between 0 and 1 is expected.");
+    }
+
+    /**
+     * Reads the mirror configuration and resolves the columns to be indexed by the mirror.
+     */
+    private void initMirror() {
+        mirrorRefreshInterval = this.readPositiveInteger(ANNOTATION_ELEMENT_MIRROR_REFRESH_INTERVAL, 0);
+        String lastModifiedColumn = storeAnnotation.getElement(ANNOTATION_ELEMENT_MIRROR_LAST_MODIFIED_COLUMN);
+        List<String> attributeNames = attributes.stream().map(Attribute::getName).collect(Collectors.toList());
+        if (!RDBMSTableUtils.isEmpty(lastModifiedColumn)) {
+            mirrorLastModifiedIndex = attributeNames.indexOf(lastModifiedColumn.trim());
+            if (mirrorLastModifiedIndex < 0) {
+                throw new RDBMSTableException("Invalid value '" + lastModifiedColumn + "' given for '" +
+                        ANNOTATION_ELEMENT_MIRROR_LAST_MODIFIED_COLUMN + "' of store '" + tableDefinition.getId() +
+                        "'. An attribute of the table is expected.");
+            }
+        }
+        mirrorIndexedColumns = indices.stream()
+                .flatMap(index -> index.getElements().stream())
+                .mapToInt(element -> attributeNames.indexOf(element.getValue().trim()))
+                .filter(index -> index >= 0)
+                .distinct()
+                .toArray();
+    }
+
+    /**
+     * Reads a positive integer element from the store annotation.
+     *
+     * @param elementName  the name of the annotation element.
+     * @param defaultValue the value to be used if the element is not given.
+     * @return the value of the element.
+     */
+    private int readPositiveInteger(String elementName, int defaultValue) {
+        String value = storeAnnotation.getElement(elementName);
+        if (RDBMSTableUtils.isEmpty(value)) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.trim());
+            if (intValue > 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            //Handled below
+        }
+        throw new RDBMSTableException("Invalid value '" + value + "' given for '" + elementName + "' of store '" +
+                tableDefinition.getId() + "'. A positive integer is expected.");
+    }
+
     @Override
     protected void add(List<Object[]> records) throws ConnectionUnavailableException {
-        String sql = this.composeInsertQuery();
+        //Keys are added to the Bloom filter before they are written, hence a concurrent contains() check never
+        //misses a written key
+        this.putBloomFilterKeys(records);
+        if (this.writeBehindBuffer != null) {
+            this.writeBehindBuffer.add(records);
+        } else {
+            this.executeAdd(records);
+        }
+    }
+
+    private void executeAdd(List<Object[]> records) throws ConnectionUnavailableException {
         // Setting autocommit to true if the JDBC connection does not support transactions.
         try {
-            this.batchExecuteQueriesWithRecords(sql, records, !this.transactionSupported);
+            if (this.copyLoader == null || !this.copyExecuteInsert(records, !this.transactionSupported)) {
+                if (this.multiInsertRowsPerStatement > 1) {
+                    this.multiRowExecuteInsert(records, !this.transactionSupported);
+                } else {
+                    this.batchExecuteQueriesWithRecords(insertQuery, records, !this.transactionSupported);
+                }
+            }
+            if (this.tableMirror != null) {
+                this.tableMirror.add(records);
+            }
+            this.putBloomFilterKeys(records);
         } catch (ConnectionUnavailableException e) {
             throw new ConnectionUnavailableException("Failed to add records to store: '" + this.tableName + "'", e);
         } catch (RDBMSTableException e) {
             throw new RDBMSTableException("Failed to add records to store: '" + this.tableName + "'", e);
+        } finally {
+            this.invalidatePrimaryKeyCache(records);
+            this.invalidateQueryResultCache();
+            this.recordWrite();
         }
     }
 
     @Override
     protected RecordIterator<Object[]> find(Map<String, Object> findConditionParameterMap,
                                             CompiledCondition compiledCondition) throws ConnectionUnavailableException {
+        this.flushWriteBehindBuffer();
         RDBMSCompiledCondition rdbmsCompiledCondition = (RDBMSCompiledCondition) compiledCondition;
-        String findCondition;
-        if (rdbmsCompiledCondition.isContainsConditionExist()) {
-            findCondition = processFindConditionWithContainsConditionTemplate(
-                    rdbmsCompiledCondition.getCompiledQuery(), this.recordContainsConditionTemplate);
-        } else {
-            findCondition = rdbmsCompiledCondition.getCompiledQuery();
+        if (this.isMirrorApplicable(rdbmsCompiledCondition)) {
+            return new RDBMSCachedRecordIterator(this.tableMirror.find(rdbmsCompiledCondition.getMirrorColumnIndices(),
+                    this.resolveMirrorValues(rdbmsCompiledCondition, findConditionParameterMap)).iterator());
+        }
+        if (this.isPrimaryKeyLookup(rdbmsCompiledCondition)) {
+            Object[] record = this.findByPrimaryKey(findConditionParameterMap, rdbmsCompiledCondition);
+            return RDBMSPrimaryKeyCache.iterator(record == null ? null : record.clone());
+        }
+        RDBMSResidualCondition residualCondition = rdbmsCompiledCondition.getResidualCondition();
+        if (residualCondition != null) {
+            return new RDBMSFilteredRecordIterator(this.executeFind(findConditionParameterMap, rdbmsCompiledCondition),
+                    record -> residualCondition.matches(record, findConditionParameterMap));
         }
+        return this.executeFind(findConditionParameterMap, rdbmsCompiledCondition);
+    }
+
+    private RecordIterator<Object[]> executeFind(Map<String, Object> findConditionParameterMap,
+                                                 RDBMSCompiledCondition rdbmsCompiledCondition)
+            throws ConnectionUnavailableException {
         //Some databases does not support single condition on where clause.
         //(atomic condition on where clause: SELECT * FROM TABLE WHERE true)
         //If the compile condition is resolved for '?', atomicCondition boolean value
         // will be used for ignore condition resolver.
         boolean atomicCondition = false;
-        if (findCondition.equals(QUESTION_MARK)) {
+        if (QUESTION_MARK.equals(rdbmsCompiledCondition.getCompiledQuery())) {
             atomicCondition = true;
             if (log.isDebugEnabled()) {
                 log.debug("Ignore the condition resolver in 'find()' method for compile " +
                         "condition: '" + QUESTION_MARK + "'");
             }
         }
-        Connection conn = this.getConnection();
+        String query = rdbmsCompiledCondition.getPreparedQuery(selectQuery, () -> {
+            String findCondition;
+            if (rdbmsCompiledCondition.isContainsConditionExist()) {
+                findCondition = processFindConditionWithContainsConditionTemplate(
+                        rdbmsCompiledCondition.getCompiledQuery(), this.recordContainsConditionTemplate);
+            } else {
+                findCondition = rdbmsCompiledCondition.getCompiledQuery();
+            }
+            return functionRenderer.render(RDBMSTableUtils.isEmpty(findCondition) ||
+                    QUESTION_MARK.equals(findCondition) ? selectQuery.replace(PLACEHOLDER_CONDITION, "") :
+                    RDBMSTableUtils.formatQueryWithCondition(selectQuery, findCondition));
+        });
+        Connection conn = this.getReadConnection();
         PreparedStatement stmt = null;
         ResultSet rs;
         try {
-            stmt = RDBMSTableUtils.isEmpty(findCondition) | atomicCondition ?
-                    conn.prepareStatement(selectQuery.replace(PLACEHOLDER_CONDITION, "")) :
-                    conn.prepareStatement(RDBMSTableUtils.formatQueryWithCondition(selectQuery, findCondition));
+            stmt = this.prepareReadStatement(conn, query);
             if (!atomicCondition) {
                 if (rdbmsCompiledCondition.isContainsConditionExist()) {
 
-                    RDBMSTableUtils.resolveConditionForContainsCheck(stmt, (RDBMSCompiledCondition) compiledCondition,
+                    RDBMSTableUtils.resolveConditionForContainsCheck(stmt, rdbmsCompiledCondition,
                             findConditionParameterMap, 0, typeMapping);
                 } else {
-                    RDBMSTableUtils.resolveCondition(stmt, (RDBMSCompiledCondition) compiledCondition,
+                    RDBMSTableUtils.resolveCondition(stmt, rdbmsCompiledCondition,
                             findConditionParameterMap, 0, typeMapping);
                 }
             }
@@ -710,19 +1316,186 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
         }
     }
 
+    /**
+     * Checks whether a read with the given condition is served by {@link #findByPrimaryKey(Map,
+     * RDBMSCompiledCondition)}, i.e. the condition is a primary key lookup and either the primary key cache or
+     * batched key lookups are enabled.
+     */
+    private boolean isPrimaryKeyLookup(RDBMSCompiledCondition compiledCondition) {
+        return (this.primaryKeyCache != null || this.keyLookupBatcher != null) &&
+                compiledCondition.getPrimaryKeyParameterNames() != null;
+    }
+
+    /**
+     * Looks up the record matched by a primary key condition through the primary key cache, if enabled, reading it
+     * from the database on a cache miss. The read is batched with concurrent lookups if batched key lookups are
+     * enabled.
+     *
+     * @param conditionParameterMap the runtime values of the condition.
+     * @param compiledCondition     the primary key condition.
+     * @return the record, which must not be modified, or null if no record exists for the key.
+     */
+    private Object[] findByPrimaryKey(Map<String, Object> conditionParameterMap,
+                                      RDBMSCompiledCondition compiledCondition)
+            throws ConnectionUnavailableException {
+        List<Object> key = RDBMSPrimaryKeyCache.createKey(compiledCondition.getPrimaryKeyParameterNames(),
+                conditionParameterMap);
+        long generation = 0;
+        if (this.primaryKeyCache != null) {
+            RDBMSPrimaryKeyCache.Lookup lookup = this.primaryKeyCache.get(key);
+            if (lookup != null) {
+                return lookup.getRecord();
+            }
+            generation = this.primaryKeyCache.getGeneration();
+        }
+        Object[] record = null;
+        if (this.keyLookupBatcher != null) {
+            record = this.keyLookupBatcher.lookup(key);
+        } else {
+            RecordIterator<Object[]> iterator = this.executeFind(conditionParameterMap, compiledCondition);
+            try {
+                if (iterator.hasNext()) {
+                    record = iterator.next();
+                }
+            } finally {
+                try {
+                    iterator.close();
+                } catch (IOException e) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Error closing the iterator of store '" + this.tableName + "': " +
+                                e.getMessage(), e);
+                    }
+                }
+            }
+        }
+        if (this.primaryKeyCache != null) {
+            this.primaryKeyCache.put(key, record, generation);
+        }
+        return record;
+    }
+
+    /**
+     * Reads the records of a batch of primary keys with a single statement. The number of keys in the statement is
+     * rounded up to a power of two by repeating the last key, which bounds the number of distinct statements.
+     *
+     * @param keys the distinct primary key values.
+     * @return the records mapped to their primary key values.
+     */
+    private Map<List<Object>, Object[]> readByPrimaryKeys(List<List<Object>> keys)
+            throws ConnectionUnavailableException {
+        int statementKeys = 1;
+        while (statementKeys < keys.size()) {
+            statementKeys <<= 1;
+        }
+        String query = keyLookupQueries.computeIfAbsent(statementKeys, this::composeKeyLookupQuery);
+        RDBMSValueBinder[] binders = new RDBMSValueBinder[statementKeys * primaryKeyColumnIndices.length];
+        Object[] values = new Object[binders.length];
+        int ordinal = 0;
+        for (int i = 0; i < statementKeys; i++) {
+            List<Object> key = keys.get(Math.min(i, keys.size() - 1));
+            for (int j = 0; j < primaryKeyColumnIndices.length; j++) {
+                binders[ordinal] = recordBinders[primaryKeyColumnIndices[j]];
+                values[ordinal++] = key.get(j);
+            }
+        }
+        List<Object[]> rows = this.readRecords(query, binders, values, true);
+        if (keys.size() == 1) {
+            return rows.isEmpty() ? Collections.emptyMap() : Collections.singletonMap(keys.get(0), rows.get(0));
+        }
+        Map<List<Object>, Object[]> records = new HashMap<>();
+        for (Object[] row : rows) {
+            records.put(RDBMSPrimaryKeyCache.createKey(primaryKeyColumnIndices, row), row);
+        }
+        //Rows whose keys do not equal any requested key, e.g. due to a case insensitive collation, cannot be mapped
+        //back to their keys. Hence the keys left unmatched are read one at a time.
+        long matchedKeys = keys.stream().filter(records::containsKey).count();
+        if (matchedKeys < rows.size()) {
+            for (List<Object> key : keys) {
+                if (!records.containsKey(key)) {
+                    records.putAll(this.readByPrimaryKeys(Collections.singletonList(key)));
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Composes the query reading the records of the given number of primary keys, as an IN condition for single
+     * column primary keys and as a disjunction of key equalities otherwise.
+     */
+    private String composeKeyLookupQuery(int keyCount) {
+        StringBuilder condition = new StringBuilder();
+        if (primaryKeyColumnIndices.length == 1) {
+            condition.append(this.tableName).append(".").append(attributes.get(primaryKeyColumnIndices[0]).getName())
+                    .append(WHITESPACE).append(SQL_IN).append(WHITESPACE).append(OPEN_PARENTHESIS)
+                    .append(String.join(SEPARATOR, Collections.nCopies(keyCount, QUESTION_MARK)))
+                    .append(CLOSE_PARENTHESIS);
+        } else {
+            String keyCondition = Arrays.stream(primaryKeyColumnIndices)
+                    .mapToObj(index -> this.tableName + "." + attributes.get(index).getName() + WHITESPACE +
+                            SQL_COMPARE_EQUAL + WHITESPACE + QUESTION_MARK)
+                    .collect(Collectors.joining(SQL_AND, OPEN_PARENTHESIS, CLOSE_PARENTHESIS));
+            condition.append(String.join(WHITESPACE + SQL_OR + WHITESPACE,
+                    Collections.nCopies(keyCount, keyCondition)));
+        }
+        return RDBMSTableUtils.formatQueryWithCondition(selectQuery, condition.toString());
+    }
+
     @Override
     protected boolean contains(Map<String, Object> containsConditionParameterMap, CompiledCondition compiledCondition)
             throws ConnectionUnavailableException {
-        String condition = ((RDBMSCompiledCondition) compiledCondition).getCompiledQuery();
-        Connection conn = this.getConnection();
+        this.flushWriteBehindBuffer();
+        if (this.isMirrorApplicable((RDBMSCompiledCondition) compiledCondition)) {
+            return this.tableMirror.contains(((RDBMSCompiledCondition) compiledCondition).getMirrorColumnIndices(),
+                    this.resolveMirrorValues((RDBMSCompiledCondition) compiledCondition,
+                            containsConditionParameterMap));
+        }
+        RDBMSBloomFilter filter = null;
+        if (bloomFilterSize > 0 && ((RDBMSCompiledCondition) compiledCondition).getPrimaryKeyParameterNames() != null) {
+            filter = this.bloomFilter;
+            if (filter == null) {
+                this.scheduleBloomFilterRebuild();
+            } else if (!filter.mightContain(RDBMSPrimaryKeyCache.createKey(
+                    ((RDBMSCompiledCondition) compiledCondition).getPrimaryKeyParameterNames(),
+                    containsConditionParameterMap))) {
+                filter.recordNegative();
+                if (metrics != null) {
+                    metrics.getBloomFilterNegativeCountMetric().inc();
+                }
+                return false;
+            }
+        }
+        boolean exists;
+        if (this.isPrimaryKeyLookup((RDBMSCompiledCondition) compiledCondition)) {
+            exists = this.findByPrimaryKey(containsConditionParameterMap,
+                    (RDBMSCompiledCondition) compiledCondition) != null;
+        } else if (((RDBMSCompiledCondition) compiledCondition).getResidualCondition() != null) {
+            exists = this.executeResidualContains(containsConditionParameterMap,
+                    (RDBMSCompiledCondition) compiledCondition);
+        } else {
+            exists = this.executeContains(containsConditionParameterMap, (RDBMSCompiledCondition) compiledCondition);
+        }
+        if (filter != null && !exists) {
+            filter.recordFalsePositive();
+            if (metrics != null) {
+                metrics.getBloomFilterFalsePositiveCountMetric().inc();
+            }
+            if (filter.isDrifted()) {
+                this.scheduleBloomFilterRebuild();
+            }
+        }
+        return exists;
+    }
+
+    private boolean executeContains(Map<String, Object> containsConditionParameterMap,
+                                    RDBMSCompiledCondition compiledCondition) throws ConnectionUnavailableException {
+        String query = this.composeConditionalQuery(containsQuery, compiledCondition);
+        Connection conn = this.getConnection(true, true);
         PreparedStatement stmt = null;
         ResultSet rs = null;
         try {
-            stmt = RDBMSTableUtils.isEmpty(condition) ?
-                    conn.prepareStatement(containsQuery.replace(PLACEHOLDER_CONDITION, "")) :
-                    conn.prepareStatement(RDBMSTableUtils.formatQueryWithCondition(containsQuery, condition));
-            RDBMSTableUtils.resolveCondition(stmt, (RDBMSCompiledCondition) compiledCondition,
-                    containsConditionParameterMap, 0, typeMapping);
+            stmt = conn.prepareStatement(query);
+            RDBMSTableUtils.resolveCondition(stmt, compiledCondition, containsConditionParameterMap, 0, typeMapping);
             rs = stmt.executeQuery();
             return rs.next();
         } catch (SQLException e) {
@@ -742,21 +1515,61 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
         }
     }
 
+    /**
+     * Performs the contains check for a condition which is partly evaluated in memory, by reading the records
+     * matching the part of the condition expressed in SQL until one satisfies the remaining part.
+     */
+    private boolean executeResidualContains(Map<String, Object> containsConditionParameterMap,
+                                            RDBMSCompiledCondition compiledCondition)
+            throws ConnectionUnavailableException {
+        RecordIterator<Object[]> records = this.executeFind(containsConditionParameterMap, compiledCondition);
+        try {
+            while (records.hasNext()) {
+                if (compiledCondition.getResidualCondition().matches(records.next(), containsConditionParameterMap)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            try {
+                records.close();
+            } catch (IOException e) {
+                log.error("Error closing the records read for contains check on store '" + tableName + "'", e);
+            }
+        }
+    }
+
+    /**
+     * Rejects conditions which are partly evaluated in memory for operations other than finding records, since
+     * such operations are executed entirely by the database.
+     */
+    private void checkNoResidualCondition(CompiledCondition compiledCondition, String operation) {
+        if (compiledCondition instanceof RDBMSCompiledCondition &&
+                ((RDBMSCompiledCondition) compiledCondition).getResidualCondition() != null) {
+            throw new RDBMSTableException("The condition of the " + operation + " on store '" + this.tableName +
+                    "' uses functions which cannot be evaluated by the database. Such conditions are only " +
+                    "supported when finding records.");
+        }
+    }
+
     @Override
     protected void delete(List<Map<String, Object>> deleteConditionParameterMaps, CompiledCondition compiledCondition)
             throws ConnectionUnavailableException {
-        this.batchProcessDelete(deleteConditionParameterMaps, compiledCondition);
+        this.checkNoResidualCondition(compiledCondition, "delete");
+        if (this.writeBehindBuffer != null) {
+            this.writeBehindBuffer.delete(deleteConditionParameterMaps, compiledCondition);
+        } else {
+            this.batchProcessDelete(deleteConditionParameterMaps, compiledCondition);
+        }
     }
 
     private void batchProcessDelete(List<Map<String, Object>> deleteConditionParameterMaps,
                                     CompiledCondition compiledCondition) throws ConnectionUnavailableException {
-        String condition = ((RDBMSCompiledCondition) compiledCondition).getCompiledQuery();
+        String query = this.composeConditionalQuery(deleteQuery, (RDBMSCompiledCondition) compiledCondition);
         Connection conn = this.getConnection();
         PreparedStatement stmt = null;
         try {
-            stmt = RDBMSTableUtils.isEmpty(condition) ?
-                    conn.prepareStatement(deleteQuery.replace(PLACEHOLDER_CONDITION, "")) :
-                    conn.prepareStatement(RDBMSTableUtils.formatQueryWithCondition(deleteQuery, condition));
+            stmt = conn.prepareStatement(query);
             int counter = 0;
             for (Map<String, Object> deleteConditionParameterMap : deleteConditionParameterMaps) {
                 RDBMSTableUtils.resolveCondition(stmt, (RDBMSCompiledCondition) compiledCondition,
@@ -790,6 +1603,7 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
                     metrics.setRDBMSStatus(RDBMSStatus.PROCESSING);
                 }
             }
+            this.applyDeleteToMirror((RDBMSCompiledCondition) compiledCondition, deleteConditionParameterMaps);
         } catch (SQLException e) {
             if (metrics != null) {
                 metrics.setRDBMSStatus(RDBMSStatus.ERROR);
@@ -807,6 +1621,9 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
             }
         } finally {
             RDBMSTableUtils.cleanupConnection(null, stmt, conn);
+            this.invalidatePrimaryKeyCache(compiledCondition, deleteConditionParameterMaps, null, null);
+            this.invalidateQueryResultCache();
+            this.recordWrite();
         }
     }
 
@@ -814,59 +1631,526 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
     protected void update(CompiledCondition compiledCondition, List<Map<String, Object>> updateConditionParameterMaps,
                           Map<String, CompiledExpression> updateSetExpressions, List<Map<String, Object>> updateValues)
             throws ConnectionUnavailableException {
+        this.checkNoResidualCondition(compiledCondition, "update");
+        if (this.writeBehindBuffer != null) {
+            this.writeBehindBuffer.update(compiledCondition, updateConditionParameterMaps, updateSetExpressions,
+                    updateValues);
+        } else {
+            this.executeUpdate(compiledCondition, updateConditionParameterMaps, updateSetExpressions, updateValues);
+        }
+    }
+
+    private void executeUpdate(CompiledCondition compiledCondition,
+                               List<Map<String, Object>> updateConditionParameterMaps,
+                               Map<String, CompiledExpression> updateSetExpressions,
+                               List<Map<String, Object>> updateValues) throws ConnectionUnavailableException {
         String sql = this.composeUpdateQuery(compiledCondition, updateSetExpressions);
-        this.batchProcessSQLUpdates(sql, updateConditionParameterMaps, compiledCondition,
-                updateSetExpressions, updateValues);
+        boolean primaryKeyChanged = this.invalidateBloomFilterOnKeyChange((RDBMSCompiledCondition) compiledCondition,
+                updateSetExpressions);
+        try {
+            this.batchProcessSQLUpdates(sql, updateConditionParameterMaps, compiledCondition,
+                    updateSetExpressions, updateValues);
+            this.applyUpdateToMirror((RDBMSCompiledCondition) compiledCondition, updateConditionParameterMaps,
+                    updateSetExpressions, updateValues, null);
+        } finally {
+            if (primaryKeyChanged) {
+                this.scheduleBloomFilterRebuild();
+            }
+            this.invalidatePrimaryKeyCache(compiledCondition, updateConditionParameterMaps, updateSetExpressions,
+                    updateValues);
+            this.invalidateQueryResultCache();
+            this.recordWrite();
+        }
     }
 
+    /**
+     * Invalidates all cached query results, since a write may change the result of any query, and all page
+     * boundaries of keyset pagination, since a write may shift the position of records. This is done after the
+     * write is executed, hence a query which read the table before the write is not cached.
+     */
+    private void invalidateQueryResultCache() {
+        if (this.queryResultCache != null) {
+            this.queryResultCache.invalidateAll();
+        }
+        if (this.keysetPageIndex != null) {
+            this.keysetPageIndex.invalidateAll();
+        }
+    }
 
     /**
-     * Method for processing update operations in a batched manner. This assumes that all update operations will be
-     * accepted by the database.
+     * Records the time of a write, within the replica lag of which reads are served by the primary database.
+     */
+    private void recordWrite() {
+        if (readReplicaLag > 0) {
+            lastWriteTime = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Invalidates the primary key cache entries of the records added to the table.
      *
-     * @param sql                          the SQL update operation as string.
-     * @param updateConditionParameterMaps the runtime parameters that should be populated to the condition.
-     * @param compiledCondition            the condition that was built during compile time.
-     * @param updateSetExpressions         the expressions that are used in the SET operation
-     * @param updateSetParameterMaps       the runtime parameters that should be populated to the update statement.
+     * @param records the added records.
      */
-    private void batchProcessSQLUpdates(String sql, List<Map<String, Object>> updateConditionParameterMaps,
-                                        CompiledCondition compiledCondition,
-                                        Map<String, CompiledExpression> updateSetExpressions,
-                                        List<Map<String, Object>> updateSetParameterMaps)
-            throws ConnectionUnavailableException {
-        int counter = 0;
-        Connection conn = this.getConnection();
-        PreparedStatement stmt = null;
-        try {
-            stmt = conn.prepareStatement(sql);
-            Iterator<Map<String, Object>> conditionParamIterator = updateConditionParameterMaps.iterator();
-            Iterator<Map<String, Object>> updateSetParameterMapsIterator = updateSetParameterMaps.iterator();
-            while (conditionParamIterator.hasNext() && updateSetParameterMapsIterator.hasNext()) {
-                Map<String, Object> conditionParameters = conditionParamIterator.next();
-                Map<String, Object> updateSetMap = updateSetParameterMapsIterator.next();
-                int ordinal = RDBMSTableUtils.enumerateUpdateSetEntries(updateSetExpressions, stmt, updateSetMap,
-                        typeMapping);
-                //Incrementing the ordinals of the conditions in the statement with the # of variables to be updated
-                RDBMSTableUtils.resolveCondition(stmt, (RDBMSCompiledCondition) compiledCondition,
-                        conditionParameters, ordinal - 1, typeMapping);
-                stmt.addBatch();
-                counter++;
-                if (counter == batchSize) {
-                    int[] updateResultIndex = stmt.executeBatch();
-                    stmt.clearBatch();
-                    counter = 0;
-                    if (metrics != null) {
-                        int count = executedRowsCount(updateResultIndex);
-                        if (count > 0) {
-                            metrics.getUpdateCountMetric().inc(count);
-                            metrics.getWritesCountMetrics().inc(count);
-                            metrics.getTotalWriteMetrics().inc(count);
-                        }
-                        metrics.setRDBMSStatus(RDBMSStatus.PROCESSING);
-                    }
-                }
-            }
+    private void invalidatePrimaryKeyCache(List<Object[]> records) {
+        if (this.primaryKeyCache == null) {
+            return;
+        }
+        for (Object[] record : records) {
+            this.primaryKeyCache.invalidate(RDBMSPrimaryKeyCache.createKey(primaryKeyColumnIndices, record));
+        }
+    }
+
+    /**
+     * Invalidates the primary key cache entries of the records affected by a conditional write. If the condition is
+     * not a primary key lookup, or a primary key column is assigned a value other than a stream variable, the
+     * affected keys are not known and all entries are invalidated.
+     *
+     * @param compiledCondition      the condition of the write.
+     * @param conditionParameterMaps the runtime values of the condition.
+     * @param updateSetExpressions   the SET expressions of the write, or null for deletions.
+     * @param updateSetParameterMaps the runtime values of the SET expressions, or null for deletions.
+     */
+    private void invalidatePrimaryKeyCache(CompiledCondition compiledCondition,
+                                           List<Map<String, Object>> conditionParameterMaps,
+                                           Map<String, CompiledExpression> updateSetExpressions,
+                                           List<Map<String, Object>> updateSetParameterMaps) {
+        if (this.primaryKeyCache == null) {
+            return;
+        }
+        String[] parameterNames = ((RDBMSCompiledCondition) compiledCondition).getPrimaryKeyParameterNames();
+        if (parameterNames == null) {
+            this.primaryKeyCache.invalidateAll();
+            return;
+        }
+        //Names of the stream variables assigned to the primary key columns, which give the keys after an update
+        String[] assignedNames = null;
+        if (updateSetExpressions != null) {
+            int i = 0;
+            for (String primaryKey : primaryKeyIndices.keySet()) {
+                RDBMSCompiledCondition setExpression = (RDBMSCompiledCondition) updateSetExpressions.get(primaryKey);
+                if (setExpression != null) {
+                    Object parameter = setExpression.getParameters().get(1);
+                    if (!QUESTION_MARK.equals(setExpression.getCompiledQuery()) || !(parameter instanceof Attribute)) {
+                        this.primaryKeyCache.invalidateAll();
+                        return;
+                    }
+                    if (assignedNames == null) {
+                        assignedNames = new String[parameterNames.length];
+                    }
+                    assignedNames[i] = ((Attribute) parameter).getName();
+                }
+                i++;
+            }
+        }
+        Iterator<Map<String, Object>> updateSetMapIterator =
+                (assignedNames == null) ? null : updateSetParameterMaps.iterator();
+        for (Map<String, Object> conditionParameters : conditionParameterMaps) {
+            List<Object> key = RDBMSPrimaryKeyCache.createKey(parameterNames, conditionParameters);
+            this.primaryKeyCache.invalidate(key);
+            if (updateSetMapIterator != null && updateSetMapIterator.hasNext()) {
+                Map<String, Object> updateSetMap = updateSetMapIterator.next();
+                List<Object> updatedKey = new ArrayList<>(key);
+                for (int i = 0; i < assignedNames.length; i++) {
+                    if (assignedNames[i] != null) {
+                        updatedKey.set(i, updateSetMap.get(assignedNames[i]));
+                    }
+                }
+                this.primaryKeyCache.invalidate(updatedKey);
+            }
+        }
+    }
+
+    /**
+     * Writes all operations held by the write-behind buffer, so that subsequent reads and upserts observe them.
+     */
+    private void flushWriteBehindBuffer() throws ConnectionUnavailableException {
+        if (this.writeBehindBuffer != null) {
+            this.writeBehindBuffer.flush();
+        }
+    }
+
+    /**
+     * Adds the primary keys of the given records to the Bloom filter, and to the filter being rebuilt if any. The
+     * latter is read first, so that a key added concurrently with the swap of the filters reaches the new filter.
+     * Keys are added again after they are written, which ensures that a rebuild reading the table before the write
+     * was committed still sees the key.
+     */
+    private void putBloomFilterKeys(List<Object[]> records) {
+        RDBMSBloomFilter rebuilding = this.rebuildingBloomFilter;
+        RDBMSBloomFilter current = this.bloomFilter;
+        if (rebuilding == null && current == null) {
+            return;
+        }
+        for (Object[] record : records) {
+            List<Object> key = RDBMSPrimaryKeyCache.createKey(primaryKeyColumnIndices, record);
+            if (rebuilding != null) {
+                rebuilding.put(key);
+            }
+            if (current != null) {
+                current.put(key);
+            }
+        }
+    }
+
+    /**
+     * Drops the Bloom filter if the given SET expressions may change the primary key of the updated rows, since the
+     * new keys are not known. A primary key column assigned the same stream variable it is matched against by the
+     * condition keeps its value.
+     *
+     * @return true if the filter was dropped, in which case it should be rebuilt once the update is written.
+     */
+    private boolean invalidateBloomFilterOnKeyChange(RDBMSCompiledCondition compiledCondition,
+                                                     Map<String, CompiledExpression> updateSetExpressions) {
+        if (bloomFilterSize == 0) {
+            return false;
+        }
+        String[] parameterNames = compiledCondition.getPrimaryKeyParameterNames();
+        int i = 0;
+        for (String primaryKey : primaryKeyIndices.keySet()) {
+            RDBMSCompiledCondition setExpression = (RDBMSCompiledCondition) updateSetExpressions.get(primaryKey);
+            if (setExpression != null) {
+                Object parameter = setExpression.getParameters().get(1);
+                if (parameterNames == null || !QUESTION_MARK.equals(setExpression.getCompiledQuery()) ||
+                        !(parameter instanceof Attribute) ||
+                        !((Attribute) parameter).getName().equals(parameterNames[i])) {
+                    synchronized (bloomFilterLock) {
+                        bloomFilterGeneration++;
+                        this.bloomFilter = null;
+                    }
+                    return true;
+                }
+            }
+            i++;
+        }
+        return false;
+    }
+
+    /**
+     * Rebuilds the Bloom filter in the background, unless a rebuild is already in progress.
+     */
+    private void scheduleBloomFilterRebuild() {
+        if (!bloomFilterRebuildActive.compareAndSet(false, true)) {
+            return;
+        }
+        siddhiAppContext.getExecutorService().execute(() -> {
+            try {
+                this.rebuildBloomFilter();
+            } catch (ConnectionUnavailableException | RDBMSTableException e) {
+                log.error("Failed to rebuild the Bloom filter of store '" + this.tableName + "'. Contains checks " +
+                        "will be served by the database until it is rebuilt.", e);
+            } finally {
+                bloomFilterRebuildActive.set(false);
+            }
+        });
+    }
+
+    /**
+     * Builds a new Bloom filter from the primary keys of the table, and replaces the current filter with it unless
+     * the filter was dropped while the keys were being read. The new filter is sized for twice the keys of the
+     * current filter, if that is more than configured.
+     */
+    private void rebuildBloomFilter() throws ConnectionUnavailableException {
+        long generation;
+        RDBMSBloomFilter current;
+        synchronized (bloomFilterLock) {
+            generation = bloomFilterGeneration;
+            current = this.bloomFilter;
+        }
+        long expectedKeys = (current == null) ? bloomFilterSize : Math.max(bloomFilterSize, 2 * current.getKeyCount());
+        RDBMSBloomFilter filter = new RDBMSBloomFilter((int) Math.min(Integer.MAX_VALUE, expectedKeys),
+                bloomFilterFalsePositiveRate);
+        this.rebuildingBloomFilter = filter;
+        try {
+            List<Attribute> keyAttributes = Arrays.stream(primaryKeyColumnIndices).mapToObj(attributes::get)
+                    .collect(Collectors.toList());
+            String keysQuery = this.resolveTableName(rdbmsSelectQueryTemplate.getSelectClause()).replace(
+                    PLACEHOLDER_SELECTORS, keyAttributes.stream().map(Attribute::getName)
+                            .collect(Collectors.joining(SEPARATOR)));
+            this.forEachRecord(keysQuery, keyAttributes, new RDBMSValueBinder[0], new Object[0],
+                    record -> filter.put(Arrays.asList(record)), false);
+            synchronized (bloomFilterLock) {
+                if (generation == bloomFilterGeneration) {
+                    this.bloomFilter = filter;
+                }
+            }
+        } finally {
+            this.rebuildingBloomFilter = null;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Built the Bloom filter of store '" + this.tableName + "' with " + filter.getKeyCount() +
+                    " keys.");
+        }
+    }
+
+    /**
+     * Checks whether a read with the given condition can be served from the table mirror, reloading the mirror if
+     * it was invalidated by a write whose effect could not be applied to it.
+     */
+    private boolean isMirrorApplicable(RDBMSCompiledCondition compiledCondition)
+            throws ConnectionUnavailableException {
+        if (this.tableMirror == null || compiledCondition.getMirrorColumnIndices() == null) {
+            return false;
+        }
+        if (!this.tableMirror.isLoaded()) {
+            this.reloadMirror();
+        }
+        return this.tableMirror.isLoaded();
+    }
+
+    private Object[] resolveMirrorValues(RDBMSCompiledCondition compiledCondition, Map<String, Object> parameterMap) {
+        String[] parameterNames = compiledCondition.getMirrorParameterNames();
+        Object[] values = new Object[parameterNames.length];
+        for (int i = 0; i < parameterNames.length; i++) {
+            values[i] = parameterMap.get(parameterNames[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Loads all rows of the table into the mirror. The rows are discarded if a write is applied to the mirror while
+     * they are being read, in which case the mirror is loaded by a subsequent read or refresh.
+     */
+    private void reloadMirror() throws ConnectionUnavailableException {
+        long version = this.tableMirror.getVersion();
+        List<Object[]> rows = this.readRecords(selectQuery.replace(PLACEHOLDER_CONDITION, ""),
+                new RDBMSValueBinder[0], new Object[0], false);
+        if (this.tableMirror.load(rows, version)) {
+            this.mirrorWatermark = this.resolveMirrorWatermark(rows, null);
+            if (log.isDebugEnabled()) {
+                log.debug("Loaded " + rows.size() + " rows of store '" + this.tableName + "' into the mirror.");
+            }
+        }
+    }
+
+    /**
+     * Refreshes the mirror with the changes made to the table by other clients. Only the rows modified since the
+     * last refresh are read if the table has a last modified column, otherwise the whole table is reloaded.
+     */
+    private void refreshMirror() {
+        try {
+            Object watermark = this.mirrorWatermark;
+            if (mirrorLastModifiedIndex < 0 || watermark == null || !this.tableMirror.isLoaded()) {
+                this.reloadMirror();
+                return;
+            }
+            long version = this.tableMirror.getVersion();
+            String lastModifiedColumn = this.tableName + "." + attributes.get(mirrorLastModifiedIndex).getName();
+            List<Object[]> rows = this.readRecords(RDBMSTableUtils.formatQueryWithCondition(selectQuery,
+                    lastModifiedColumn + WHITESPACE + SQL_COMPARE_GREATER_THAN_EQUAL + WHITESPACE + QUESTION_MARK),
+                    new RDBMSValueBinder[]{recordBinders[mirrorLastModifiedIndex]}, new Object[]{watermark}, false);
+            if (this.tableMirror.merge(rows, version)) {
+                this.mirrorWatermark = this.resolveMirrorWatermark(rows, watermark);
+            }
+        } catch (ConnectionUnavailableException | RDBMSTableException e) {
+            log.error("Failed to refresh the mirror of store '" + this.tableName + "'. It will be refreshed " +
+                    "again after " + mirrorRefreshInterval + " milliseconds.", e);
+        }
+    }
+
+    /**
+     * Returns the greatest last modified value of the given rows and the given watermark. The boundary value is
+     * read again by the next refresh, hence rows modified within the same time unit are not missed.
+     */
+    @SuppressWarnings("unchecked")
+    private Object resolveMirrorWatermark(List<Object[]> rows, Object watermark) {
+        if (mirrorLastModifiedIndex < 0) {
+            return null;
+        }
+        Object result = watermark;
+        for (Object[] row : rows) {
+            Object value = row[mirrorLastModifiedIndex];
+            if (value instanceof Comparable && (result == null || ((Comparable<Object>) value).compareTo(result) > 0)) {
+                result = value;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads all records returned by the given query.
+     *
+     * @param query       the query.
+     * @param binders     the binders of the query parameters.
+     * @param values      the values of the query parameters.
+     * @param fromReplica whether or not the query may be served by the read replica.
+     * @return the records.
+     */
+    private List<Object[]> readRecords(String query, RDBMSValueBinder[] binders, Object[] values,
+                                       boolean fromReplica) throws ConnectionUnavailableException {
+        List<Object[]> records = new ArrayList<>();
+        this.forEachRecord(query, this.attributes, binders, values, records::add, fromReplica);
+        return records;
+    }
+
+    /**
+     * Passes each record returned by the given query to the given consumer, without holding all records in memory.
+     *
+     * @param query            the query.
+     * @param recordAttributes the attributes of the records returned by the query.
+     * @param binders          the binders of the query parameters.
+     * @param values           the values of the query parameters.
+     * @param consumer         the consumer of the records.
+     * @param fromReplica      whether or not the query may be served by the read replica.
+     */
+    private void forEachRecord(String query, List<Attribute> recordAttributes, RDBMSValueBinder[] binders,
+                               Object[] values, Consumer<Object[]> consumer, boolean fromReplica)
+            throws ConnectionUnavailableException {
+        Connection conn = this.getReadConnection(fromReplica);
+        PreparedStatement stmt = null;
+        RecordIterator<Object[]> iterator = null;
+        try {
+            stmt = this.prepareReadStatement(conn, query);
+            for (int i = 0; i < binders.length; i++) {
+                binders[i].bind(stmt, i + 1, values[i]);
+            }
+            iterator = new RDBMSIterator(conn, stmt, stmt.executeQuery(), recordAttributes, this.tableName,
+                    allowNullValues);
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+            }
+        } catch (SQLException e) {
+            try {
+                boolean isConnValid = conn.isValid(0);
+                RDBMSTableUtils.cleanupConnection(null, stmt, conn);
+                if (!isConnValid) {
+                    throw new ConnectionUnavailableException("Connection closed. Error retrieving records from store '"
+                            + this.tableName + "'", e);
+                } else {
+                    throw new RDBMSTableException("Error retrieving records from store '" + this.tableName + "'", e);
+                }
+            } catch (SQLException e1) {
+                throw new RDBMSTableException("Error retrieving records from store '" + this.tableName +
+                        "' .Failed to close the connection.", e1);
+            }
+        } finally {
+            if (iterator != null) {
+                try {
+                    iterator.close();
+                } catch (IOException e) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Error closing the iterator of store '" + this.tableName + "': " +
+                                e.getMessage(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the rows deleted through the given condition from the mirror, or invalidates the mirror if the
+     * condition cannot be evaluated against it.
+     */
+    private void applyDeleteToMirror(RDBMSCompiledCondition compiledCondition,
+                                     List<Map<String, Object>> conditionParameterMaps) {
+        if (this.tableMirror == null) {
+            return;
+        }
+        if (compiledCondition.getMirrorColumnIndices() == null) {
+            this.tableMirror.invalidate();
+            return;
+        }
+        for (Map<String, Object> conditionParameterMap : conditionParameterMaps) {
+            this.tableMirror.delete(compiledCondition.getMirrorColumnIndices(),
+                    this.resolveMirrorValues(compiledCondition, conditionParameterMap));
+        }
+    }
+
+    /**
+     * Applies an update, or an update or insert operation when records to be added are given, to the mirror. The
+     * mirror is invalidated if the condition cannot be evaluated against it, or if a column is assigned a value
+     * other than a stream variable or constant of the column's type, since the resulting value is then computed by
+     * the database.
+     */
+    private void applyUpdateToMirror(RDBMSCompiledCondition compiledCondition,
+                                     List<Map<String, Object>> conditionParameterMaps,
+                                     Map<String, CompiledExpression> updateSetExpressions,
+                                     List<Map<String, Object>> updateSetParameterMaps, List<Object[]> addingRecords) {
+        if (this.tableMirror == null) {
+            return;
+        }
+        int[] setColumns = new int[updateSetExpressions.size()];
+        Object[] setSources = new Object[updateSetExpressions.size()];
+        int i = 0;
+        for (Map.Entry<String, CompiledExpression> entry : updateSetExpressions.entrySet()) {
+            RDBMSCompiledCondition setExpression = (RDBMSCompiledCondition) entry.getValue();
+            Object parameter = setExpression.getParameters().get(1);
+            setColumns[i] = this.attributeIndex(entry.getKey());
+            if (compiledCondition.getMirrorColumnIndices() == null || setColumns[i] < 0 ||
+                    !QUESTION_MARK.equals(setExpression.getCompiledQuery()) ||
+                    !(parameter instanceof Attribute || parameter instanceof Constant) ||
+                    this.attributes.get(setColumns[i]).getType() != ((parameter instanceof Attribute) ?
+                            ((Attribute) parameter).getType() : ((Constant) parameter).getType())) {
+                this.tableMirror.invalidate();
+                return;
+            }
+            setSources[i++] = parameter;
+        }
+        Iterator<Map<String, Object>> updateSetMapIterator = updateSetParameterMaps.iterator();
+        for (int j = 0; j < conditionParameterMaps.size(); j++) {
+            Map<String, Object> updateSetMap = updateSetMapIterator.hasNext() ?
+                    updateSetMapIterator.next() : Collections.emptyMap();
+            Object[] setValues = new Object[setSources.length];
+            for (int k = 0; k < setSources.length; k++) {
+                setValues[k] = (setSources[k] instanceof Constant) ? ((Constant) setSources[k]).getValue() :
+                        updateSetMap.get(((Attribute) setSources[k]).getName());
+            }
+            int updatedCount = this.tableMirror.update(compiledCondition.getMirrorColumnIndices(),
+                    this.resolveMirrorValues(compiledCondition, conditionParameterMaps.get(j)), setColumns,
+                    setValues);
+            if (updatedCount == 0 && addingRecords != null) {
+                this.tableMirror.add(Collections.singletonList(addingRecords.get(j)));
+            }
+        }
+    }
+
+
+    /**
+     * Method for processing update operations in a batched manner. This assumes that all update operations will be
+     * accepted by the database.
+     *
+     * @param sql                          the SQL update operation as string.
+     * @param updateConditionParameterMaps the runtime parameters that should be populated to the condition.
+     * @param compiledCondition            the condition that was built during compile time.
+     * @param updateSetExpressions         the expressions that are used in the SET operation
+     * @param updateSetParameterMaps       the runtime parameters that should be populated to the update statement.
+     */
+    private void batchProcessSQLUpdates(String sql, List<Map<String, Object>> updateConditionParameterMaps,
+                                        CompiledCondition compiledCondition,
+                                        Map<String, CompiledExpression> updateSetExpressions,
+                                        List<Map<String, Object>> updateSetParameterMaps)
+            throws ConnectionUnavailableException {
+        int counter = 0;
+        Connection conn = this.getConnection();
+        PreparedStatement stmt = null;
+        try {
+            stmt = conn.prepareStatement(sql);
+            Iterator<Map<String, Object>> conditionParamIterator = updateConditionParameterMaps.iterator();
+            Iterator<Map<String, Object>> updateSetParameterMapsIterator = updateSetParameterMaps.iterator();
+            while (conditionParamIterator.hasNext() && updateSetParameterMapsIterator.hasNext()) {
+                Map<String, Object> conditionParameters = conditionParamIterator.next();
+                Map<String, Object> updateSetMap = updateSetParameterMapsIterator.next();
+                int ordinal = RDBMSTableUtils.enumerateUpdateSetEntries(updateSetExpressions, stmt, updateSetMap,
+                        typeMapping);
+                //Incrementing the ordinals of the conditions in the statement with the # of variables to be updated
+                RDBMSTableUtils.resolveCondition(stmt, (RDBMSCompiledCondition) compiledCondition,
+                        conditionParameters, ordinal - 1, typeMapping);
+                stmt.addBatch();
+                counter++;
+                if (counter == batchSize) {
+                    int[] updateResultIndex = stmt.executeBatch();
+                    stmt.clearBatch();
+                    counter = 0;
+                    if (metrics != null) {
+                        int count = executedRowsCount(updateResultIndex);
+                        if (count > 0) {
+                            metrics.getUpdateCountMetric().inc(count);
+                            metrics.getWritesCountMetrics().inc(count);
+                            metrics.getTotalWriteMetrics().inc(count);
+                        }
+                        metrics.setRDBMSStatus(RDBMSStatus.PROCESSING);
+                    }
+                }
+            }
             if (counter > 0) {
                 int[] updateResultIndex = stmt.executeBatch();
                 if (metrics != null) {
@@ -901,12 +2185,88 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
     }
 
     @Override
-    protected synchronized void updateOrAdd(CompiledCondition compiledCondition,
-                                            List<Map<String, Object>> updateConditionParameterMaps,
-                                            Map<String, CompiledExpression> updateSetExpressions,
-                                            List<Map<String, Object>> updateSetParameterMaps,
-                                            List<Object[]> addingRecords)
+    protected void updateOrAdd(CompiledCondition compiledCondition,
+                               List<Map<String, Object>> updateConditionParameterMaps,
+                               Map<String, CompiledExpression> updateSetExpressions,
+                               List<Map<String, Object>> updateSetParameterMaps,
+                               List<Object[]> addingRecords)
             throws ConnectionUnavailableException {
+        this.checkNoResidualCondition(compiledCondition, "update or insert");
+        int[] stripes = this.resolveUpdateOrAddStripes((RDBMSCompiledCondition) compiledCondition,
+                updateConditionParameterMaps);
+        //Stripes are acquired in ascending order, hence concurrent operations cannot deadlock
+        for (int stripe : stripes) {
+            updateOrAddLocks[stripe].lock();
+        }
+        this.putBloomFilterKeys(addingRecords);
+        boolean primaryKeyChanged = this.invalidateBloomFilterOnKeyChange((RDBMSCompiledCondition) compiledCondition,
+                updateSetExpressions);
+        try {
+            this.executeUpdateOrAdd(compiledCondition, updateConditionParameterMaps, updateSetExpressions,
+                    updateSetParameterMaps, addingRecords);
+            this.applyUpdateToMirror((RDBMSCompiledCondition) compiledCondition, updateConditionParameterMaps,
+                    updateSetExpressions, updateSetParameterMaps, addingRecords);
+            this.putBloomFilterKeys(addingRecords);
+        } finally {
+            if (primaryKeyChanged) {
+                this.scheduleBloomFilterRebuild();
+            }
+            this.invalidatePrimaryKeyCache(compiledCondition, updateConditionParameterMaps, updateSetExpressions,
+                    updateSetParameterMaps);
+            this.invalidatePrimaryKeyCache(addingRecords);
+            this.invalidateQueryResultCache();
+            this.recordWrite();
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                updateOrAddLocks[stripes[i]].unlock();
+            }
+        }
+    }
+
+    /**
+     * Resolves the lock stripes guarding an update or insert operation. When the condition matches exactly the
+     * primary key columns, the affected rows are identified by the key values, hence only the stripes of those
+     * values are needed. Otherwise all stripes are used, which serializes the operation with every other update or
+     * insert operation of the table.
+     *
+     * @return the indices of the lock stripes in ascending order.
+     */
+    private int[] resolveUpdateOrAddStripes(RDBMSCompiledCondition compiledCondition,
+                                            List<Map<String, Object>> updateConditionParameterMaps) {
+        BitSet stripes = new BitSet(UPDATE_OR_ADD_LOCK_STRIPES);
+        Map<String, String> conditionAttributes = compiledCondition.getEqualityConditionAttributes();
+        if (conditionAttributes == null || primaryKeyIndices.isEmpty() ||
+                !conditionAttributes.keySet().equals(primaryKeyIndices.keySet())) {
+            stripes.set(0, UPDATE_OR_ADD_LOCK_STRIPES);
+        } else {
+            Object[] keyValues = new Object[primaryKeyIndices.size()];
+            for (Map<String, Object> conditionParameters : updateConditionParameterMaps) {
+                int i = 0;
+                for (String primaryKey : primaryKeyIndices.keySet()) {
+                    keyValues[i++] = conditionParameters.get(conditionAttributes.get(primaryKey));
+                }
+                stripes.set(Math.floorMod(Arrays.hashCode(keyValues), UPDATE_OR_ADD_LOCK_STRIPES));
+            }
+        }
+        return stripes.stream().toArray();
+    }
+
+    private void executeUpdateOrAdd(CompiledCondition compiledCondition,
+                                    List<Map<String, Object>> updateConditionParameterMaps,
+                                    Map<String, CompiledExpression> updateSetExpressions,
+                                    List<Map<String, Object>> updateSetParameterMaps,
+                                    List<Object[]> addingRecords)
+            throws ConnectionUnavailableException {
+        this.flushWriteBehindBuffer();
+        if (recordUpsertQuery != null) {
+            Map<String, CompiledExpression> upsertSetExpressions = this.resolveUpsertSetExpressions(
+                    (RDBMSCompiledCondition) compiledCondition, updateConditionParameterMaps,
+                    updateSetExpressions, updateSetParameterMaps, addingRecords);
+            if (upsertSetExpressions != null) {
+                this.processUpsert((RDBMSCompiledCondition) compiledCondition, upsertSetExpressions,
+                        updateSetParameterMaps, addingRecords);
+                return;
+            }
+        }
         List<Integer> recordInsertIndexList;
         //If any existing records already contain the new values supplied for the MATCHING columns,
         //if so, those records are updated. If not, a new record is inserted.
@@ -934,6 +2294,153 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
         }
     }
 
+    /**
+     * Checks whether an update or insert operation can be executed through the single statement upsert query. This
+     * is the case when the condition only matches the primary key columns against stream variables, and every
+     * record to be added carries the same primary key values as its condition. Assignments to the primary key
+     * columns are dropped since they are implied by the match. Upsert queries without {{COLUMNS_AND_VALUES}}
+     * replace the whole row, hence those are only used when every column is assigned the value being added.
+     *
+     * @return the SET expressions to be used with the upsert query, or null if the upsert query is not applicable.
+     */
+    private Map<String, CompiledExpression> resolveUpsertSetExpressions(
+            RDBMSCompiledCondition compiledCondition, List<Map<String, Object>> updateConditionParameterMaps,
+            Map<String, CompiledExpression> updateSetExpressions, List<Map<String, Object>> updateSetParameterMaps,
+            List<Object[]> addingRecords) {
+        Map<String, String> conditionAttributes = compiledCondition.getEqualityConditionAttributes();
+        if (conditionAttributes == null || !conditionAttributes.keySet().equals(primaryKeyIndices.keySet())) {
+            return null;
+        }
+        boolean replacesRow = !recordUpsertQuery.contains(PLACEHOLDER_COLUMNS_VALUES);
+        //Columns which are assigned a single stream variable, which should match the value being added
+        Map<Integer, String> assignedAttributes = new HashMap<>();
+        Map<String, CompiledExpression> upsertSetExpressions = new LinkedHashMap<>();
+        for (Map.Entry<String, CompiledExpression> entry : updateSetExpressions.entrySet()) {
+            RDBMSCompiledCondition setExpression = (RDBMSCompiledCondition) entry.getValue();
+            Object parameter = setExpression.getParameters().get(1);
+            boolean isAssignment = QUESTION_MARK.equals(setExpression.getCompiledQuery()) &&
+                    parameter instanceof Attribute;
+            boolean isPrimaryKey = primaryKeyIndices.containsKey(entry.getKey());
+            if ((isPrimaryKey || replacesRow) && !isAssignment) {
+                return null;
+            }
+            if (isPrimaryKey || replacesRow) {
+                for (int i = 0; i < this.attributes.size(); i++) {
+                    if (this.attributes.get(i).getName().equals(entry.getKey())) {
+                        assignedAttributes.put(i, ((Attribute) parameter).getName());
+                    }
+                }
+            }
+            if (!isPrimaryKey) {
+                upsertSetExpressions.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (replacesRow ? assignedAttributes.size() != this.attributes.size() : upsertSetExpressions.isEmpty()) {
+            return null;
+        }
+        Iterator<Map<String, Object>> conditionParamIterator = updateConditionParameterMaps.iterator();
+        Iterator<Map<String, Object>> updateSetMapIterator = updateSetParameterMaps.iterator();
+        for (Object[] record : addingRecords) {
+            if (!conditionParamIterator.hasNext() || !updateSetMapIterator.hasNext()) {
+                return null;
+            }
+            Map<String, Object> conditionParameters = conditionParamIterator.next();
+            Map<String, Object> updateSetMap = updateSetMapIterator.next();
+            for (Map.Entry<String, Integer> primaryKey : primaryKeyIndices.entrySet()) {
+                Object value = record[primaryKey.getValue()];
+                if (value == null || !value.equals(conditionParameters.get(
+                        conditionAttributes.get(primaryKey.getKey())))) {
+                    return null;
+                }
+            }
+            for (Map.Entry<Integer, String> assignedAttribute : assignedAttributes.entrySet()) {
+                if (!Objects.equals(record[assignedAttribute.getKey()],
+                        updateSetMap.get(assignedAttribute.getValue()))) {
+                    return null;
+                }
+            }
+        }
+        return replacesRow ? Collections.emptyMap() : upsertSetExpressions;
+    }
+
+    private void processUpsert(RDBMSCompiledCondition compiledCondition,
+                               Map<String, CompiledExpression> upsertSetExpressions,
+                               List<Map<String, Object>> updateSetParameterMaps, List<Object[]> addingRecords)
+            throws ConnectionUnavailableException {
+        String query = compiledCondition.getPreparedQuery(Arrays.asList(recordUpsertQuery, upsertSetExpressions),
+                () -> functionRenderer.render(recordUpsertQuery.replace(PLACEHOLDER_COLUMNS_VALUES,
+                        upsertSetExpressions.entrySet().stream().map(e -> e.getKey() + " = " +
+                                ((RDBMSCompiledCondition) e.getValue()).getCompiledQuery())
+                                .collect(Collectors.joining(", ")))));
+        Connection conn = this.getConnection(false);
+        PreparedStatement upsertStmt = null;
+        try {
+            upsertStmt = conn.prepareStatement(query);
+            Iterator<Object[]> recordIterator = addingRecords.iterator();
+            Iterator<Map<String, Object>> updateSetMapIterator = updateSetParameterMaps.iterator();
+            int counter = 0;
+            while (recordIterator.hasNext() && updateSetMapIterator.hasNext()) {
+                //The values of the record precede the parameters of the SET expressions in the upsert query
+                this.populateStatement(recordIterator.next(), upsertStmt);
+                RDBMSTableUtils.enumerateUpdateSetEntries(upsertSetExpressions, upsertStmt,
+                        updateSetMapIterator.next(), this.attributes.size() + 1, typeMapping);
+                counter++;
+                if (!batchEnable) {
+                    this.updateUpsertMetrics(new int[]{upsertStmt.executeUpdate()});
+                    conn.commit();
+                } else {
+                    upsertStmt.addBatch();
+                    if (counter % batchSize == 0) {
+                        this.updateUpsertMetrics(upsertStmt.executeBatch());
+                        conn.commit();
+                        upsertStmt.clearBatch();
+                    }
+                }
+            }
+            if (batchEnable && counter % batchSize > 0) {
+                this.updateUpsertMetrics(upsertStmt.executeBatch());
+                conn.commit();
+            }
+        } catch (SQLException e) {
+            if (metrics != null) {
+                metrics.setRDBMSStatus(RDBMSStatus.ERROR);
+            }
+            try {
+                boolean isConnValid = conn.isValid(0);
+                RDBMSTableUtils.rollbackConnection(conn);
+                if (!isConnValid) {
+                    throw new ConnectionUnavailableException("Could not execute update/insert operation (upsert). " +
+                            "Connection is closed for store: '" + tableName + "'", e);
+                } else {
+                    throw new RDBMSTableException("Could not execute update/insert operation (upsert) for store '"
+                            + this.tableName + "'", e);
+                }
+            } catch (SQLException e1) {
+                throw new RDBMSTableException("Could not execute update/insert operation (upsert) " +
+                        "for store: '" + tableName + "'", e1);
+            }
+        } finally {
+            RDBMSTableUtils.cleanupConnection(null, upsertStmt, conn);
+        }
+    }
+
+    private void updateUpsertMetrics(int[] upsertResultIndex) {
+        if (metrics != null) {
+            //Drivers report updated rows differently for upserts, hence each executed statement is counted once
+            int count = 0;
+            for (int result : upsertResultIndex) {
+                if (result != 0 && result != Statement.EXECUTE_FAILED) {
+                    count++;
+                }
+            }
+            if (count > 0) {
+                metrics.getWritesCountMetrics().inc(count);
+                metrics.getTotalWriteMetrics().inc(count);
+            }
+            metrics.setRDBMSStatus(RDBMSStatus.PROCESSING);
+        }
+    }
+
     private List<Integer> batchProcessUpdate(List<Map<String, Object>> updateConditionParameterMaps,
                                              CompiledCondition compiledCondition,
                                              Map<String, CompiledExpression> updateSetExpressions,
@@ -1001,8 +2508,7 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
         PreparedStatement updateStmt = null;
         List<Integer> updateResultList = new ArrayList<>();
         try {
-            updateStmt = conn.prepareStatement(this.composeUpdateQuery(compiledCondition,
-                    updateSetExpressions));
+            updateStmt = conn.prepareStatement(this.composeUpdateQuery(compiledCondition, updateSetExpressions));
             while (counter < updateSetParameterMaps.size()) {
                 Map<String, Object> conditionParameters = updateConditionParameterMaps.get(counter);
                 Map<String, Object> updateSetParameterMap = updateSetParameterMaps.get(counter);
@@ -1048,7 +2554,7 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
     }
 
     private void batchProcessInsert(List<Object[]> addingRecords) throws ConnectionUnavailableException {
-        String query = this.composeInsertQuery();
+        String query = insertQuery;
         Connection conn = this.getConnection(false);
         PreparedStatement insertStmt = null;
         try {
@@ -1156,11 +2662,100 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
 
     @Override
     protected CompiledCondition compileCondition(ExpressionBuilder expressionBuilder) {
-        RDBMSConditionVisitor visitor = new RDBMSConditionVisitor(this.tableName, false);
+        RDBMSConditionVisitor visitor = new RDBMSConditionVisitor(this.tableName, false, true);
         expressionBuilder.build(visitor);
-        return new RDBMSCompiledCondition(visitor.returnCondition(), visitor.getParameters(),
-                visitor.isContainsConditionExist(), visitor.getOrdinalOfContainPattern(), false, null, null,
-                expressionBuilder.getUpdateOrInsertReducer(), expressionBuilder.getInMemorySetExpressionExecutor());
+        RDBMSCompiledCondition compiledCondition = new RDBMSCompiledCondition(visitor.returnCondition(),
+                visitor.getParameters(), visitor.isContainsConditionExist(), visitor.getOrdinalOfContainPattern(),
+                false, null, null, expressionBuilder.getUpdateOrInsertReducer(),
+                expressionBuilder.getInMemorySetExpressionExecutor());
+        if (!visitor.getResidualConjuncts().isEmpty()) {
+            //Conjuncts using functions which cannot be pushed down are applied to the records read from the database
+            compiledCondition.setResidualCondition(new RDBMSResidualCondition(expressionBuilder.getExpression(),
+                    visitor.getResidualConjuncts(), visitor.getResidualVariables(), this.attributes,
+                    expressionBuilder.getTableMap(), expressionBuilder.getSiddhiQueryContext()));
+        }
+        compiledCondition.setEqualityConditionAttributes(visitor.getEqualityConditionAttributes());
+        compiledCondition.setPrimaryKeyParameterNames(this.resolvePrimaryKeyParameterNames(compiledCondition));
+        if (mirror) {
+            this.resolveMirrorCondition(compiledCondition);
+        }
+        return compiledCondition;
+    }
+
+    /**
+     * Resolves the columns and parameters with which the given condition is evaluated against the table mirror.
+     * This is possible when the condition is a conjunction of equalities between columns and stream variables of
+     * the same type, or when it matches all rows.
+     */
+    private void resolveMirrorCondition(RDBMSCompiledCondition compiledCondition) {
+        Map<String, String> conditionAttributes = compiledCondition.getEqualityConditionAttributes();
+        if (conditionAttributes == null) {
+            Object parameter = compiledCondition.getParameters().get(1);
+            if (QUESTION_MARK.equals(compiledCondition.getCompiledQuery()) && parameter instanceof Constant &&
+                    Boolean.TRUE.equals(((Constant) parameter).getValue())) {
+                compiledCondition.setMirrorCondition(new int[0], new String[0]);
+            }
+            return;
+        }
+        Map<String, Attribute.Type> parameterTypes = new HashMap<>();
+        for (Object parameter : compiledCondition.getParameters().values()) {
+            if (parameter instanceof Attribute) {
+                parameterTypes.put(((Attribute) parameter).getName(), ((Attribute) parameter).getType());
+            }
+        }
+        int[] columnIndices = new int[conditionAttributes.size()];
+        String[] parameterNames = new String[conditionAttributes.size()];
+        int i = 0;
+        for (Map.Entry<String, String> conditionAttribute : conditionAttributes.entrySet()) {
+            int columnIndex = this.attributeIndex(conditionAttribute.getKey());
+            if (columnIndex < 0 ||
+                    this.attributes.get(columnIndex).getType() != parameterTypes.get(conditionAttribute.getValue())) {
+                return;
+            }
+            columnIndices[i] = columnIndex;
+            parameterNames[i++] = conditionAttribute.getValue();
+        }
+        compiledCondition.setMirrorCondition(columnIndices, parameterNames);
+    }
+
+    private int attributeIndex(String attributeName) {
+        for (int i = 0; i < attributes.size(); i++) {
+            if (attributes.get(i).getName().equals(attributeName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Resolves the names of the parameters holding the primary key values if the given condition is an equality on
+     * exactly the primary key columns, where each stream variable has the type of its column. The latter ensures
+     * that the values can be used as primary key cache keys.
+     *
+     * @return the parameter names in primary key order, or null if the condition is not a primary key lookup.
+     */
+    private String[] resolvePrimaryKeyParameterNames(RDBMSCompiledCondition compiledCondition) {
+        Map<String, String> conditionAttributes = compiledCondition.getEqualityConditionAttributes();
+        if (conditionAttributes == null || primaryKeyIndices.isEmpty() ||
+                !conditionAttributes.keySet().equals(primaryKeyIndices.keySet())) {
+            return null;
+        }
+        Map<String, Attribute.Type> parameterTypes = new HashMap<>();
+        for (Object parameter : compiledCondition.getParameters().values()) {
+            if (parameter instanceof Attribute) {
+                parameterTypes.put(((Attribute) parameter).getName(), ((Attribute) parameter).getType());
+            }
+        }
+        String[] parameterNames = new String[primaryKeyIndices.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> primaryKey : primaryKeyIndices.entrySet()) {
+            String parameterName = conditionAttributes.get(primaryKey.getKey());
+            if (this.attributes.get(primaryKey.getValue()).getType() != parameterTypes.get(parameterName)) {
+                return null;
+            }
+            parameterNames[i++] = parameterName;
+        }
+        return parameterNames;
     }
 
 
@@ -1174,23 +2769,8 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
         try {
             if (dataSource == null) {
                 if (!RDBMSTableUtils.isEmpty(dataSourceName)) {
-                    BundleContext bundleContext = FrameworkUtil.getBundle(DataSourceService.class)
-                            .getBundleContext();
-                    ServiceReference serviceRef = bundleContext.getServiceReference(DataSourceService.class
-                            .getName());
-                    if (serviceRef == null) {
-                        throw new DataSourceException("DatasourceService : '" +
-                                DataSourceService.class.getCanonicalName() + "' cannot be found.");
-                    } else {
-                        DataSourceService dataSourceService = (DataSourceService) bundleContext
-                                .getService(serviceRef);
-                        this.dataSource = (HikariDataSource) dataSourceService.getDataSource(dataSourceName);
-                        this.isLocalDatasource = false;
-                        if (log.isDebugEnabled()) {
-                            log.debug("Lookup for datasource '" + dataSourceName + "' completed through " +
-                                    "DataSource Service lookup.");
-                        }
-                    }
+                    this.dataSource = this.lookupCarbonDatasource(dataSourceName);
+                    this.isLocalDatasource = false;
                 } else {
                     if (!RDBMSTableUtils.isEmpty(jndiResourceName)) {
                         this.lookupDatasource(jndiResourceName);
@@ -1199,142 +2779,103 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
                     }
                 }
             }
+            if (readDataSource == null) {
+                if (!RDBMSTableUtils.isEmpty(readDataSourceName)) {
+                    this.readDataSource = this.lookupCarbonDatasource(readDataSourceName);
+                    this.isLocalReadDatasource = false;
+                } else if (!RDBMSTableUtils.isEmpty(readJdbcUrl)) {
+                    this.readDataSource = RDBMSDataSourceRegistry.acquire(this.createConnectionProperties(
+                            storeAnnotation, readJdbcUrl.trim()));
+                    this.isLocalReadDatasource = true;
+                    if (log.isDebugEnabled()) {
+                        log.debug("Database connection for reads of '" + this.tableName + "' created through " +
+                                "connection parameters specified in the query.");
+                    }
+                }
+            }
+            if (metrics != null) {
+                // The database behind the pool does not change, hence its metadata is recorded once on connect
+                Map<String, Object> databaseInfo = RDBMSTableUtils.lookupDatabaseInfo(this.dataSource);
+                metrics.setDatabaseParams((String) databaseInfo.get(DATABASE_URL),
+                        (String) databaseInfo.get(DATABASE_CATALOG), (String) databaseInfo.get(DATABASE_PRODUCT_NAME));
+            }
             if (this.queryConfigurationEntry == null) {
-                this.queryConfigurationEntry = RDBMSTableUtils.lookupCurrentQueryConfigurationEntry(this.dataSource,
-                        this.configReader);
-                selectQuery = this.resolveTableName(configReader.readConfig(
-                        this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + RECORD_SELECT_QUERY,
-                        this.queryConfigurationEntry.getRecordSelectQuery()));
-                containsQuery = this.resolveTableName(configReader.readConfig(
-                        this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + RECORD_EXISTS_QUERY,
-                        this.queryConfigurationEntry.getRecordExistsQuery()));
-                deleteQuery = this.resolveTableName(configReader.readConfig(
-                        this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + RECORD_DELETE_QUERY,
-                        this.queryConfigurationEntry.getRecordDeleteQuery()));
-                batchSize = Integer.parseInt(configReader.readConfig(
-                        this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + BATCH_SIZE,
-                        String.valueOf(this.queryConfigurationEntry.getBatchSize())));
-                fieldSizeLimit = Integer.parseInt(configReader.readConfig(
-                        this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + FIELD_SIZE_LIMIT,
-                        String.valueOf(this.queryConfigurationEntry.getFieldSizeLimit())));
-                insertQuery = this.resolveTableName(configReader.readConfig(
-                        this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + RECORD_INSERT_QUERY,
-                        this.queryConfigurationEntry.getRecordInsertQuery()));
-                insertQuery = this.insertColumnNames();
-                recordUpdateQuery = this.resolveTableName(configReader.readConfig(
-                        this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + RECORD_UPDATE_QUERY,
-                        this.queryConfigurationEntry.getRecordUpdateQuery()));
+                RDBMSDialect dialect = RDBMSTableUtils.lookupDialect(this.dataSource, this.configReader);
+                this.queryConfigurationEntry = dialect.getQueryConfigurationEntry();
+                selectQuery = this.insertColumnNames(this.resolveTableName(dialect.getRecordSelectQuery()));
+                containsQuery = this.resolveTableName(dialect.getRecordExistsQuery());
+                deleteQuery = this.resolveTableName(dialect.getRecordDeleteQuery());
+                batchSize = dialect.getBatchSize();
+                fieldSizeLimit = dialect.getFieldSizeLimit();
+                if (RDBMSTableUtils.isEmpty(storeAnnotation.getElement(ANNOTATION_ELEMENT_FETCH_SIZE))) {
+                    fetchSize = dialect.getFetchSize();
+                }
+                streamingMode = dialect.getStreamingMode();
+                insertQuery = this.composeInsertQuery(this.insertColumnNames(this.resolveTableName(
+                        dialect.getRecordInsertQuery())));
+                if (multiRowInsert) {
+                    multiInsertQuery = this.resolveTableName(dialect.getRecordMultiInsertQuery());
+                    int multiInsertParameterLimit = dialect.getMultiInsertParameterLimit();
+                    if (RDBMSTableUtils.isEmpty(multiInsertQuery) || multiInsertParameterLimit <= 0) {
+                        log.warn("Multi-row insert is enabled for store '" + this.tableName + "' but '" +
+                                RECORD_MULTI_INSERT_QUERY + "' or '" + MULTI_INSERT_PARAMETER_LIMIT + "' is not " +
+                                "configured for database type '" + this.queryConfigurationEntry.getDatabaseName() +
+                                "'. Hence batched single-row inserts will be used.");
+                    } else {
+                        multiInsertQuery = this.insertColumnNames(multiInsertQuery);
+                        multiInsertRowsPerStatement = Math.min(batchSize,
+                                multiInsertParameterLimit / this.attributes.size());
+                    }
+                }
+                if (copyBulkLoad) {
+                    this.initializeCopyLoader(dialect);
+                }
+                recordUpdateQuery = this.resolveTableName(dialect.getRecordUpdateQuery());
+                recordUpsertQuery = this.composeUpsertQuery(dialect.getRecordUpsertQuery());
                 if (tableCheckQuery == null) {
-                    tableCheckQuery = this.resolveTableName(configReader.readConfig(
-                            this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + TABLE_CHECK_QUERY,
-                            this.queryConfigurationEntry.getTableCheckQuery()));
-                }
-                createQuery = this.resolveTableName(configReader.readConfig(
-                        this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + TABLE_CREATE_QUERY,
-                        this.queryConfigurationEntry.getTableCreateQuery()));
-                indexQuery = this.resolveTableName(configReader.readConfig(
-                        this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR + INDEX_CREATE_QUERY,
-                        this.queryConfigurationEntry.getIndexCreateQuery()));
-                batchEnable = Boolean.parseBoolean(configReader.readConfig(
-                        this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
-                                BATCH_ENABLE, String.valueOf(this.queryConfigurationEntry.getBatchEnable())));
-                transactionSupported = Boolean.parseBoolean(configReader.readConfig(
-                        this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
-                                TRANSACTION_SUPPORTED, String.valueOf(
-                                this.queryConfigurationEntry.isTransactionSupported())));
-                collation = configReader.readConfig(
-                        this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
-                                COLLATION, String.valueOf(this.queryConfigurationEntry.getCollation()));
-                typeMapping = this.queryConfigurationEntry.getRdbmsTypeMapping();
-                booleanType = configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + TYPE_MAPPING + PROPERTY_SEPARATOR + BOOLEAN_TYPE,
-                        typeMapping.getBooleanType().getTypeName());
-                doubleType = configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + TYPE_MAPPING + PROPERTY_SEPARATOR + DOUBLE_TYPE,
-                        typeMapping.getDoubleType().getTypeName());
-                floatType = configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + TYPE_MAPPING + PROPERTY_SEPARATOR + FLOAT_TYPE,
-                        typeMapping.getFloatType().getTypeName());
-                integerType = configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + TYPE_MAPPING + PROPERTY_SEPARATOR + INTEGER_TYPE,
-                        typeMapping.getIntegerType().getTypeName());
-                longType = configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + TYPE_MAPPING + PROPERTY_SEPARATOR + LONG_TYPE,
-                        typeMapping.getLongType().getTypeName());
-                binaryType = configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + TYPE_MAPPING + PROPERTY_SEPARATOR + BINARY_TYPE,
-                        typeMapping.getBinaryType().getTypeName());
-                stringType = configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + TYPE_MAPPING + PROPERTY_SEPARATOR + STRING_TYPE,
-                        typeMapping.getStringType().getTypeName());
-                bigStringType = configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + TYPE_MAPPING + PROPERTY_SEPARATOR + BIG_STRING_TYPE,
-                        typeMapping.getBigStringType() != null ? typeMapping.getBigStringType().getTypeName() : null);
-                stringSize = configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + STRING_SIZE,
-                        this.queryConfigurationEntry.getStringSize());
-                recordContainsConditionTemplate = configReader.readConfig(
-                        this.queryConfigurationEntry.getDatabaseName() + PROPERTY_SEPARATOR +
-                                RECORD_CONTAINS_CONDITION, this.queryConfigurationEntry.
-                                getRecordContainsCondition()).replace(PLACEHOLDER_VALUES, QUESTION_MARK);
-
-                RDBMSSelectQueryTemplate rdbmsSelectQueryTemplate =
-                        this.queryConfigurationEntry.getRdbmsSelectQueryTemplate();
-                this.rdbmsSelectQueryTemplate = new RDBMSSelectQueryTemplate();
-
-                this.rdbmsSelectQueryTemplate.setSelectClause(resolveTableName(
-                        configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + SELECT_QUERY_TEMPLATE + PROPERTY_SEPARATOR
-                                + SELECT_CLAUSE, rdbmsSelectQueryTemplate.getSelectClause())));
-                this.rdbmsSelectQueryTemplate.setSelectQueryWithSubSelect(resolveTableName(
-                        configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                        PROPERTY_SEPARATOR + SELECT_QUERY_TEMPLATE + PROPERTY_SEPARATOR
-                                        + SELECT_QUERY_WITH_SUB_SELECT_TEMPLATE,
-                                rdbmsSelectQueryTemplate.getSelectQueryWithSubSelect())));
-                this.rdbmsSelectQueryTemplate.setWhereClause(resolveTableName(
-                        configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + SELECT_QUERY_TEMPLATE + PROPERTY_SEPARATOR
-                                + WHERE_CLAUSE, rdbmsSelectQueryTemplate.getWhereClause())));
-                this.rdbmsSelectQueryTemplate.setGroupByClause(
-                        configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + SELECT_QUERY_TEMPLATE + PROPERTY_SEPARATOR
-                                + GROUP_BY_CLAUSE, rdbmsSelectQueryTemplate.getGroupByClause()));
-                this.rdbmsSelectQueryTemplate.setHavingClause(
-                        configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + SELECT_QUERY_TEMPLATE + PROPERTY_SEPARATOR
-                                + HAVING_CLAUSE, rdbmsSelectQueryTemplate.getHavingClause()));
-                this.rdbmsSelectQueryTemplate.setOrderByClause(
-                        configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + SELECT_QUERY_TEMPLATE + PROPERTY_SEPARATOR
-                                + ORDER_BY_CLAUSE, rdbmsSelectQueryTemplate.getOrderByClause()));
-                this.rdbmsSelectQueryTemplate.setLimitClause(
-                        configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + SELECT_QUERY_TEMPLATE + PROPERTY_SEPARATOR
-                                + LIMIT_CLAUSE, rdbmsSelectQueryTemplate.getLimitClause()));
-                this.rdbmsSelectQueryTemplate.setOffsetClause(
-                        configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                PROPERTY_SEPARATOR + SELECT_QUERY_TEMPLATE + PROPERTY_SEPARATOR
-                                + OFFSET_CLAUSE, rdbmsSelectQueryTemplate.getOffsetClause()));
-                this.rdbmsSelectQueryTemplate.setIsLimitBeforeOffset(
-                        configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                        PROPERTY_SEPARATOR + SELECT_QUERY_TEMPLATE + PROPERTY_SEPARATOR
-                                        + IS_LIMIT_BEFORE_OFFSET,
-                                rdbmsSelectQueryTemplate.getIsLimitBeforeOffset()));
-                this.rdbmsSelectQueryTemplate.setQueryWrapperClause(
-                        configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                        PROPERTY_SEPARATOR + SELECT_QUERY_TEMPLATE + PROPERTY_SEPARATOR
-                                        + QUERY_WRAPPER_CLAUSE,
-                                rdbmsSelectQueryTemplate.getQueryWrapperClause()));
-                this.rdbmsSelectQueryTemplate.setLimitWrapperClause(
-                        configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                        PROPERTY_SEPARATOR + SELECT_QUERY_TEMPLATE + PROPERTY_SEPARATOR
-                                        + LIMIT_WRAPPER_CLAUSE,
-                                rdbmsSelectQueryTemplate.getLimitWrapperClause()));
-                this.rdbmsSelectQueryTemplate.setOffsetWrapperClause(
-                        configReader.readConfig(this.queryConfigurationEntry.getDatabaseName() +
-                                        PROPERTY_SEPARATOR + SELECT_QUERY_TEMPLATE + PROPERTY_SEPARATOR
-                                        + OFFSET_WRAPPER_CLAUSE,
-                                rdbmsSelectQueryTemplate.getOffsetWrapperClause()));
+                    tableCheckQuery = this.resolveTableName(dialect.getTableCheckQuery());
+                }
+                createQuery = this.resolveTableName(dialect.getTableCreateQuery());
+                indexQuery = this.resolveTableName(dialect.getIndexCreateQuery());
+                batchEnable = dialect.isBatchEnable();
+                transactionSupported = dialect.isTransactionSupported();
+                collation = dialect.getCollation();
+                typeMapping = dialect.getTypeMapping();
+                recordBinders = this.attributes.stream()
+                        .map(attribute -> RDBMSValueBinder.forType(attribute.getType(), typeMapping))
+                        .toArray(RDBMSValueBinder[]::new);
+                booleanType = dialect.getBooleanType();
+                doubleType = dialect.getDoubleType();
+                floatType = dialect.getFloatType();
+                integerType = dialect.getIntegerType();
+                longType = dialect.getLongType();
+                binaryType = dialect.getBinaryType();
+                stringType = dialect.getStringType();
+                bigStringType = dialect.getBigStringType();
+                stringSize = dialect.getStringSize();
+                recordContainsConditionTemplate = dialect.getRecordContainsCondition();
+                // The templates are shared by the tables of the dialect, hence the table name is resolved on use
+                this.rdbmsSelectQueryTemplate = dialect.getSelectQueryTemplate();
+                this.functionRenderer = dialect.getFunctionRenderer();
+            }
+            if ((primaryKeyCacheSize > 0 || primaryKeyCacheMaxMemory > 0) && this.primaryKeyCache == null) {
+                this.primaryKeyCache = new RDBMSPrimaryKeyCache(primaryKeyCacheSize,
+                        primaryKeyCacheMaxMemory * 1024L * 1024L, primaryKeyCacheExpiryTime, metrics);
+            }
+            if (queryCacheExpiryTime > 0 && this.queryResultCache == null) {
+                this.queryResultCache = new RDBMSQueryResultCache(queryCacheMaxMemory * 1024L * 1024L,
+                        queryCacheExpiryTime, metrics);
+            }
+            if (keysetPagination && this.keysetPageIndex == null) {
+                this.keysetPageIndex = new RDBMSKeysetPageIndex(KEYSET_PAGINATION_MAX_BOUNDARIES);
+            }
+            if (keyLookupBatchSize > 0 && this.keyLookupBatcher == null) {
+                this.keyLookupBatcher = new RDBMSKeyLookupBatcher(keyLookupBatchSize, keyLookupConcurrency,
+                        this::readByPrimaryKeys);
+            }
+            if (writeBehind && this.writeBehindBuffer == null) {
+                this.writeBehindBuffer = new RDBMSWriteBehindBuffer(this.tableName, new WriteBehindWriter(),
+                        metrics, writeBehindBufferSize, writeBehindFlushSize, writeBehindFlushInterval);
             }
             if (!this.tableExists()) {
                 this.createTable(storeAnnotation, primaryKeys, indices);
@@ -1342,6 +2883,22 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
                     log.debug("A table: " + this.tableName + " is created with the provided information.");
                 }
             }
+            if (bloomFilterSize > 0 && this.bloomFilter == null) {
+                this.rebuildBloomFilter();
+            }
+            if (mirror) {
+                if (this.tableMirror == null) {
+                    this.tableMirror = new RDBMSTableMirror(primaryKeyColumnIndices, mirrorIndexedColumns);
+                }
+                this.reloadMirror();
+                if (mirrorRefreshInterval > 0 && this.mirrorRefreshFuture == null) {
+                    this.mirrorRefreshFuture = siddhiAppContext.getScheduledExecutorService().scheduleWithFixedDelay(
+                            this::refreshMirror, mirrorRefreshInterval, mirrorRefreshInterval, TimeUnit.MILLISECONDS);
+                }
+            }
+            if (this.writeBehindBuffer != null) {
+                this.writeBehindBuffer.start(siddhiAppContext.getExecutorService());
+            }
         } catch (CannotLoadConfigurationException | NamingException | RDBMSTableException e) {
             this.destroy();
             throw new ConnectionUnavailableException("Failed to initialize store for table name '" +
@@ -1358,22 +2915,69 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
 
     @Override
     public void disconnect() {
+        if (this.writeBehindBuffer != null) {
+            this.writeBehindBuffer.stop();
+        }
+        if (this.primaryKeyCache != null) {
+            this.primaryKeyCache.invalidateAll();
+        }
+        if (this.queryResultCache != null) {
+            this.queryResultCache.invalidateAll();
+        }
+        if (this.keysetPageIndex != null) {
+            this.keysetPageIndex.invalidateAll();
+        }
+        if (this.mirrorRefreshFuture != null) {
+            this.mirrorRefreshFuture.cancel(false);
+            this.mirrorRefreshFuture = null;
+        }
+        if (this.tableMirror != null) {
+            this.tableMirror.invalidate();
+        }
         if (dataSource != null && isLocalDatasource) {
-            dataSource.close();
-            if (log.isDebugEnabled()) {
-                log.debug("Closing the pool name: " + dataSource.getPoolName());
-            }
+            RDBMSDataSourceRegistry.release(dataSource);
+            dataSource = null;
+        }
+        if (readDataSource != null && isLocalReadDatasource) {
+            RDBMSDataSourceRegistry.release(readDataSource);
+            readDataSource = null;
         }
     }
 
     @Override
     public void destroy() {
         this.disconnect();
+        if (this.writeBehindBuffer != null && this.writeBehindBuffer.getDepth() > 0) {
+            log.error("Dropped " + this.writeBehindBuffer.getDepth() + " buffered rows of store '" +
+                    this.tableName + "' as they could not be written before the store was destroyed.");
+        }
         if (log.isDebugEnabled()) {
             log.debug("Destroyed RDBMS Store instance");
         }
     }
 
+    /**
+     * Method for looking up a datasource instance through the Carbon DataSource Service.
+     *
+     * @param name the name of the datasource to be looked up.
+     * @return the datasource.
+     * @throws DataSourceException if the lookup fails.
+     */
+    private HikariDataSource lookupCarbonDatasource(String name) throws DataSourceException {
+        BundleContext bundleContext = FrameworkUtil.getBundle(DataSourceService.class).getBundleContext();
+        ServiceReference serviceRef = bundleContext.getServiceReference(DataSourceService.class.getName());
+        if (serviceRef == null) {
+            throw new DataSourceException("DatasourceService : '" +
+                    DataSourceService.class.getCanonicalName() + "' cannot be found.");
+        }
+        DataSourceService dataSourceService = (DataSourceService) bundleContext.getService(serviceRef);
+        HikariDataSource carbonDataSource = (HikariDataSource) dataSourceService.getDataSource(name);
+        if (log.isDebugEnabled()) {
+            log.debug("Lookup for datasource '" + name + "' completed through DataSource Service lookup.");
+        }
+        return carbonDataSource;
+    }
+
     /**
      * Method for looking up a datasource instance through JNDI.
      *
@@ -1392,9 +2996,10 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
     /**
      * Method for composing the SQL query for INSERT operations with proper placeholders.
      *
+     * @param query the insert query template with the column names resolved.
      * @return the composed SQL query in string form.
      */
-    private String composeInsertQuery() {
+    private String composeInsertQuery(String query) {
         StringBuilder params = new StringBuilder();
         int fieldsLeft = this.attributes.size();
         while (fieldsLeft > 0) {
@@ -1404,27 +3009,117 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
             }
             fieldsLeft = fieldsLeft - 1;
         }
-        return insertQuery.replace(PLACEHOLDER_Q, params.toString());
+        return query.replace(PLACEHOLDER_Q, params.toString());
     }
 
-    private String insertColumnNames() {
+    private String insertColumnNames(String query) {
         StringBuilder columnNames = new StringBuilder();
         for (int i = 0; i < attributes.size(); i++) {
             columnNames.append(attributes.get(i).getName()).append(WHITESPACE).append(SEPARATOR);
         }
         //Deleting the last two characters to remove the WHITESPACE and SEPARATOR
         columnNames.delete(columnNames.length() - 2, columnNames.length() - 1);
-        return insertQuery.replace(PLACEHOLDER_COLUMNS, columnNames.toString());
+        return query.replace(PLACEHOLDER_COLUMNS, columnNames.toString());
     }
 
     /**
-     * Method for composing the SQL query for UPDATE operations with proper placeholders.
+     * Initializes the COPY based bulk loader if the database type, the table attributes and the underlying
+     * connections support it. Otherwise the regular insert path is retained.
+     *
+     * @param dialect the dialect of the database.
+     */
+    private void initializeCopyLoader(RDBMSDialect dialect) throws ConnectionUnavailableException {
+        String copyQuery = this.resolveTableName(dialect.getRecordCopyQuery());
+        if (RDBMSTableUtils.isEmpty(copyQuery)) {
+            log.warn("COPY bulk load is enabled for store '" + this.tableName + "' but '" + RECORD_COPY_QUERY +
+                    "' is not configured for database type '" + this.queryConfigurationEntry.getDatabaseName() +
+                    "'. Hence regular inserts will be used.");
+            return;
+        }
+        if (!PostgreSQLCopyLoader.isSupported(this.attributes)) {
+            log.warn("COPY bulk load is enabled for store '" + this.tableName + "' but the table contains " +
+                    "'object' attributes which cannot be loaded through COPY. Hence regular inserts will be used.");
+            return;
+        }
+        Connection conn = this.getConnection();
+        try {
+            if (!PostgreSQLCopyLoader.isSupported(conn)) {
+                log.warn("COPY bulk load is enabled for store '" + this.tableName + "' but the connections of " +
+                        "the datasource do not support the PostgreSQL COPY API. Hence regular inserts will be used.");
+                return;
+            }
+        } finally {
+            RDBMSTableUtils.cleanupConnection(null, null, conn);
+        }
+        this.copyLoader = new PostgreSQLCopyLoader(this.insertColumnNames(copyQuery), this.attributes);
+    }
+
+    /**
+     * Method for composing the SQL query for multi-row INSERT operations with proper placeholders.
+     *
+     * @param rowCount the number of rows the statement should carry.
+     * @return the composed SQL query in string form.
+     */
+    private String composeMultiInsertQuery(int rowCount) {
+        StringBuilder row = new StringBuilder(OPEN_PARENTHESIS);
+        for (int i = 0; i < this.attributes.size(); i++) {
+            row.append(QUESTION_MARK);
+            if (i < this.attributes.size() - 1) {
+                row.append(SEPARATOR);
+            }
+        }
+        row.append(CLOSE_PARENTHESIS);
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < rowCount; i++) {
+            rows.append(row);
+            if (i < rowCount - 1) {
+                rows.append(SEPARATOR);
+            }
+        }
+        return multiInsertQuery.replace(PLACEHOLDER_ROWS, rows.toString());
+    }
+
+    /**
+     * Method for composing the SQL query for single statement UPSERT operations with the placeholders other than
+     * the SET expressions resolved.
+     *
+     * @param upsertQuery the upsert query template of the database.
+     * @return the composed SQL query in string form, or null if upsert is not supported for the store.
+     */
+    private String composeUpsertQuery(String upsertQuery) {
+        if (RDBMSTableUtils.isEmpty(upsertQuery) || primaryKeyIndices.isEmpty()) {
+            return null;
+        }
+        String primaryKeysMatch = primaryKeyIndices.keySet().stream().map(key -> this.tableName + "." + key +
+                " = " + UPSERT_SOURCE_REF + "." + key).collect(Collectors.joining(SQL_AND));
+        String valuesAsColumns = this.attributes.stream().map(attribute -> QUESTION_MARK + SQL_AS +
+                attribute.getName()).collect(Collectors.joining(SEPARATOR));
+        String sourceColumns = this.attributes.stream().map(attribute -> UPSERT_SOURCE_REF + "." +
+                attribute.getName()).collect(Collectors.joining(SEPARATOR));
+        String query = this.resolveTableName(upsertQuery)
+                .replace(PLACEHOLDER_PRIMARY_KEYS_MATCH, primaryKeysMatch)
+                .replace(PLACEHOLDER_PRIMARY_KEYS, String.join(SEPARATOR, primaryKeyIndices.keySet()))
+                .replace(PLACEHOLDER_VALUES_AS_COLUMNS, valuesAsColumns)
+                .replace(PLACEHOLDER_SOURCE_COLUMNS, sourceColumns);
+        return this.insertColumnNames(query.replace(PLACEHOLDER_Q,
+                String.join(SEPARATOR, Collections.nCopies(this.attributes.size(), QUESTION_MARK))));
+    }
+
+    /**
+     * Method for composing the SQL query for UPDATE operations with proper placeholders. The query is composed once
+     * per compiled condition and set expressions, and retained on the compiled condition.
      *
      * @return the composed SQL query in string form.
      */
     private String composeUpdateQuery(CompiledCondition compiledCondition,
                                       Map<String, CompiledExpression> updateSetExpressions) {
-        String condition = ((RDBMSCompiledCondition) compiledCondition).getCompiledQuery();
+        RDBMSCompiledCondition rdbmsCompiledCondition = (RDBMSCompiledCondition) compiledCondition;
+        return rdbmsCompiledCondition.getPreparedQuery(updateSetExpressions,
+                () -> functionRenderer.render(this.composeUpdateQuery(rdbmsCompiledCondition.getCompiledQuery(),
+                        updateSetExpressions)));
+    }
+
+    private String composeUpdateQuery(String condition, Map<String, CompiledExpression> updateSetExpressions) {
         String result = updateSetExpressions.entrySet().stream().map(e -> e.getKey()
                 + " = " + ((RDBMSCompiledCondition) e.getValue()).getCompiledQuery())
                 .collect(Collectors.joining(", "));
@@ -1437,15 +3132,78 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
     }
 
 
+    /**
+     * Method for composing a query template with the condition of the given compiled condition. The query is
+     * composed once per compiled condition and template, and retained on the compiled condition.
+     *
+     * @param queryTemplate     the query template containing the condition placeholder.
+     * @param compiledCondition the compiled condition.
+     * @return the composed SQL query in string form.
+     */
+    private String composeConditionalQuery(String queryTemplate, RDBMSCompiledCondition compiledCondition) {
+        return compiledCondition.getPreparedQuery(queryTemplate, () -> {
+            String condition = compiledCondition.getCompiledQuery();
+            return functionRenderer.render(RDBMSTableUtils.isEmpty(condition) ?
+                    queryTemplate.replace(PLACEHOLDER_CONDITION, "") :
+                    RDBMSTableUtils.formatQueryWithCondition(queryTemplate, condition));
+        });
+    }
+
+    /**
+     * Prepares a forward-only, read-only statement for reads whose results are iterated by {@link RDBMSIterator},
+     * applying the configured fetch size. For databases streaming row by row (e.g. MySQL) the fetch size is set to
+     * {@link Integer#MIN_VALUE}, which makes the driver stream the results instead of buffering them.
+     *
+     * @param conn the connection on which the statement should be prepared.
+     * @param sql  the SQL of the statement.
+     * @return the prepared statement.
+     * @throws SQLException if the statement cannot be prepared.
+     */
+    private PreparedStatement prepareReadStatement(Connection conn, String sql) throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY);
+        if (fetchSize > 0) {
+            stmt.setFetchSize(STREAMING_MODE_ROW.equalsIgnoreCase(streamingMode) ? Integer.MIN_VALUE : fetchSize);
+        }
+        return stmt;
+    }
+
     /**
      * Method for creating and initializing the datasource instance given the "@Store" annotation.
      *
      * @param storeAnnotation the source annotation which contains the needed parameters.
      */
     private void initializeDatasource(Annotation storeAnnotation) {
+        String url = storeAnnotation.getElement(ANNOTATION_ELEMENT_URL);
+        this.dataSource = RDBMSDataSourceRegistry.acquire(this.createConnectionProperties(storeAnnotation, url));
+        this.isLocalDatasource = true;
+        if (log.isDebugEnabled()) {
+            log.debug("Database connection for '" + this.tableName + "' created through connection" +
+                    " parameters specified in the query.");
+        }
+        if (MetricsDataHolder.getInstance().getMetricService() != null &&
+                MetricsDataHolder.getInstance().getMetricManagementService().isEnabled()) {
+            try {
+                if (MetricsDataHolder.getInstance().getMetricManagementService().isReporterRunning(
+                        "prometheus")) {
+                    this.metrics = new RDBMSMetrics(siddhiAppContext.getName(), url, tableName);
+                }
+            } catch (IllegalArgumentException e) {
+                log.debug("Prometheus reporter is not running. Hence store-rdbms metrics will not be initialized.");
+            }
+        }
+    }
+
+    /**
+     * Method for creating the pool configuration of the given database given the "@Store" annotation.
+     *
+     * @param storeAnnotation the source annotation which contains the needed parameters.
+     * @param url             the JDBC URL of the database.
+     * @return the connection properties of the pool.
+     */
+    private Properties createConnectionProperties(Annotation storeAnnotation, String url) {
         Properties connectionProperties = new Properties();
         String poolPropertyString = storeAnnotation.getElement(ANNOTATION_ELEMENT_POOL_PROPERTIES);
-        String url = storeAnnotation.getElement(ANNOTATION_ELEMENT_URL);
         String username = storeAnnotation.getElement(ANNOTATION_ELEMENT_USERNAME);
         String password = storeAnnotation.getElement(ANNOTATION_ELEMENT_PASSWORD);
         String driverClassName = storeAnnotation.getElement(ANNOTATION_DRIVER_CLASS_NAME);
@@ -1471,24 +3229,7 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
             List<String[]> poolProps = RDBMSTableUtils.processKeyValuePairs(poolPropertyString);
             poolProps.forEach(pair -> connectionProperties.setProperty(pair[0], pair[1]));
         }
-        HikariConfig config = new HikariConfig(connectionProperties);
-        this.dataSource = new HikariDataSource(config);
-        this.isLocalDatasource = true;
-        if (log.isDebugEnabled()) {
-            log.debug("Database connection for '" + this.tableName + "' created through connection" +
-                    " parameters specified in the query.");
-        }
-        if (MetricsDataHolder.getInstance().getMetricService() != null &&
-                MetricsDataHolder.getInstance().getMetricManagementService().isEnabled()) {
-            try {
-                if (MetricsDataHolder.getInstance().getMetricManagementService().isReporterRunning(
-                        "prometheus")) {
-                    this.metrics = new RDBMSMetrics(siddhiAppContext.getName(), url, tableName);
-                }
-            } catch (IllegalArgumentException e) {
-                log.debug("Prometheus reporter is not running. Hence store-rdbms metrics will not be initialized.");
-            }
-        }
+        return connectionProperties;
     }
 
     /**
@@ -1501,21 +3242,72 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
     }
 
     /**
-     * Returns a connection instance.
+     * Returns a connection instance for reads whose results are iterated by {@link RDBMSIterator}, from the read
+     * replica if one is configured.
+     *
+     * @return a new {@link Connection} instance from the datasource.
+     */
+    private Connection getReadConnection() throws ConnectionUnavailableException {
+        return this.getReadConnection(true);
+    }
+
+    /**
+     * Returns a connection instance for reads whose results are iterated by {@link RDBMSIterator}. Databases which
+     * only use cursors outside of auto-commit mode (e.g. PostgreSQL) are given a connection with auto-commit
+     * disabled when a fetch size is configured.
+     *
+     * @param fromReplica whether or not the read may be served by the read replica.
+     * @return a new {@link Connection} instance from the datasource.
+     */
+    private Connection getReadConnection(boolean fromReplica) throws ConnectionUnavailableException {
+        return this.getConnection(!(fetchSize > 0 && STREAMING_MODE_CURSOR.equalsIgnoreCase(streamingMode)),
+                fromReplica);
+    }
+
+    /**
+     * Returns a connection instance.
+     *
+     * @param autoCommit whether or not transactions to the connections should be committed automatically.
+     * @return a new {@link Connection} instance from the datasource.
+     */
+    private Connection getConnection(boolean autoCommit) throws ConnectionUnavailableException {
+        return this.getConnection(autoCommit, false);
+    }
+
+    /**
+     * Returns a connection instance, from the read replica if the read may be served by it and no write has been
+     * made through this table within the configured replica lag. A read falls back to the primary database if the
+     * replica is unavailable, after which the replica is not tried again for a while, as each attempt may wait for the
+     * connection timeout of its pool.
      *
-     * @param autoCommit whether or not transactions to the connections should be committed automatically.
+     * @param autoCommit  whether or not transactions to the connections should be committed automatically.
+     * @param fromReplica whether or not the connection is used only for a read which may be served by the replica.
      * @return a new {@link Connection} instance from the datasource.
      */
-    private Connection getConnection(boolean autoCommit) throws ConnectionUnavailableException {
-        Connection conn;
-        try {
-            conn = this.dataSource.getConnection();
-            conn.setAutoCommit(autoCommit);
-            if (metrics != null) {
-                metrics.setDatabaseParams(conn.getMetaData().getURL(), conn.getCatalog(), conn.getMetaData()
-                        .getDatabaseProductName());
+    private Connection getConnection(boolean autoCommit, boolean fromReplica) throws ConnectionUnavailableException {
+        HikariDataSource readDataSource = this.readDataSource;
+        long currentTime = System.currentTimeMillis();
+        if (fromReplica && readDataSource != null && currentTime - lastWriteTime >= readReplicaLag &&
+                currentTime >= readReplicaRetryTime) {
+            try {
+                return this.openConnection(readDataSource, autoCommit);
+            } catch (SQLException e) {
+                readReplicaRetryTime = System.currentTimeMillis() + READ_REPLICA_RETRY_INTERVAL;
+                if (log.isDebugEnabled()) {
+                    log.debug("Reading store '" + tableName + "' from the primary database as its read replica " +
+                            "is unavailable: " + e.getMessage(), e);
+                }
             }
+        }
+        HikariDataSource dataSource = this.dataSource;
+        if (dataSource == null) {
+            throw new ConnectionUnavailableException("Store: " + tableName + " is disconnected from its datasource.");
+        }
+        Connection conn = null;
+        try {
+            conn = this.openConnection(dataSource, autoCommit);
         } catch (SQLException e) {
+            RDBMSTableUtils.cleanupConnection(null, null, conn);
             if (metrics != null) {
                 metrics.setRDBMSStatus(RDBMSStatus.ERROR);
             }
@@ -1524,6 +3316,20 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
         return conn;
     }
 
+    private Connection openConnection(HikariDataSource dataSource, boolean autoCommit) throws SQLException {
+        Connection conn = dataSource.getConnection();
+        try {
+            // The pool restores the default auto-commit mode on return, hence it is mostly already as required
+            if (conn.getAutoCommit() != autoCommit) {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            RDBMSTableUtils.cleanupConnection(null, null, conn);
+            throw e;
+        }
+        return conn;
+    }
+
     /**
      * Method for replacing the placeholder for the table name with the Event Table's name.
      *
@@ -1800,12 +3606,188 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
         }
     }
 
+    /**
+     * Loads the given records through the COPY protocol. Failures which leave the connection usable are not
+     * propagated, so that the caller can fall back to the regular insert path.
+     *
+     * @param records    the records to be inserted.
+     * @param autocommit whether or not the transactions should automatically be committed.
+     * @return true if the records were loaded, false if they should be inserted through the regular path.
+     * @throws ConnectionUnavailableException if the connection is lost while loading the records.
+     */
+    private boolean copyExecuteInsert(List<Object[]> records, boolean autocommit)
+            throws ConnectionUnavailableException {
+        if (!allowNullValues) {
+            for (Object[] record : records) {
+                for (int i = 0; i < this.attributes.size(); i++) {
+                    if (record[i] == null && this.attributes.get(i).getType() != Attribute.Type.STRING) {
+                        // Let the regular insert path reject the null value.
+                        return false;
+                    }
+                }
+            }
+        }
+        boolean committed = autocommit;
+        Connection conn = this.getConnection(autocommit);
+        try {
+            long count = this.copyLoader.copyIn(conn, records);
+            if (!autocommit) {
+                conn.commit();
+                committed = true;
+            }
+            if (metrics != null) {
+                if (count > 0) {
+                    metrics.getInsertCountMetric().inc(count);
+                    metrics.getWritesCountMetrics().inc(count);
+                    metrics.getTotalWriteMetrics().inc(count);
+                }
+                metrics.setRDBMSStatus(RDBMSStatus.PROCESSING);
+            }
+            return true;
+        } catch (SQLException e) {
+            if (!autocommit) {
+                RDBMSTableUtils.rollbackConnection(conn);
+                committed = true;
+            }
+            try {
+                if (!conn.isValid(0)) {
+                    if (metrics != null) {
+                        metrics.setRDBMSStatus(RDBMSStatus.ERROR);
+                    }
+                    throw new ConnectionUnavailableException("Could not execute COPY operation. Connection is " +
+                            "closed for store: '" + tableName + "'", e);
+                }
+            } catch (SQLException e1) {
+                throw new ConnectionUnavailableException("Error occurred when attempting to check whether " +
+                        "connection is available for store: " + tableName, e1);
+            }
+            log.warn("Failed to load " + records.size() + " records through COPY for store: " + tableName +
+                    ". Hence retrying with regular inserts. " + e.getMessage());
+            return false;
+        } finally {
+            if (!committed) {
+                RDBMSTableUtils.rollbackConnection(conn);
+            }
+            RDBMSTableUtils.cleanupConnection(null, null, conn);
+        }
+    }
+
+    /**
+     * Inserts the given records using multi-row INSERT statements, each carrying up to
+     * 'multiInsertRowsPerStatement' rows. The statement for full sized chunks is prepared once and reused, while
+     * any remaining records are inserted with a separately prepared statement.
+     *
+     * @param records    the records to be inserted.
+     * @param autocommit whether or not the transactions should automatically be committed.
+     * @throws ConnectionUnavailableException if the query execution fails.
+     */
+    private void multiRowExecuteInsert(List<Object[]> records, boolean autocommit)
+            throws ConnectionUnavailableException {
+        int rowsPerStatement = this.multiInsertRowsPerStatement;
+        int fullChunks = records.size() / rowsPerStatement;
+        int remainingRows = records.size() % rowsPerStatement;
+        PreparedStatement stmt = null;
+        boolean committed = autocommit;
+        Connection conn = this.getConnection(autocommit);
+        try {
+            int count = 0;
+            if (fullChunks > 0) {
+                stmt = conn.prepareStatement(this.composeMultiInsertQuery(rowsPerStatement));
+                for (int i = 0; i < fullChunks; i++) {
+                    for (int j = 0; j < rowsPerStatement; j++) {
+                        this.populateStatement(records.get(i * rowsPerStatement + j), stmt,
+                                j * this.attributes.size());
+                    }
+                    count += stmt.executeUpdate();
+                }
+                RDBMSTableUtils.cleanupConnection(null, stmt, null);
+                stmt = null;
+            }
+            if (remainingRows > 0) {
+                stmt = conn.prepareStatement(this.composeMultiInsertQuery(remainingRows));
+                for (int j = 0; j < remainingRows; j++) {
+                    this.populateStatement(records.get(fullChunks * rowsPerStatement + j), stmt,
+                            j * this.attributes.size());
+                }
+                count += stmt.executeUpdate();
+            }
+            if (!autocommit) {
+                conn.commit();
+                committed = true;
+            }
+            if (metrics != null) {
+                if (count > 0) {
+                    metrics.getInsertCountMetric().inc(count);
+                    metrics.getWritesCountMetrics().inc(count);
+                    metrics.getTotalWriteMetrics().inc(count);
+                }
+                metrics.setRDBMSStatus(RDBMSStatus.PROCESSING);
+            }
+        } catch (SQLException e) {
+            if (metrics != null) {
+                metrics.setRDBMSStatus(RDBMSStatus.ERROR);
+            }
+            try {
+                if (!conn.isValid(0)) {
+                    throw new ConnectionUnavailableException("Could not execute multi-row insert operation. " +
+                            "Connection is closed for store: '" + tableName + "'", e);
+                } else {
+                    log.error("Failed to execute multi-row insert for store: " + tableName + ". Dropped " +
+                            records.size() + " records.");
+                    throw new RDBMSTableException("Could not execute multi-row insert operation for store '"
+                            + this.tableName + "'", e);
+                }
+            } catch (SQLException e1) {
+                throw new ConnectionUnavailableException("Error occurred when attempting to check whether " +
+                        "connection is available for store: " + tableName, e1);
+            }
+        } finally {
+            if (!committed) {
+                RDBMSTableUtils.rollbackConnection(conn);
+            }
+            RDBMSTableUtils.cleanupConnection(null, stmt, conn);
+        }
+    }
+
     /**
      * Method for checking whether or not the given table (which reflects the current event table instance) exists.
+     * If the metadata check is enabled and no table check query is given in the store annotation, the table is first
+     * looked up in the snapshot of the schema shared by the tables of the app, and is probed with the table check
+     * query only if it is not found there.
      *
      * @return true/false based on the table existence.
      */
     private boolean tableExists() throws ConnectionUnavailableException {
+        if (tableCheckMetadata && RDBMSTableUtils.isEmpty(
+                storeAnnotation.getElement(ANNOTATION_ELEMENT_TABLE_CHECK_QUERY))) {
+            RDBMSSchemaCatalog schemaCatalog = RDBMSSchemaCatalog.lookup(siddhiAppContext, this.dataSource,
+                    this.metadataCheckedTableNames());
+            Map<String, Integer> columns = schemaCatalog.takeColumns(this.tableName);
+            if (columns != null) {
+                List<String> missingColumns = new ArrayList<>();
+                List<String> mismatchedColumns = new ArrayList<>();
+                for (Attribute attribute : this.attributes) {
+                    Integer columnType = columns.get(schemaCatalog.normalize(attribute.getName()));
+                    if (columnType == null) {
+                        missingColumns.add(attribute.getName());
+                    } else if (!RDBMSSchemaCatalog.isCompatible(columnType,
+                            RDBMSTableUtils.lookupSqlType(attribute.getType(), typeMapping))) {
+                        mismatchedColumns.add(attribute.getName() + " (" + JDBCType.valueOf(columnType).getName()
+                                + ")");
+                    }
+                }
+                if (!missingColumns.isEmpty()) {
+                    log.warn("Table '" + this.tableName + "' exists but does not have the column(s) " +
+                            missingColumns + " defined for store '" + tableDefinition.getId() + "'.");
+                }
+                if (!mismatchedColumns.isEmpty()) {
+                    log.warn("Table '" + this.tableName + "' exists but the type of the column(s) " +
+                            mismatchedColumns + " does not match the attribute type defined for store '" +
+                            tableDefinition.getId() + "'.");
+                }
+                return true;
+            }
+        }
         Connection conn = this.getConnection();
         PreparedStatement stmt = null;
         ResultSet rs = null;
@@ -1824,6 +3806,27 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
         }
     }
 
+    /**
+     * Returns the names of the RDBMS tables of the app which check their existence against the database metadata.
+     *
+     * @return the table names, including the name of this table.
+     */
+    private Set<String> metadataCheckedTableNames() {
+        Set<String> tableNames = new HashSet<>();
+        tableNames.add(this.tableName);
+        if (siddhiAppContext.getSiddhiApp() != null) {
+            for (TableDefinition definition : siddhiAppContext.getSiddhiApp().getTableDefinitionMap().values()) {
+                Annotation store = AnnotationHelper.getAnnotation(ANNOTATION_STORE, definition.getAnnotations());
+                if (store != null && RDBMS_STORE_TYPE.equalsIgnoreCase(store.getElement(ANNOTATION_ELEMENT_TYPE)) &&
+                        Boolean.parseBoolean(store.getElement(ANNOTATION_ELEMENT_TABLE_CHECK_METADATA))) {
+                    String tableName = store.getElement(ANNOTATION_ELEMENT_TABLE_NAME);
+                    tableNames.add(RDBMSTableUtils.isEmpty(tableName) ? definition.getId() : tableName);
+                }
+            }
+        }
+        return tableNames;
+    }
+
     /**
      * Method for populating values to a pre-created SQL prepared statement.
      *
@@ -1831,17 +3834,27 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
      * @param stmt   the statement to which the values should be set.
      */
     private void populateStatement(Object[] record, PreparedStatement stmt) throws ConnectionUnavailableException {
-        Attribute attribute = null;
+        this.populateStatement(record, stmt, 0);
+    }
+
+    /**
+     * Method for populating values to a pre-created SQL prepared statement, starting after the given ordinal.
+     *
+     * @param record the record whose values should be populated.
+     * @param stmt   the statement to which the values should be set.
+     * @param seed   the number of parameters in the statement which precede this record.
+     */
+    private void populateStatement(Object[] record, PreparedStatement stmt, int seed)
+            throws ConnectionUnavailableException {
+        int i = 0;
         try {
-            for (int i = 0; i < this.attributes.size(); i++) {
-                attribute = this.attributes.get(i);
+            for (; i < recordBinders.length; i++) {
                 Object value = record[i];
-                if (allowNullValues || value != null || attribute.getType() == Attribute.Type.STRING) {
-                    RDBMSTableUtils.populateStatementWithSingleElement(stmt, i + 1, attribute.getType(), value,
-                            typeMapping);
+                if (allowNullValues || value != null || this.attributes.get(i).getType() == Attribute.Type.STRING) {
+                    recordBinders[i].bind(stmt, seed + i + 1, value);
                 } else {
                     throw new RDBMSTableException("Cannot Execute Insert/Update: null value detected for " +
-                            "attribute '" + attribute.getName() + "'");
+                            "attribute '" + this.attributes.get(i).getName() + "'");
                 }
             }
         } catch (SQLException e) {
@@ -1851,7 +3864,7 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
                             " for store: '" + tableName + "'", e);
                 } else {
                     throw new RDBMSTableException("Dropping event since value for attribute name " +
-                            attribute.getName() + " cannot be set for store: " + tableName, e);
+                            this.attributes.get(i).getName() + " cannot be set for store: " + tableName, e);
                 }
             } catch (SQLException e1) {
                 throw new RDBMSTableException("Could not execute Insert/Update for store: '" + tableName + "'", e1);
@@ -1863,26 +3876,167 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
     protected RecordIterator<Object[]> query(Map<String, Object> parameterMap, CompiledCondition compiledCondition,
                                              CompiledSelection compiledSelection, Attribute[] outputAttributes)
             throws ConnectionUnavailableException {
+        this.flushWriteBehindBuffer();
         RDBMSCompiledSelection rdbmsCompiledSelection = (RDBMSCompiledSelection) compiledSelection;
-        RDBMSCompiledCondition rdbmsCompiledCondition = (RDBMSCompiledCondition) compiledCondition;
-        boolean containsConditionExist = rdbmsCompiledCondition.isContainsConditionExist();
-        if (containsConditionExist) {
-            rdbmsCompiledCondition.setCompiledQuery(processFindConditionWithContainsConditionTemplate(
-                    rdbmsCompiledCondition.getCompiledQuery(), this.recordContainsConditionTemplate));
+        RDBMSCompiledCondition queryCompiledCondition = (RDBMSCompiledCondition) compiledCondition;
+        if (rdbmsCompiledSelection.getRecordSelectors() != null && this.isMirrorApplicable(queryCompiledCondition)) {
+            List<Object[]> records = this.tableMirror.find(queryCompiledCondition.getMirrorColumnIndices(),
+                    this.resolveMirrorValues(queryCompiledCondition, parameterMap));
+            List<Object[]> selectedRecords = new ArrayList<>(records.size());
+            for (Object[] record : records) {
+                selectedRecords.add(this.selectFromRecord(rdbmsCompiledSelection.getRecordSelectors(), record,
+                        parameterMap));
+            }
+            return new RDBMSCachedRecordIterator(selectedRecords.iterator());
         }
-        if ("?".equals(rdbmsCompiledCondition.getCompiledQuery())) {
-            rdbmsCompiledCondition = null;
+        if (rdbmsCompiledSelection.getRecordSelectors() != null && this.isPrimaryKeyLookup(queryCompiledCondition)) {
+            Object[] record = this.findByPrimaryKey(parameterMap, queryCompiledCondition);
+            return RDBMSPrimaryKeyCache.iterator(record == null ? null :
+                    this.selectFromRecord(rdbmsCompiledSelection.getRecordSelectors(), record, parameterMap));
         }
-        Connection conn = this.getConnection();
+        if (queryCompiledCondition.getResidualCondition() != null) {
+            if (rdbmsCompiledSelection.getRecordSelectors() == null) {
+                throw new RDBMSTableException("The condition of the query on store '" + this.tableName + "' uses " +
+                        "functions which cannot be evaluated by the database, which is only supported when the " +
+                        "query selects attributes without aggregation, ordering or pagination.");
+            }
+            List<Object[]> selectedRecords = new ArrayList<>();
+            try (RecordIterator<Object[]> records = this.find(parameterMap, queryCompiledCondition)) {
+                while (records.hasNext()) {
+                    selectedRecords.add(this.selectFromRecord(rdbmsCompiledSelection.getRecordSelectors(),
+                            records.next(), parameterMap));
+                }
+            } catch (IOException e) {
+                log.error("Error closing the records read for query on store '" + tableName + "'", e);
+            }
+            return new RDBMSCachedRecordIterator(selectedRecords.iterator());
+        }
+        boolean containsConditionExist = queryCompiledCondition.isContainsConditionExist();
+        String query = rdbmsCompiledSelection.getPreparedQuery(queryCompiledCondition, () -> {
+            if (containsConditionExist) {
+                queryCompiledCondition.setCompiledQuery(processFindConditionWithContainsConditionTemplate(
+                        queryCompiledCondition.getCompiledQuery(), this.recordContainsConditionTemplate));
+            }
+            return functionRenderer.render(getSelectQuery(QUESTION_MARK.equals(
+                    queryCompiledCondition.getCompiledQuery()) ? null : queryCompiledCondition,
+                    rdbmsCompiledSelection));
+        });
+        RDBMSCompiledCondition rdbmsCompiledCondition =
+                QUESTION_MARK.equals(queryCompiledCondition.getCompiledQuery()) ? null : queryCompiledCondition;
+        if (this.keysetPageIndex == null || rdbmsCompiledSelection.getKeysetShape() == null ||
+                containsConditionExist) {
+            return this.readQuery(query, null, rdbmsCompiledSelection, rdbmsCompiledCondition, parameterMap,
+                    containsConditionExist, outputAttributes);
+        }
+        List<Object> pageShape = Arrays.asList(rdbmsCompiledSelection.getKeysetShape(),
+                rdbmsCompiledCondition == null ? null : rdbmsCompiledCondition.getCompiledQuery(),
+                new HashMap<>(parameterMap));
+        long pagePosition = rdbmsCompiledSelection.getOffset() == null ? 0 : rdbmsCompiledSelection.getOffset();
+        long pageGeneration = this.keysetPageIndex.getGeneration();
+        Object[] seekKey = pagePosition == 0 ? null : this.keysetPageIndex.find(pageShape, pagePosition);
+        if (seekKey != null) {
+            query = rdbmsCompiledSelection.getPreparedSeekQuery(queryCompiledCondition,
+                    () -> functionRenderer.render(this.getSeekQuery(rdbmsCompiledCondition, rdbmsCompiledSelection)));
+            if (log.isDebugEnabled()) {
+                log.debug("Seeking page at position " + pagePosition + " of store '" + this.tableName +
+                        "' past the key " + Arrays.toString(seekKey));
+            }
+        }
+        return this.keysetPageIndex.track(this.readQuery(query, seekKey, rdbmsCompiledSelection,
+                rdbmsCompiledCondition, parameterMap, false, outputAttributes), pageShape, pagePosition,
+                rdbmsCompiledSelection.getLimit(), rdbmsCompiledSelection.getKeysetOutputPositions(), pageGeneration);
+    }
+
+    /**
+     * Reads the result of a query through the query result cache if configured.
+     *
+     * @param seekKey the key values bound to the seek condition of a keyset paginated query, or null.
+     */
+    private RecordIterator<Object[]> readQuery(String query, Object[] seekKey,
+                                               RDBMSCompiledSelection rdbmsCompiledSelection,
+                                               RDBMSCompiledCondition rdbmsCompiledCondition,
+                                               Map<String, Object> parameterMap, boolean containsConditionExist,
+                                               Attribute[] outputAttributes) throws ConnectionUnavailableException {
+        if (this.queryResultCache == null) {
+            return this.executeQuery(query, seekKey, rdbmsCompiledSelection, rdbmsCompiledCondition, parameterMap,
+                    containsConditionExist, outputAttributes);
+        }
+        RDBMSQueryResultCache.Lookup lookup = this.queryResultCache.get(Arrays.asList(query,
+                new HashMap<>(parameterMap), outputAttributes == null ? null : Arrays.asList(outputAttributes),
+                seekKey == null ? null : Arrays.asList(seekKey)));
+        if (lookup.getRecords() != null) {
+            return this.cachedIterator(lookup.getRecords());
+        }
+        //The iterator releases its connection once it is read to the end or fails, hence it is not closed here
+        RecordIterator<Object[]> iterator;
+        List<Object[]> records = new ArrayList<>();
+        boolean cacheable = false;
+        try {
+            iterator = this.executeQuery(query, seekKey, rdbmsCompiledSelection, rdbmsCompiledCondition,
+                    parameterMap, containsConditionExist, outputAttributes);
+            long maxResultSize = this.queryResultCache.getMaxResultSize();
+            long resultSize = 0;
+            while (resultSize <= maxResultSize && iterator.hasNext()) {
+                Object[] record = iterator.next();
+                records.add(record);
+                resultSize += RDBMSQueryResultCache.estimateSize(record);
+            }
+            cacheable = resultSize <= maxResultSize;
+        } finally {
+            this.queryResultCache.complete(lookup, cacheable ? records : null);
+        }
+        if (cacheable) {
+            return this.cachedIterator(records);
+        }
+        //The result is too large to be cached, hence the records read so far are served before the rest
+        return new RDBMSResumedRecordIterator(records, iterator);
+    }
+
+    /**
+     * Binds the key values of the seek condition composed by {@link #getSeekQuery}, which follow the parameters of
+     * the SELECT clause and the condition. The ORDER BY clause of a keyset paginated selection has no parameters.
+     */
+    private void bindSeekKey(PreparedStatement stmt, RDBMSCompiledSelection rdbmsCompiledSelection,
+                             RDBMSCompiledCondition rdbmsCompiledCondition, Object[] seekKey) throws SQLException {
+        SortedMap<Integer, Object> selectParameters = rdbmsCompiledSelection.getCompiledSelectClause().getParameters();
+        int ordinal = selectParameters.isEmpty() ? 0 : selectParameters.lastKey();
+        if (rdbmsCompiledCondition != null && !rdbmsCompiledCondition.getParameters().isEmpty()) {
+            ordinal += rdbmsCompiledCondition.getParameters().lastKey();
+        }
+        int[] columnIndices = rdbmsCompiledSelection.getKeysetColumnIndices();
+        for (int i = 0; i < columnIndices.length; i++) {
+            for (int j = 0; j <= i; j++) {
+                recordBinders[columnIndices[j]].bind(stmt, ++ordinal, seekKey[j]);
+            }
+        }
+    }
+
+    /**
+     * Creates an iterator over copies of the given cached records, hence the records handed out cannot alter the
+     * cache.
+     */
+    private RecordIterator<Object[]> cachedIterator(List<Object[]> records) {
+        return new RDBMSCachedRecordIterator(records.stream().map(Object[]::clone).iterator());
+    }
+
+    private RecordIterator<Object[]> executeQuery(String query, Object[] seekKey,
+                                                  RDBMSCompiledSelection rdbmsCompiledSelection,
+                                                  RDBMSCompiledCondition rdbmsCompiledCondition,
+                                                  Map<String, Object> parameterMap, boolean containsConditionExist,
+                                                  Attribute[] outputAttributes)
+            throws ConnectionUnavailableException {
+        Connection conn = this.getReadConnection();
         PreparedStatement stmt;
-        String query = getSelectQuery(rdbmsCompiledCondition, rdbmsCompiledSelection);
         if (log.isDebugEnabled()) {
             log.debug("Store Query SQL Syntax: '" + query + "'");
         }
         try {
-            stmt = conn.prepareStatement(query);
+            stmt = this.prepareReadStatement(conn, query);
             RDBMSTableUtils.resolveQuery(stmt, rdbmsCompiledSelection, rdbmsCompiledCondition, parameterMap, 0,
                     containsConditionExist, typeMapping);
+            if (seekKey != null) {
+                this.bindSeekKey(stmt, rdbmsCompiledSelection, rdbmsCompiledCondition, seekKey);
+            }
         } catch (SQLException e) {
             try {
                 if (!conn.isValid(0)) {
@@ -1907,7 +4061,8 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
             if (outputAttributes == null) {
                 return new RDBMSIterator(conn, stmt, rs, this.attributes, this.tableName, allowNullValues);
             }
-            return new RDBMSIterator(conn, stmt, rs, Arrays.asList(outputAttributes), this.tableName, allowNullValues);
+            return new RDBMSIterator(conn, stmt, rs, Arrays.asList(outputAttributes), this.tableName,
+                    allowNullValues);
         } catch (SQLException e) {
             try {
                 boolean isConnValid = conn.isValid(0);
@@ -1926,32 +4081,109 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
         }
     }
 
+    /**
+     * Evaluates the selectors of a selection on a single table record.
+     *
+     * @param selectors    the column indices, stream variables and constants selected.
+     * @param record       the table record.
+     * @param parameterMap the runtime values of the stream variables.
+     * @return the selected values.
+     */
+    private Object[] selectFromRecord(Object[] selectors, Object[] record, Map<String, Object> parameterMap) {
+        Object[] result = new Object[selectors.length];
+        for (int i = 0; i < selectors.length; i++) {
+            Object selector = selectors[i];
+            if (selector instanceof Integer) {
+                result[i] = record[(Integer) selector];
+            } else if (selector instanceof Constant) {
+                result[i] = ((Constant) selector).getValue();
+            } else {
+                result[i] = parameterMap.get(((Attribute) selector).getName());
+            }
+        }
+        return result;
+    }
+
     private String getSelectQuery(RDBMSCompiledCondition rdbmsCompiledCondition,
                                   RDBMSCompiledSelection rdbmsCompiledSelection) {
+        return this.getSelectQuery(rdbmsCompiledCondition == null ? null : rdbmsCompiledCondition.getCompiledQuery(),
+                rdbmsCompiledSelection, rdbmsCompiledSelection.getOffset());
+    }
+
+    /**
+     * Composes the SELECT seeking past the last key of a previous page of a selection eligible for keyset
+     * pagination. Rows following the key in ORDER BY order are matched by comparing each ORDER BY column in turn
+     * while the preceding ones are equal, hence no OFFSET is needed.
+     */
+    private String getSeekQuery(RDBMSCompiledCondition rdbmsCompiledCondition,
+                                RDBMSCompiledSelection rdbmsCompiledSelection) {
+        int[] columnIndices = rdbmsCompiledSelection.getKeysetColumnIndices();
+        boolean[] descending = rdbmsCompiledSelection.getKeysetDescending();
+        StringJoiner seekCondition = new StringJoiner(WHITESPACE + SQL_OR + WHITESPACE,
+                OPEN_PARENTHESIS, CLOSE_PARENTHESIS);
+        for (int i = 0; i < columnIndices.length; i++) {
+            StringJoiner term = new StringJoiner(SQL_AND, OPEN_PARENTHESIS, CLOSE_PARENTHESIS);
+            for (int j = 0; j < i; j++) {
+                term.add(this.tableName + "." + this.attributes.get(columnIndices[j]).getName() + EQUALS +
+                        QUESTION_MARK);
+            }
+            term.add(this.tableName + "." + this.attributes.get(columnIndices[i]).getName() +
+                    (descending[i] ? SQL_COMPARE_LESS_THAN : SQL_COMPARE_GREATER_THAN) + QUESTION_MARK);
+            seekCondition.add(term.toString());
+        }
+        String condition = (rdbmsCompiledCondition == null) ? seekCondition.toString() :
+                OPEN_PARENTHESIS + rdbmsCompiledCondition.getCompiledQuery() + CLOSE_PARENTHESIS + SQL_AND +
+                        seekCondition;
+        return this.getSelectQuery(condition, rdbmsCompiledSelection, null);
+    }
+
+    private String getSelectQuery(String condition, RDBMSCompiledSelection rdbmsCompiledSelection, Long offset) {
 
         boolean isContainsLastFunction = rdbmsCompiledSelection.getCompiledSelectClause().isUseSubSelect();
 
         String selectors = rdbmsCompiledSelection.getCompiledSelectClause().getCompiledQuery();
+        boolean isLastValueWindow = false;
+        if (isContainsLastFunction && functionRenderer.isSupported(FUNCTION_LAST)) {
+            // The database computes last() as an aggregate, hence a plain grouped query replaces the sub-select
+            isContainsLastFunction = false;
+            selectors = rdbmsCompiledSelection.getCompiledSelectClause().getLastValueSelectors();
+        } else if (isContainsLastFunction && functionRenderer.isSupported(FUNCTION_LAST_WINDOW) &&
+                rdbmsSelectQueryTemplate.getSelectQueryWithWindow() != null &&
+                (rdbmsCompiledSelection.getCompiledGroupByClause() == null ||
+                        rdbmsCompiledSelection.getCompiledGroupByClause().getParameters().isEmpty())) {
+            // The database computes last() as a window function, hence the grouped query reads a derived table
+            // instead of being joined with the sub-select. Group by parameters would be bound out of order, as the
+            // partition of the window precedes the condition.
+            isContainsLastFunction = false;
+            isLastValueWindow = true;
+            selectors = rdbmsCompiledSelection.getCompiledSelectClause().getLastValueWindowSelectors();
+        }
         String subSelectQuerySelectors = rdbmsCompiledSelection.getCompiledSelectClause().getSubSelectQuerySelectors();
 
         String selectClause;
         if (isContainsLastFunction) {
-            selectClause = rdbmsSelectQueryTemplate.getSelectClause()
+            selectClause = this.resolveTableName(rdbmsSelectQueryTemplate.getSelectClause())
                     .replace(PLACEHOLDER_SELECTORS, subSelectQuerySelectors);
+        } else if (isLastValueWindow) {
+            selectClause = this.resolveTableName(rdbmsSelectQueryTemplate.getSelectQueryWithWindow())
+                    .replace(PLACEHOLDER_SELECTORS, selectors)
+                    .replace(PLACEHOLDER_INNER_QUERY, this.getLastValueWindowQuery(condition, rdbmsCompiledSelection));
+            // The condition is applied within the derived table
+            condition = null;
         } else {
-            selectClause = rdbmsSelectQueryTemplate.getSelectClause()
+            selectClause = this.resolveTableName(rdbmsSelectQueryTemplate.getSelectClause())
                     .replace(PLACEHOLDER_SELECTORS, selectors);
         }
 
         StringBuilder selectQuery = new StringBuilder(selectClause);
 
-        if (rdbmsCompiledCondition != null) {
-            String whereClause = rdbmsSelectQueryTemplate.getWhereClause();
+        if (condition != null) {
+            String whereClause = this.resolveTableName(rdbmsSelectQueryTemplate.getWhereClause());
             if (whereClause == null || whereClause.isEmpty()) {
                 throw new QueryableRecordTableException("Where clause is present in query but 'whereClause' has not " +
                         "being configured in RDBMS Event Table query configuration, for store: " + tableName);
             }
-            whereClause = whereClause.replace(PLACEHOLDER_CONDITION, rdbmsCompiledCondition.getCompiledQuery());
+            whereClause = whereClause.replace(PLACEHOLDER_CONDITION, condition);
             selectQuery.append(WHITESPACE).append(whereClause);
         }
         RDBMSCompiledCondition compiledGroupByClause = rdbmsCompiledSelection.getCompiledGroupByClause();
@@ -1985,7 +4217,6 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
             selectQuery.append(WHITESPACE).append(orderByClause);
         }
         Long limit = rdbmsCompiledSelection.getLimit();
-        Long offset = rdbmsCompiledSelection.getOffset();
         if (rdbmsSelectQueryTemplate.getQueryWrapperClause() != null) {
             String queryWrapperClause = rdbmsSelectQueryTemplate.getQueryWrapperClause().replace(
                     PLACEHOLDER_INNER_QUERY, selectQuery.toString());
@@ -2094,15 +4325,39 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
     }
 
 
+    /**
+     * Builds the derived table of a selection containing incrementalAggregator:last(), which holds the records
+     * matching the condition, each with the value of every last() over its group as computed by the 'last.window'
+     * function.
+     */
+    private String getLastValueWindowQuery(String condition, RDBMSCompiledSelection rdbmsCompiledSelection) {
+        RDBMSCompiledCondition compiledGroupByClause = rdbmsCompiledSelection.getCompiledGroupByClause();
+        String partition = (compiledGroupByClause == null) ? "" :
+                SQL_PARTITION_BY + compiledGroupByClause.getCompiledQuery();
+        String windowColumns = rdbmsCompiledSelection.getCompiledSelectClause().getLastValueWindowColumns()
+                .replace(PLACEHOLDER_PARTITION, partition);
+        StringBuilder windowQuery = new StringBuilder(this.resolveTableName(rdbmsSelectQueryTemplate.getSelectClause())
+                .replace(PLACEHOLDER_SELECTORS, this.tableName + ".*" + SEPARATOR + windowColumns));
+        if (condition != null) {
+            String whereClause = this.resolveTableName(rdbmsSelectQueryTemplate.getWhereClause());
+            if (whereClause == null || whereClause.isEmpty()) {
+                throw new QueryableRecordTableException("Where clause is present in query but 'whereClause' has not " +
+                        "being configured in RDBMS Event Table query configuration, for store: " + tableName);
+            }
+            windowQuery.append(WHITESPACE).append(whereClause.replace(PLACEHOLDER_CONDITION, condition));
+        }
+        return windowQuery.toString();
+    }
+
     private String getQueryWithSubSelectors(RDBMSCompiledSelection rdbmsCompiledSelection, String selectors,
                                             String selectQuery) {
-        String selectQueryWithSubSelect = rdbmsSelectQueryTemplate.getSelectQueryWithSubSelect();
+        String selectQueryWithSubSelect = this.resolveTableName(rdbmsSelectQueryTemplate.getSelectQueryWithSubSelect());
         if (selectQueryWithSubSelect == null || selectQueryWithSubSelect.isEmpty()) {
             throw new QueryableRecordTableException("incrementalAggregator:last() is used in the query but " +
                     "'selectQueryWithSubSelect' has not being configured in RDBMS Event Table query " +
                     "configuration, for store: " + tableName);
         }
-        String whereClause = rdbmsSelectQueryTemplate.getWhereClause();
+        String whereClause = this.resolveTableName(rdbmsSelectQueryTemplate.getWhereClause());
         if (whereClause == null || whereClause.isEmpty()) {
             throw new QueryableRecordTableException("Where clause is present in query but 'whereClause' " +
                     "has not being configured in RDBMS Event Table query configuration, for store: "
@@ -2135,19 +4390,121 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
                                                  ExpressionBuilder havingExpressionBuilder,
                                                  List<OrderByAttributeBuilder> orderByAttributeBuilders, Long limit,
                                                  Long offset) {
-        return new RDBMSCompiledSelection(
+        RDBMSCompiledSelection compiledSelection = new RDBMSCompiledSelection(
                 compileSelectClause(selectAttributeBuilders),
                 (groupByExpressionBuilder == null) ? null : compileClause(groupByExpressionBuilder, false),
                 (havingExpressionBuilder == null) ? null :
                         compileClause(Collections.singletonList(havingExpressionBuilder), true),
                 (orderByAttributeBuilders == null) ? null : compileOrderByClause(orderByAttributeBuilders),
                 limit, offset);
+        if (groupByExpressionBuilder == null && havingExpressionBuilder == null && orderByAttributeBuilders == null
+                && limit == null && offset == null && !compiledSelection.getCompiledSelectClause().isUseSubSelect()) {
+            compiledSelection.setRecordSelectors(this.resolveRecordSelectors(selectAttributeBuilders));
+        }
+        if (keysetPagination && groupByExpressionBuilder == null && havingExpressionBuilder == null &&
+                orderByAttributeBuilders != null && limit != null &&
+                !compiledSelection.getCompiledSelectClause().isUseSubSelect()) {
+            this.resolveKeysetPagination(compiledSelection, selectAttributeBuilders, orderByAttributeBuilders);
+        }
+        return compiledSelection;
+    }
+
+    /**
+     * Enables keyset pagination for a selection which is ordered by exactly the primary key columns and selects
+     * all of them as they are, so that the key of the last record of a page identifies where the next page starts.
+     */
+    private void resolveKeysetPagination(RDBMSCompiledSelection compiledSelection,
+                                         List<SelectAttributeBuilder> selectAttributeBuilders,
+                                         List<OrderByAttributeBuilder> orderByAttributeBuilders) {
+        int[] columnIndices = new int[orderByAttributeBuilders.size()];
+        int[] outputPositions = new int[columnIndices.length];
+        boolean[] descending = new boolean[columnIndices.length];
+        for (int i = 0; i < columnIndices.length; i++) {
+            columnIndices[i] = this.resolveColumnIndex(orderByAttributeBuilders.get(i).getExpressionBuilder());
+            if (columnIndices[i] < 0) {
+                return;
+            }
+            outputPositions[i] = -1;
+            for (int j = 0; j < selectAttributeBuilders.size() && outputPositions[i] < 0; j++) {
+                if (this.resolveColumnIndex(selectAttributeBuilders.get(j).getExpressionBuilder()) ==
+                        columnIndices[i]) {
+                    outputPositions[i] = j;
+                }
+            }
+            if (outputPositions[i] < 0) {
+                return;
+            }
+            descending[i] = orderByAttributeBuilders.get(i).getOrder() == OrderByAttribute.Order.DESC;
+        }
+        int[] sortedColumnIndices = columnIndices.clone();
+        Arrays.sort(sortedColumnIndices);
+        int[] sortedPrimaryKeyIndices = primaryKeyColumnIndices.clone();
+        Arrays.sort(sortedPrimaryKeyIndices);
+        if (!Arrays.equals(sortedColumnIndices, sortedPrimaryKeyIndices)) {
+            return;
+        }
+        compiledSelection.setKeysetPagination(compiledSelection.getCompiledSelectClause().getCompiledQuery() +
+                        WHITESPACE + compiledSelection.getCompiledOrderByClause().getCompiledQuery(), columnIndices,
+                outputPositions, descending);
+    }
+
+    /**
+     * Resolves the table column an expression refers to.
+     *
+     * @return the index of the column, or -1 if the expression is not a plain table column.
+     */
+    private int resolveColumnIndex(ExpressionBuilder expressionBuilder) {
+        RDBMSConditionVisitor visitor = new RDBMSConditionVisitor(this.tableName, false);
+        expressionBuilder.build(visitor);
+        if (!visitor.getParameters().isEmpty()) {
+            return -1;
+        }
+        String compiledCondition = visitor.returnCondition().trim();
+        for (int i = 0; i < this.attributes.size(); i++) {
+            if (compiledCondition.equals(this.tableName + "." + this.attributes.get(i).getName())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Resolves the selectors of a selection which can be evaluated on a single table record, so that queries
+     * matching a primary key can be served from the primary key cache.
+     *
+     * @return the column index, stream variable or constant of each selected attribute, or null if an attribute
+     * is any other expression.
+     */
+    private Object[] resolveRecordSelectors(List<SelectAttributeBuilder> selectAttributeBuilders) {
+        Object[] selectors = new Object[selectAttributeBuilders.size()];
+        for (int i = 0; i < selectors.length; i++) {
+            RDBMSConditionVisitor visitor = new RDBMSConditionVisitor(this.tableName, false);
+            selectAttributeBuilders.get(i).getExpressionBuilder().build(visitor);
+            String compiledCondition = visitor.returnCondition().trim();
+            Map<Integer, Object> parameters = visitor.getParameters();
+            if (QUESTION_MARK.equals(compiledCondition) && parameters.size() == 1) {
+                selectors[i] = parameters.get(1);
+            } else if (parameters.isEmpty()) {
+                for (int j = 0; j < this.attributes.size() && selectors[i] == null; j++) {
+                    if (compiledCondition.equals(this.tableName + "." + this.attributes.get(j).getName())) {
+                        selectors[i] = j;
+                    }
+                }
+            }
+            if (selectors[i] == null) {
+                return null;
+            }
+        }
+        return selectors;
     }
 
     private RDBMSCompiledCondition compileSelectClause(List<SelectAttributeBuilder> selectAttributeBuilders) {
         StringBuilder compiledSelectionList = new StringBuilder();
         StringBuilder compiledSubSelectQuerySelection = new StringBuilder();
         StringBuilder compiledOuterOnCondition = new StringBuilder();
+        StringJoiner compiledLastValueSelection = new StringJoiner(SEPARATOR);
+        StringJoiner compiledLastValueWindowSelection = new StringJoiner(SEPARATOR);
+        StringJoiner compiledLastValueWindowColumns = new StringJoiner(SEPARATOR);
 
         SortedMap<Integer, Object> paramMap = new TreeMap<>();
         int offset = 0;
@@ -2175,6 +4532,13 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
                     // Add the select columns with function incrementalAggregator:last()
                     compiledSelectionList.append(compiledCondition).append(SQL_AS)
                             .append(selectAttributeBuilder.getRename()).append(SEPARATOR);
+                    compiledLastValueSelection.add(visitor.returnLastValueCondition().trim() + SQL_AS +
+                            selectAttributeBuilder.getRename());
+                    String lastValueColumn = LAST_VALUE_COLUMN_PREFIX + i;
+                    compiledLastValueWindowSelection.add(SQL_MAX + OPEN_PARENTHESIS + this.tableName + "." +
+                            lastValueColumn + CLOSE_PARENTHESIS + SQL_AS + selectAttributeBuilder.getRename());
+                    compiledLastValueWindowColumns.add(visitor.returnLastValueWindowCondition().trim() + SQL_AS +
+                            lastValueColumn);
                     if (!isLastFunctionEncountered) {
                         //Only add max variable for incrementalAggregator:last() once
                         compiledSubSelectQuerySelection.append(visitor.returnMaxVariableCondition()).append(SEPARATOR);
@@ -2191,6 +4555,9 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
                             .append(selectAttributeBuilder.getRename()).append(SEPARATOR);
                     compiledSubSelectQuerySelection.append(compiledCondition).append(SQL_AS)
                             .append(selectAttributeBuilder.getRename()).append(SEPARATOR);
+                    compiledLastValueSelection.add(compiledCondition + SQL_AS + selectAttributeBuilder.getRename());
+                    compiledLastValueWindowSelection.add(compiledCondition + SQL_AS +
+                            selectAttributeBuilder.getRename());
                 } else {
                     // Add group by column
                     compiledSelectionList.append(compiledCondition).append(SQL_AS)
@@ -2198,6 +4565,9 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
                     compiledSubSelectQuerySelection.append(compiledCondition).append(SQL_AS)
                             .append(selectAttributeBuilder.getRename()).append(SEPARATOR);
                     compiledOuterOnCondition.append(visitor.getOuterCompiledCondition()).append(SQL_AND);
+                    compiledLastValueSelection.add(compiledCondition + SQL_AS + selectAttributeBuilder.getRename());
+                    compiledLastValueWindowSelection.add(compiledCondition + SQL_AS +
+                            selectAttributeBuilder.getRename());
                 }
             } else {
                 compiledSelectionList.append(compiledCondition);
@@ -2232,9 +4602,15 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
             compiledOuterOnCondition.setLength(compiledOuterOnCondition.length() - 4);
         }
 
-        return new RDBMSCompiledCondition(compiledSelectionList.toString(), paramMap, false, new ArrayList<>(),
-                containsLastFunction, compiledSubSelectQuerySelection.toString(), compiledOuterOnCondition.toString(),
-                null, null);
+        RDBMSCompiledCondition compiledSelectClause = new RDBMSCompiledCondition(compiledSelectionList.toString(),
+                paramMap, false, new ArrayList<>(), containsLastFunction, compiledSubSelectQuerySelection.toString(),
+                compiledOuterOnCondition.toString(), null, null);
+        if (containsLastFunction) {
+            compiledSelectClause.setLastValueSelectors(compiledLastValueSelection.toString());
+            compiledSelectClause.setLastValueWindowSelectors(compiledLastValueWindowSelection.toString());
+            compiledSelectClause.setLastValueWindowColumns(compiledLastValueWindowColumns.toString());
+        }
+        return compiledSelectClause;
     }
 
     private RDBMSCompiledCondition compileClause(List<ExpressionBuilder> expressionBuilders, boolean isHavingClause) {
@@ -2305,6 +4681,32 @@ public class RDBMSEventTable extends AbstractQueryableRecordTable {
                 new ArrayList<>(), false, null, null, null, null);
     }
 
+    /**
+     * Writer through which the write-behind buffer executes the buffered operations against the database.
+     */
+    private class WriteBehindWriter implements RDBMSWriteBehindBuffer.Writer {
+
+        @Override
+        public void add(List<Object[]> records) throws ConnectionUnavailableException {
+            executeAdd(records);
+        }
+
+        @Override
+        public void update(CompiledCondition compiledCondition,
+                           List<Map<String, Object>> updateConditionParameterMaps,
+                           Map<String, CompiledExpression> updateSetExpressions,
+                           List<Map<String, Object>> updateSetParameterMaps) throws ConnectionUnavailableException {
+            executeUpdate(compiledCondition, updateConditionParameterMaps, updateSetExpressions,
+                    updateSetParameterMaps);
+        }
+
+        @Override
+        public void delete(List<Map<String, Object>> deleteConditionParameterMaps,
+                           CompiledCondition compiledCondition) throws ConnectionUnavailableException {
+            batchProcessDelete(deleteConditionParameterMaps, compiledCondition);
+        }
+    }
+
     private static class DefaultConfigReader implements ConfigReader {
         @Override
         public String readConfig(String name, String defaultValue) {
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms;
+
+import io.siddhi.core.table.record.RecordIterator;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * {@link RecordIterator} which serves only the records of another iterator satisfying a predicate, used to apply the
+ * part of a condition which is evaluated in memory to the records read from the database.
+ */
+public class RDBMSFilteredRecordIterator implements RecordIterator<Object[]> {
+
+    private final RecordIterator<Object[]> records;
+    private final Predicate<Object[]> predicate;
+    private Object[] nextRecord;
+
+    public RDBMSFilteredRecordIterator(RecordIterator<Object[]> records, Predicate<Object[]> predicate) {
+        this.records = records;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (nextRecord == null && records.hasNext()) {
+            Object[] record = records.next();
+            if (predicate.test(record)) {
+                nextRecord = record;
+            }
+        }
+        return nextRecord != null;
+    }
+
+    @Override
+    public Object[] next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object[] record = nextRecord;
+        nextRecord = null;
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        records.close();
+    }
+}
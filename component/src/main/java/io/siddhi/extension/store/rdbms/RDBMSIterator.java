@@ -27,7 +27,6 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -45,6 +44,8 @@ public class RDBMSIterator implements RecordIterator<Object[]> {
     private List<Attribute> attributes;
     private String tableName;
     private boolean allowNullValues;
+    private int[] columnIndices;
+    private ColumnExtractor[] columnExtractors;
 
     public RDBMSIterator(Connection conn, PreparedStatement stmt, ResultSet rs, List<Attribute> attributes,
                          String tableName, boolean allowNullValues) {
@@ -102,39 +103,60 @@ public class RDBMSIterator implements RecordIterator<Object[]> {
      *                      to the table definition
      */
     private Object[] extractRecord(ResultSet rs, boolean allowNullValues) throws SQLException {
-        List<Object> result = new ArrayList<>();
-        for (Attribute attribute : this.attributes) {
-            Object value = null;
+        if (this.columnExtractors == null) {
+            this.resolveColumns(rs);
+        }
+        Object[] result = new Object[this.columnExtractors.length];
+        for (int i = 0; i < result.length; i++) {
+            Object value = this.columnExtractors[i].extract(rs, this.columnIndices[i]);
+            if (!(allowNullValues && rs.wasNull())) {
+                result[i] = value;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Method which resolves the column index and the extractor of each attribute once per {@link ResultSet}, so that
+     * the values of a row are not looked up by column name.
+     *
+     * @param rs the {@link ResultSet} from which the values should be retrieved.
+     * @throws SQLException if a column of an attribute is not present in the {@link ResultSet}.
+     */
+    private void resolveColumns(ResultSet rs) throws SQLException {
+        int[] indices = new int[this.attributes.size()];
+        ColumnExtractor[] extractors = new ColumnExtractor[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            Attribute attribute = this.attributes.get(i);
+            indices[i] = rs.findColumn(attribute.getName());
             switch (attribute.getType()) {
                 case BOOL:
-                    value = rs.getBoolean(attribute.getName());
+                    extractors[i] = ResultSet::getBoolean;
                     break;
                 case DOUBLE:
-                    value = rs.getDouble(attribute.getName());
+                    extractors[i] = ResultSet::getDouble;
                     break;
                 case FLOAT:
-                    value = rs.getFloat(attribute.getName());
+                    extractors[i] = ResultSet::getFloat;
                     break;
                 case INT:
-                    value = rs.getInt(attribute.getName());
+                    extractors[i] = ResultSet::getInt;
                     break;
                 case LONG:
-                    value = rs.getLong(attribute.getName());
+                    extractors[i] = ResultSet::getLong;
                     break;
                 case OBJECT:
-                    value = rs.getObject(attribute.getName());
+                    extractors[i] = ResultSet::getObject;
                     break;
                 case STRING:
-                    value = rs.getString(attribute.getName());
+                    extractors[i] = ResultSet::getString;
                     break;
-            }
-            if (allowNullValues && rs.wasNull()) {
-                result.add(null);
-            } else {
-                result.add(value);
+                default:
+                    extractors[i] = (resultSet, index) -> null;
             }
         }
-        return result.toArray();
+        this.columnIndices = indices;
+        this.columnExtractors = extractors;
     }
 
     @Override
@@ -157,4 +179,12 @@ public class RDBMSIterator implements RecordIterator<Object[]> {
         super.finalize();
     }
 
+    /**
+     * Extracts the value of a column of a particular type from the current row of a {@link ResultSet}.
+     */
+    @FunctionalInterface
+    private interface ColumnExtractor {
+
+        Object extract(ResultSet rs, int columnIndex) throws SQLException;
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms;
+
+import io.siddhi.core.exception.ConnectionUnavailableException;
+import io.siddhi.extension.store.rdbms.exception.RDBMSTableException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Class which coalesces concurrent lookups of records by their primary key into batched reads. The first caller
+ * becomes a leader and reads its key right away. Lookups which arrive while the maximum number of reads are in
+ * progress are queued, and the next leader reads all queued keys with a single statement once a previous read
+ * completes. Hence a lookup is never delayed when there is no contention, while concurrent lookups share one round
+ * trip and one connection. With a single concurrent read all lookups are serialized behind the one in-flight read.
+ */
+public class RDBMSKeyLookupBatcher {
+
+    private final int maxBatchSize;
+    private final int maxConcurrentReads;
+    private final Loader loader;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition completed = lock.newCondition();
+    private final Deque<Request> pending = new ArrayDeque<>();
+    private int activeLeaders;
+
+    /**
+     * @param maxBatchSize       the maximum number of keys read with a single statement.
+     * @param maxConcurrentReads the maximum number of batched reads in progress at the same time.
+     * @param loader             the function reading the records of a batch of keys.
+     */
+    public RDBMSKeyLookupBatcher(int maxBatchSize, int maxConcurrentReads, Loader loader) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxConcurrentReads = maxConcurrentReads;
+        this.loader = loader;
+    }
+
+    /**
+     * Looks up the record of the given primary key values, reading it together with the keys of concurrent lookups.
+     *
+     * @param key the primary key values, in primary key order.
+     * @return the record, or null if no record exists for the key.
+     * @throws ConnectionUnavailableException if the database is not reachable.
+     */
+    public Object[] lookup(List<Object> key) throws ConnectionUnavailableException {
+        Request request = new Request(key);
+        lock.lock();
+        try {
+            pending.add(request);
+            while (!request.done) {
+                // A request which is already being read by another leader only waits for that read.
+                if (request.taken || activeLeaders >= maxConcurrentReads) {
+                    completed.awaitUninterruptibly();
+                    continue;
+                }
+                activeLeaders++;
+                List<Request> batch = new ArrayList<>(Math.min(pending.size(), maxBatchSize));
+                while (!pending.isEmpty() && batch.size() < maxBatchSize) {
+                    Request next = pending.poll();
+                    next.taken = true;
+                    batch.add(next);
+                }
+                lock.unlock();
+                try {
+                    this.load(batch);
+                } finally {
+                    lock.lock();
+                    activeLeaders--;
+                    completed.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (request.error instanceof ConnectionUnavailableException) {
+            throw new ConnectionUnavailableException(request.error.getMessage(), request.error);
+        } else if (request.error != null) {
+            throw new RDBMSTableException(request.error.getMessage(), request.error);
+        }
+        return request.record;
+    }
+
+    private void load(List<Request> batch) {
+        Set<List<Object>> keys = new LinkedHashSet<>();
+        for (Request request : batch) {
+            keys.add(request.key);
+        }
+        Map<List<Object>, Object[]> records = null;
+        Exception error = null;
+        try {
+            records = loader.load(new ArrayList<>(keys));
+        } catch (ConnectionUnavailableException | RuntimeException e) {
+            error = e;
+        }
+        lock.lock();
+        try {
+            for (Request request : batch) {
+                if (error != null) {
+                    request.error = error;
+                } else {
+                    request.record = records.get(request.key);
+                }
+                request.done = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads the records of a batch of primary keys.
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * @param keys the distinct primary key values.
+         * @return the records mapped to their primary key values; keys without a record are not mapped.
+         * @throws ConnectionUnavailableException if the database is not reachable.
+         */
+        Map<List<Object>, Object[]> load(List<List<Object>> keys) throws ConnectionUnavailableException;
+    }
+
+    private static class Request {
+
+        private final List<Object> key;
+        private Object[] record;
+        private Exception error;
+        private boolean taken;
+        private boolean done;
+
+        private Request(List<Object> key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms;
+
+import io.siddhi.core.table.record.RecordIterator;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Index of the page boundaries of paginated queries executed on an RDBMS Event Table, used for keyset (seek)
+ * pagination. When a page of a query ordered by the primary key is read to the end, the key of its last record is
+ * recorded against the position following the page. A later query of the same shape starting at that position is
+ * then executed with a condition seeking past the recorded key, instead of making the database skip the preceding
+ * records through an OFFSET clause.
+ * <p>
+ * Boundaries are held in least recently used order up to the configured number. Any write through the table
+ * invalidates all boundaries, since a write may shift the position of records. Every invalidation advances a
+ * generation, and a boundary is only recorded if no invalidation happened while its page was being read.
+ */
+public class RDBMSKeysetPageIndex {
+
+    private final int maxSize;
+    private final LinkedHashMap<List<Object>, Object[]> boundaries = new LinkedHashMap<>(16, 0.75f, true);
+    private long generation;
+
+    /**
+     * @param maxSize the maximum number of boundaries held.
+     */
+    public RDBMSKeysetPageIndex(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the generation of the index, which should be obtained before reading a page to be tracked.
+     *
+     * @return the current generation.
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Looks up the key of the record preceding the given position of a query.
+     *
+     * @param shape    the query without its limit and offset, and the values bound to it.
+     * @param position the number of records preceding the page.
+     * @return the key values of the preceding record in ORDER BY order, or null if no boundary is recorded.
+     */
+    public synchronized Object[] find(List<Object> shape, long position) {
+        return boundaries.get(Arrays.asList(shape, position));
+    }
+
+    /**
+     * Removes all boundaries.
+     */
+    public synchronized void invalidateAll() {
+        boundaries.clear();
+        generation++;
+    }
+
+    /**
+     * Wraps the iterator of a page, so that the boundary following the page is recorded once it is read to the end.
+     *
+     * @param iterator     the iterator of the page.
+     * @param shape        the query without its limit and offset, and the values bound to it.
+     * @param position     the number of records preceding the page.
+     * @param limit        the maximum number of records of the page.
+     * @param keyPositions the positions of the ORDER BY columns in the selected records.
+     * @param generation   the generation obtained before the page was read.
+     * @return the wrapping iterator.
+     */
+    public RecordIterator<Object[]> track(RecordIterator<Object[]> iterator, List<Object> shape, long position,
+                                          long limit, int[] keyPositions, long generation) {
+        return new TrackingRecordIterator(iterator, shape, position, limit, keyPositions, generation);
+    }
+
+    private synchronized void record(List<Object> shape, long position, Object[] key, long generation) {
+        if (generation != this.generation) {
+            return;
+        }
+        boundaries.put(Arrays.asList(shape, position), key);
+        Iterator<List<Object>> iterator = boundaries.keySet().iterator();
+        while (boundaries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * {@link RecordIterator} which records the boundary following a full page once the page is read to the end.
+     */
+    private class TrackingRecordIterator implements RecordIterator<Object[]> {
+
+        private final RecordIterator<Object[]> iterator;
+        private final List<Object> shape;
+        private final long position;
+        private final long limit;
+        private final int[] keyPositions;
+        private final long generation;
+        private Object[] lastRecord;
+        private long count;
+        private boolean recorded;
+
+        private TrackingRecordIterator(RecordIterator<Object[]> iterator, List<Object> shape, long position,
+                                       long limit, int[] keyPositions, long generation) {
+            this.iterator = iterator;
+            this.shape = shape;
+            this.position = position;
+            this.limit = limit;
+            this.keyPositions = keyPositions;
+            this.generation = generation;
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext = iterator.hasNext();
+            if (!hasNext && !recorded && count == limit && lastRecord != null) {
+                recorded = true;
+                Object[] key = new Object[keyPositions.length];
+                for (int i = 0; i < key.length; i++) {
+                    key[i] = lastRecord[keyPositions[i]];
+                }
+                record(shape, position + count, key, generation);
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Object[] next() {
+            Object[] record = iterator.next();
+            lastRecord = record;
+            count++;
+            return record;
+        }
+
+        @Override
+        public void close() throws IOException {
+            iterator.close();
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms;
+
+import io.siddhi.core.table.record.RecordIterator;
+import io.siddhi.extension.store.rdbms.metrics.RDBMSMetrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A read-through cache of RDBMS Event Table records keyed by their primary key values, used for serving find() and
+ * contains() operations whose condition is an equality on the primary key. The absence of a record is cached as
+ * well. Entries are evicted in least recently used order once the configured number of entries or the estimated
+ * memory is exceeded, and expire after the configured time.
+ * <p>
+ * Writes invalidate the affected keys after they are executed. Every invalidation advances a generation, and a
+ * record read from the database is only cached if no invalidation happened while it was being read, hence a
+ * concurrent write cannot leave a stale entry behind.
+ */
+public class RDBMSPrimaryKeyCache {
+
+    private static final Object[] ABSENT_RECORD = new Object[0];
+    private static final long ENTRY_OVERHEAD_BYTES = 96;
+
+    private final int maxSize;
+    private final long maxMemoryBytes;
+    private final long expiryNanos;
+    private final RDBMSMetrics metrics;
+    private final LinkedHashMap<List<Object>, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    private long generation;
+
+    /**
+     * @param maxSize        the maximum number of entries, or 0 if the number of entries is not bounded.
+     * @param maxMemoryBytes the maximum estimated memory of the entries, or 0 if the memory is not bounded.
+     * @param expiryMillis   the time after which an entry expires, or 0 if entries do not expire.
+     * @param metrics        the metrics to which hits, misses and evictions are reported (can be null).
+     */
+    public RDBMSPrimaryKeyCache(int maxSize, long maxMemoryBytes, long expiryMillis, RDBMSMetrics metrics) {
+        this.maxSize = maxSize;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.expiryNanos = expiryMillis * 1_000_000L;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Creates the cache key for the primary key values held by the given parameters.
+     *
+     * @param parameterNames the names of the parameters holding the primary key values, in primary key order.
+     * @param parameterMap   the runtime values of the parameters.
+     * @return the cache key.
+     */
+    public static List<Object> createKey(String[] parameterNames, Map<String, Object> parameterMap) {
+        Object[] key = new Object[parameterNames.length];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = parameterMap.get(parameterNames[i]);
+        }
+        return Arrays.asList(key);
+    }
+
+    /**
+     * Creates the cache key for the primary key values of the given record.
+     *
+     * @param primaryKeyIndices the indices of the primary key attributes in the record, in primary key order.
+     * @param record            the record.
+     * @return the cache key.
+     */
+    public static List<Object> createKey(int[] primaryKeyIndices, Object[] record) {
+        Object[] key = new Object[primaryKeyIndices.length];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = record[primaryKeyIndices[i]];
+        }
+        return Arrays.asList(key);
+    }
+
+    /**
+     * Returns the generation of the cache, which should be obtained before reading a record to be cached.
+     *
+     * @return the current generation.
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Looks up the record of the given key.
+     *
+     * @param key the primary key values.
+     * @return the lookup result, or null if the key is not cached.
+     */
+    public Lookup get(List<Object> key) {
+        Entry entry;
+        boolean expired = false;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && expiryNanos > 0 && System.nanoTime() - entry.createdNanos > expiryNanos) {
+                this.remove(key);
+                entry = null;
+                expired = true;
+            }
+        }
+        if (metrics != null) {
+            if (expired) {
+                metrics.getPrimaryKeyCacheEvictionCountMetric().inc();
+            }
+            if (entry != null) {
+                metrics.getPrimaryKeyCacheHitCountMetric().inc();
+            } else {
+                metrics.getPrimaryKeyCacheMissCountMetric().inc();
+            }
+        }
+        return (entry == null) ? null : new Lookup(entry.record == ABSENT_RECORD ? null : entry.record);
+    }
+
+    /**
+     * Caches the record of the given key, unless the cache was invalidated after the given generation.
+     *
+     * @param key        the primary key values.
+     * @param record     the record read from the database, or null if no record exists for the key.
+     * @param generation the generation obtained before the record was read.
+     */
+    public void put(List<Object> key, Object[] record, long generation) {
+        int evicted = 0;
+        synchronized (this) {
+            if (generation != this.generation) {
+                return;
+            }
+            this.remove(key);
+            Entry entry = new Entry(record == null ? ABSENT_RECORD : record, estimateSize(key, record),
+                    System.nanoTime());
+            entries.put(key, entry);
+            memoryBytes += entry.sizeBytes;
+            Iterator<List<Object>> iterator = entries.keySet().iterator();
+            while (((maxSize > 0 && entries.size() > maxSize) || (maxMemoryBytes > 0 && memoryBytes > maxMemoryBytes))
+                    && iterator.hasNext()) {
+                memoryBytes -= entries.get(iterator.next()).sizeBytes;
+                iterator.remove();
+                evicted++;
+            }
+        }
+        if (metrics != null && evicted > 0) {
+            metrics.getPrimaryKeyCacheEvictionCountMetric().inc(evicted);
+        }
+    }
+
+    /**
+     * Removes the record of the given key.
+     *
+     * @param key the primary key values.
+     */
+    public synchronized void invalidate(List<Object> key) {
+        this.remove(key);
+        generation++;
+    }
+
+    /**
+     * Removes all cached records.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        memoryBytes = 0;
+        generation++;
+    }
+
+    private void remove(List<Object> key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            memoryBytes -= entry.sizeBytes;
+        }
+    }
+
+    /**
+     * Creates an iterator over the given record.
+     *
+     * @param record the record, or null for an empty iterator.
+     * @return the iterator.
+     */
+    public static RecordIterator<Object[]> iterator(Object[] record) {
+        return new RDBMSCachedRecordIterator(record == null ?
+                Collections.emptyIterator() : Collections.singletonList(record).iterator());
+    }
+
+    private static long estimateSize(List<Object> key, Object[] record) {
+        long size = ENTRY_OVERHEAD_BYTES;
+        for (Object value : key) {
+            size += estimateSize(value);
+        }
+        if (record != null) {
+            for (Object value : record) {
+                size += estimateSize(value);
+            }
+        }
+        return size;
+    }
+
+    static long estimateSize(Object value) {
+        if (value == null) {
+            return 8;
+        } else if (value instanceof String) {
+            return 48 + 2L * ((String) value).length();
+        } else if (value instanceof Number || value instanceof Boolean) {
+            return 24;
+        }
+        return 64;
+    }
+
+    /**
+     * The result of a cache lookup.
+     */
+    public static class Lookup {
+
+        private final Object[] record;
+
+        private Lookup(Object[] record) {
+            this.record = record;
+        }
+
+        /**
+         * @return the cached record, or null if it is cached that no record exists for the key.
+         */
+        public Object[] getRecord() {
+            return record;
+        }
+    }
+
+    private static class Entry {
+
+        private final Object[] record;
+        private final long sizeBytes;
+        private final long createdNanos;
+
+        private Entry(Object[] record, long sizeBytes, long createdNanos) {
+            this.record = record;
+            this.sizeBytes = sizeBytes;
+            this.createdNanos = createdNanos;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms;
+
+import io.siddhi.extension.store.rdbms.metrics.RDBMSMetrics;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * A cache of the results of on-demand and join queries executed on an RDBMS Event Table, keyed by the SQL of the
+ * query and the values bound to it. Entries expire after the configured time, and are evicted in least recently used
+ * order once their estimated memory exceeds the configured bound. Results larger than the bound are not cached.
+ * <p>
+ * Concurrent executions of the same query are deduplicated: the first one reads the result from the database while
+ * the others wait for it to be cached. Any write through the table invalidates all entries, since a write may change
+ * the result of any query. Every invalidation advances a generation, and a result is only cached if no invalidation
+ * happened while it was being read.
+ */
+public class RDBMSQueryResultCache {
+
+    private static final long ENTRY_OVERHEAD_BYTES = 128;
+    private static final long RECORD_OVERHEAD_BYTES = 16;
+
+    private final long maxMemoryBytes;
+    private final long expiryNanos;
+    private final RDBMSMetrics metrics;
+    private final LinkedHashMap<List<Object>, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<List<Object>, CountDownLatch> loads = new HashMap<>();
+    private long memoryBytes;
+    private long generation;
+
+    /**
+     * @param maxMemoryBytes the maximum estimated memory of the cached results.
+     * @param expiryMillis   the time after which a cached result expires.
+     * @param metrics        the metrics to which hits and misses are reported (can be null).
+     */
+    public RDBMSQueryResultCache(long maxMemoryBytes, long expiryMillis, RDBMSMetrics metrics) {
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.expiryNanos = expiryMillis * 1_000_000L;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Looks up the result of the given query. If the query is being read by another thread, waits until it is read.
+     *
+     * @param key the SQL of the query and the values bound to it.
+     * @return the lookup, which holds either the cached result or a load which should be completed through
+     * {@link #complete(Lookup, List)} once the result is read.
+     */
+    public Lookup get(List<Object> key) {
+        boolean waited = false;
+        while (true) {
+            CountDownLatch load;
+            synchronized (this) {
+                Entry entry = entries.get(key);
+                if (entry != null && System.nanoTime() - entry.createdNanos > expiryNanos) {
+                    this.remove(key);
+                    entry = null;
+                }
+                if (entry != null) {
+                    if (metrics != null) {
+                        metrics.getQueryCacheHitCountMetric().inc();
+                    }
+                    return new Lookup(key, entry.records, generation, false);
+                }
+                load = loads.get(key);
+                if (load == null || waited) {
+                    if (metrics != null) {
+                        metrics.getQueryCacheMissCountMetric().inc();
+                    }
+                    //A thread which waited for a load which did not cache its result reads the result itself,
+                    //without blocking further threads
+                    boolean leader = load == null;
+                    if (leader) {
+                        loads.put(key, new CountDownLatch(1));
+                    }
+                    return new Lookup(key, null, generation, leader);
+                }
+            }
+            try {
+                load.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            waited = true;
+        }
+    }
+
+    /**
+     * Completes the load of a lookup, caching the given result unless the cache was invalidated since the lookup,
+     * and releases the threads waiting for it.
+     *
+     * @param lookup  the lookup which missed the cache.
+     * @param records the result read from the database, or null if it could not be read or is too large to cache.
+     */
+    public void complete(Lookup lookup, List<Object[]> records) {
+        CountDownLatch load = null;
+        synchronized (this) {
+            if (records != null && lookup.generation == generation) {
+                this.remove(lookup.key);
+                long sizeBytes = ENTRY_OVERHEAD_BYTES + estimateSize(records);
+                if (sizeBytes <= maxMemoryBytes) {
+                    entries.put(lookup.key, new Entry(records, sizeBytes, System.nanoTime()));
+                    memoryBytes += sizeBytes;
+                    Iterator<Entry> iterator = entries.values().iterator();
+                    while (memoryBytes > maxMemoryBytes && iterator.hasNext()) {
+                        memoryBytes -= iterator.next().sizeBytes;
+                        iterator.remove();
+                    }
+                }
+            }
+            if (lookup.leader) {
+                load = loads.remove(lookup.key);
+            }
+        }
+        if (load != null) {
+            load.countDown();
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        memoryBytes = 0;
+        generation++;
+    }
+
+    /**
+     * @return the maximum estimated memory of a result which can be cached.
+     */
+    public long getMaxResultSize() {
+        return maxMemoryBytes - ENTRY_OVERHEAD_BYTES;
+    }
+
+    /**
+     * Estimates the memory held by a record of a result.
+     *
+     * @param record the record.
+     * @return the estimated memory in bytes.
+     */
+    public static long estimateSize(Object[] record) {
+        long size = RECORD_OVERHEAD_BYTES;
+        for (Object value : record) {
+            size += RDBMSPrimaryKeyCache.estimateSize(value);
+        }
+        return size;
+    }
+
+    private static long estimateSize(List<Object[]> records) {
+        long size = 0;
+        for (Object[] record : records) {
+            size += estimateSize(record);
+        }
+        return size;
+    }
+
+    private void remove(List<Object> key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            memoryBytes -= entry.sizeBytes;
+        }
+    }
+
+    /**
+     * The result of a cache lookup.
+     */
+    public static class Lookup {
+
+        private final List<Object> key;
+        private final List<Object[]> records;
+        private final long generation;
+        private final boolean leader;
+
+        private Lookup(List<Object> key, List<Object[]> records, long generation, boolean leader) {
+            this.key = key;
+            this.records = records;
+            this.generation = generation;
+            this.leader = leader;
+        }
+
+        /**
+         * @return the cached result, or null if the result should be read from the database.
+         */
+        public List<Object[]> getRecords() {
+            return records;
+        }
+    }
+
+    private static class Entry {
+
+        private final List<Object[]> records;
+        private final long sizeBytes;
+        private final long createdNanos;
+
+        private Entry(List<Object[]> records, long sizeBytes, long createdNanos) {
+            this.records = records;
+            this.sizeBytes = sizeBytes;
+            this.createdNanos = createdNanos;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms;
+
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.event.stream.MetaStreamEvent;
+import io.siddhi.core.event.stream.StreamEvent;
+import io.siddhi.core.exception.OperationNotSupportedException;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.VariableExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.table.Table;
+import io.siddhi.core.util.SiddhiConstants;
+import io.siddhi.core.util.parser.ExpressionParser;
+import io.siddhi.core.util.parser.helper.QueryParserHelper;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.definition.StreamDefinition;
+import io.siddhi.query.api.expression.AttributeFunction;
+import io.siddhi.query.api.expression.Expression;
+import io.siddhi.query.api.expression.Variable;
+import io.siddhi.query.api.expression.condition.And;
+import io.siddhi.query.api.expression.condition.Compare;
+import io.siddhi.query.api.expression.condition.IsNull;
+import io.siddhi.query.api.expression.condition.Not;
+import io.siddhi.query.api.expression.condition.Or;
+import io.siddhi.query.api.expression.constant.Constant;
+import io.siddhi.query.api.expression.math.Add;
+import io.siddhi.query.api.expression.math.Divide;
+import io.siddhi.query.api.expression.math.Mod;
+import io.siddhi.query.api.expression.math.Multiply;
+import io.siddhi.query.api.expression.math.Subtract;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The part of a condition on the RDBMS Event Table which cannot be expressed in SQL, i.e. the top level conjuncts
+ * using functions the database cannot evaluate. These conjuncts are compiled into a Siddhi expression executor
+ * which is applied to the records read with the remaining conjuncts. The executor runs against an event holding the
+ * attributes of the table followed by the stream variables of the conjuncts.
+ */
+public class RDBMSResidualCondition {
+
+    private static final String PARAMETER_PREFIX = "_residual_parameter_";
+
+    private final ExpressionExecutor expressionExecutor;
+    private final int attributeCount;
+    private final List<String> parameterNames = new ArrayList<>();
+
+    /**
+     * @param condition          the condition on the table.
+     * @param residualConjuncts  the indices of the top level conjuncts of the condition to be evaluated in memory.
+     * @param variables          the variables of the conjuncts in visiting order, where stream variables are given by
+     *                           their parameter name and type, and store variables by null.
+     * @param attributes         the attributes of the table.
+     * @param tableMap           the tables of the Siddhi app.
+     * @param siddhiQueryContext the context of the query the condition belongs to.
+     */
+    public RDBMSResidualCondition(Expression condition, List<Integer> residualConjuncts, List<Attribute> variables,
+                                  List<Attribute> attributes, Map<String, Table> tableMap,
+                                  SiddhiQueryContext siddhiQueryContext) {
+        List<Expression> conjuncts = new ArrayList<>();
+        flattenConjuncts(condition, conjuncts);
+        Iterator<Attribute> variableIterator = variables.iterator();
+        StreamDefinition definition = StreamDefinition.id(PARAMETER_PREFIX + "stream");
+        attributes.forEach(attribute -> definition.attribute(attribute.getName(), attribute.getType()));
+        Expression residualExpression = null;
+        for (int conjunctIndex : residualConjuncts) {
+            Expression conjunct = this.rewrite(conjuncts.get(conjunctIndex), variableIterator, definition);
+            residualExpression = (residualExpression == null) ? conjunct :
+                    Expression.and(residualExpression, conjunct);
+        }
+        if (variableIterator.hasNext()) {
+            throw new OperationNotSupportedException("The condition '" + condition + "' cannot be evaluated by " +
+                    "the RDBMS Event table as its variables could not be resolved.");
+        }
+        this.attributeCount = attributes.size();
+        MetaStreamEvent metaStreamEvent = new MetaStreamEvent();
+        metaStreamEvent.addInputDefinition(definition);
+        definition.getAttributeList().forEach(metaStreamEvent::addOutputData);
+        List<VariableExpressionExecutor> variableExpressionExecutors = new ArrayList<>();
+        this.expressionExecutor = ExpressionParser.parseExpression(residualExpression, metaStreamEvent,
+                SiddhiConstants.UNKNOWN_STATE, tableMap, variableExpressionExecutors, false, 0,
+                ProcessingMode.BATCH, false, siddhiQueryContext);
+        QueryParserHelper.updateVariablePosition(metaStreamEvent, variableExpressionExecutors);
+    }
+
+    private static void flattenConjuncts(Expression expression, List<Expression> conjuncts) {
+        if (expression instanceof And) {
+            flattenConjuncts(((And) expression).getLeftExpression(), conjuncts);
+            flattenConjuncts(((And) expression).getRightExpression(), conjuncts);
+        } else {
+            conjuncts.add(expression);
+        }
+    }
+
+    /**
+     * Copies the given expression, replacing store variables by the attributes of the table and stream variables by
+     * parameters appended to the given definition. Variables are visited in the same order as when the condition is
+     * compiled, hence they line up with the given variables.
+     */
+    private Expression rewrite(Expression expression, Iterator<Attribute> variables, StreamDefinition definition) {
+        if (expression instanceof And) {
+            return Expression.and(this.rewrite(((And) expression).getLeftExpression(), variables, definition),
+                    this.rewrite(((And) expression).getRightExpression(), variables, definition));
+        } else if (expression instanceof Or) {
+            return Expression.or(this.rewrite(((Or) expression).getLeftExpression(), variables, definition),
+                    this.rewrite(((Or) expression).getRightExpression(), variables, definition));
+        } else if (expression instanceof Not) {
+            return Expression.not(this.rewrite(((Not) expression).getExpression(), variables, definition));
+        } else if (expression instanceof Compare) {
+            Compare compare = (Compare) expression;
+            return Expression.compare(this.rewrite(compare.getLeftExpression(), variables, definition),
+                    compare.getOperator(), this.rewrite(compare.getRightExpression(), variables, definition));
+        } else if (expression instanceof Add) {
+            return Expression.add(this.rewrite(((Add) expression).getLeftValue(), variables, definition),
+                    this.rewrite(((Add) expression).getRightValue(), variables, definition));
+        } else if (expression instanceof Subtract) {
+            return Expression.subtract(this.rewrite(((Subtract) expression).getLeftValue(), variables, definition),
+                    this.rewrite(((Subtract) expression).getRightValue(), variables, definition));
+        } else if (expression instanceof Multiply) {
+            return Expression.multiply(this.rewrite(((Multiply) expression).getLeftValue(), variables, definition),
+                    this.rewrite(((Multiply) expression).getRightValue(), variables, definition));
+        } else if (expression instanceof Divide) {
+            return Expression.divide(this.rewrite(((Divide) expression).getLeftValue(), variables, definition),
+                    this.rewrite(((Divide) expression).getRightValue(), variables, definition));
+        } else if (expression instanceof Mod) {
+            return Expression.mod(this.rewrite(((Mod) expression).getLeftValue(), variables, definition),
+                    this.rewrite(((Mod) expression).getRightValue(), variables, definition));
+        } else if (expression instanceof IsNull && ((IsNull) expression).getExpression() != null) {
+            return Expression.isNull(this.rewrite(((IsNull) expression).getExpression(), variables, definition));
+        } else if (expression instanceof Constant) {
+            return expression;
+        } else if (expression instanceof AttributeFunction) {
+            AttributeFunction function = (AttributeFunction) expression;
+            Expression[] parameters = new Expression[function.getParameters().length];
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = this.rewrite(function.getParameters()[i], variables, definition);
+            }
+            return Expression.function(function.getNamespace(), function.getName(), parameters);
+        } else if (expression instanceof Variable && variables.hasNext()) {
+            Attribute parameter = variables.next();
+            if (parameter == null) {
+                return Expression.variable(((Variable) expression).getAttributeName());
+            }
+            String parameterName = PARAMETER_PREFIX + parameterNames.size();
+            parameterNames.add(parameter.getName());
+            definition.attribute(parameterName, parameter.getType());
+            return Expression.variable(parameterName);
+        }
+        throw new OperationNotSupportedException("The expression '" + expression + "' cannot be evaluated by the " +
+                "RDBMS Event table.");
+    }
+
+    /**
+     * Evaluates the conjuncts against the given record.
+     *
+     * @param record     the record of the table.
+     * @param parameters the values of the stream variables of the condition.
+     * @return true if the record satisfies the conjuncts.
+     */
+    public boolean matches(Object[] record, Map<String, Object> parameters) {
+        Object[] data = new Object[attributeCount + parameterNames.size()];
+        System.arraycopy(record, 0, data, 0, attributeCount);
+        for (int i = 0; i < parameterNames.size(); i++) {
+            data[attributeCount + i] = parameters.get(parameterNames.get(i));
+        }
+        StreamEvent event = new StreamEvent(0, 0, data.length);
+        event.setOutputData(data);
+        return Boolean.TRUE.equals(expressionExecutor.execute(event));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms;
+
+import io.siddhi.core.table.record.RecordIterator;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link RecordIterator} which serves records already read from a query result before the remaining records of the
+ * result, used when a result turns out to be too large to be cached after part of it was read.
+ */
+public class RDBMSResumedRecordIterator implements RecordIterator<Object[]> {
+
+    private final Iterator<Object[]> readRecords;
+    private final RecordIterator<Object[]> remainingRecords;
+
+    public RDBMSResumedRecordIterator(List<Object[]> readRecords, RecordIterator<Object[]> remainingRecords) {
+        this.readRecords = readRecords.iterator();
+        this.remainingRecords = remainingRecords;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return readRecords.hasNext() || remainingRecords.hasNext();
+    }
+
+    @Override
+    public Object[] next() {
+        if (readRecords.hasNext()) {
+            return readRecords.next();
+        }
+        if (!remainingRecords.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return remainingRecords.next();
+    }
+
+    @Override
+    public void close() throws IOException {
+        remainingRecords.close();
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory copy of all rows of an RDBMS Event Table, used for serving find(), contains() and query() operations
+ * whose condition is a conjunction of equalities between table columns and stream variables. Rows are held by their
+ * primary key values, and the columns of the table's indices are indexed as well, so that lookups on either do not
+ * scan the mirror.
+ * <p>
+ * Writes executed through the table are applied to the mirror after they succeed on the database. Each such write
+ * advances a version, and rows read from the database are only loaded into the mirror if no write was applied while
+ * they were being read, hence a concurrent reload cannot overwrite a newer row with a stale one.
+ */
+public class RDBMSTableMirror {
+
+    private final int[] primaryKeyIndices;
+    private final int[] indexedColumns;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<List<Object>, Object[]> rows;
+    private List<Map<Object, Set<List<Object>>>> indices;
+    private boolean loaded;
+    private long version;
+
+    /**
+     * @param primaryKeyIndices the indices of the primary key attributes in a row, in primary key order.
+     * @param indexedColumns    the indices of the attributes to be indexed.
+     */
+    public RDBMSTableMirror(int[] primaryKeyIndices, int[] indexedColumns) {
+        this.primaryKeyIndices = primaryKeyIndices;
+        this.indexedColumns = indexedColumns;
+        this.reset(0);
+    }
+
+    /**
+     * Returns the version of the mirror, which should be obtained before reading the rows to be loaded.
+     *
+     * @return the current version.
+     */
+    public long getVersion() {
+        lock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return true if the mirror holds all rows of the table, i.e. it can serve reads.
+     */
+    public boolean isLoaded() {
+        lock.readLock().lock();
+        try {
+            return loaded;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the content of the mirror with the given rows, unless a write was applied after the given version.
+     *
+     * @param tableRows all rows of the table.
+     * @param version   the version obtained before the rows were read.
+     * @return true if the rows were loaded.
+     */
+    public boolean load(List<Object[]> tableRows, long version) {
+        lock.writeLock().lock();
+        try {
+            if (version != this.version) {
+                return false;
+            }
+            this.reset(tableRows.size());
+            tableRows.forEach(this::putRow);
+            loaded = true;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces the given rows, unless a write was applied after the given version.
+     *
+     * @param modifiedRows the rows modified on the database since the last load or merge.
+     * @param version      the version obtained before the rows were read.
+     * @return true if the rows were merged.
+     */
+    public boolean merge(List<Object[]> modifiedRows, long version) {
+        lock.writeLock().lock();
+        try {
+            if (version != this.version || !loaded) {
+                return false;
+            }
+            modifiedRows.forEach(this::putRow);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops all rows and marks the mirror as not loaded, e.g. after a write whose effect cannot be applied.
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            this.reset(0);
+            loaded = false;
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns copies of the rows whose given columns equal the given values.
+     *
+     * @param columns the indices of the columns to be matched.
+     * @param values  the values to be matched, in the order of the columns.
+     * @return the matching rows.
+     */
+    public List<Object[]> find(int[] columns, Object[] values) {
+        List<Object[]> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Object[] row : this.candidates(columns, values)) {
+                if (matches(row, columns, values)) {
+                    result.add(row.clone());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a row exists whose given columns equal the given values.
+     *
+     * @param columns the indices of the columns to be matched.
+     * @param values  the values to be matched, in the order of the columns.
+     * @return true if such a row exists.
+     */
+    public boolean contains(int[] columns, Object[] values) {
+        lock.readLock().lock();
+        try {
+            for (Object[] row : this.candidates(columns, values)) {
+                if (matches(row, columns, values)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces the given rows, which have been written to the database.
+     *
+     * @param addedRows the rows.
+     */
+    public void add(List<Object[]> addedRows) {
+        lock.writeLock().lock();
+        try {
+            version++;
+            if (!loaded) {
+                return;
+            }
+            for (Object[] row : addedRows) {
+                this.putRow(row.clone());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the rows whose given columns equal the given values, which have been deleted from the database.
+     *
+     * @param columns the indices of the columns to be matched.
+     * @param values  the values to be matched, in the order of the columns.
+     */
+    public void delete(int[] columns, Object[] values) {
+        lock.writeLock().lock();
+        try {
+            version++;
+            if (!loaded) {
+                return;
+            }
+            for (Object[] row : new ArrayList<>(this.candidates(columns, values))) {
+                if (matches(row, columns, values)) {
+                    this.removeRow(RDBMSPrimaryKeyCache.createKey(primaryKeyIndices, row));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Assigns the given values to the rows whose given columns equal the given values, which have been updated on
+     * the database.
+     *
+     * @param columns    the indices of the columns to be matched.
+     * @param values     the values to be matched, in the order of the columns.
+     * @param setColumns the indices of the columns to be assigned.
+     * @param setValues  the values to be assigned, in the order of the assigned columns.
+     * @return the number of updated rows.
+     */
+    public int update(int[] columns, Object[] values, int[] setColumns, Object[] setValues) {
+        lock.writeLock().lock();
+        try {
+            version++;
+            if (!loaded) {
+                return 0;
+            }
+            int count = 0;
+            for (Object[] row : new ArrayList<>(this.candidates(columns, values))) {
+                if (matches(row, columns, values)) {
+                    this.removeRow(RDBMSPrimaryKeyCache.createKey(primaryKeyIndices, row));
+                    Object[] updatedRow = row.clone();
+                    for (int i = 0; i < setColumns.length; i++) {
+                        updatedRow[setColumns[i]] = setValues[i];
+                    }
+                    this.putRow(updatedRow);
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the rows which may match the given columns, looking them up through the primary key or an index when
+     * the columns include those, and falling back to all rows otherwise.
+     */
+    private Collection<Object[]> candidates(int[] columns, Object[] values) {
+        Object[] key = new Object[primaryKeyIndices.length];
+        int keyColumns = 0;
+        for (int i = 0; i < primaryKeyIndices.length; i++) {
+            for (int j = 0; j < columns.length; j++) {
+                if (columns[j] == primaryKeyIndices[i]) {
+                    key[i] = values[j];
+                    keyColumns++;
+                    break;
+                }
+            }
+        }
+        if (keyColumns == primaryKeyIndices.length) {
+            Object[] row = rows.get(Arrays.asList(key));
+            return (row == null) ? Collections.emptyList() : Collections.singletonList(row);
+        }
+        for (int i = 0; i < indexedColumns.length; i++) {
+            for (int j = 0; j < columns.length; j++) {
+                if (columns[j] == indexedColumns[i]) {
+                    Set<List<Object>> keys = indices.get(i).get(values[j]);
+                    if (keys == null) {
+                        return Collections.emptyList();
+                    }
+                    List<Object[]> indexedRows = new ArrayList<>(keys.size());
+                    for (List<Object> indexedKey : keys) {
+                        indexedRows.add(rows.get(indexedKey));
+                    }
+                    return indexedRows;
+                }
+            }
+        }
+        return rows.values();
+    }
+
+    private void reset(int expectedRows) {
+        rows = new HashMap<>(Math.max(16, (int) (expectedRows / 0.75f) + 1));
+        indices = new ArrayList<>(indexedColumns.length);
+        for (int i = 0; i < indexedColumns.length; i++) {
+            indices.add(new HashMap<>());
+        }
+    }
+
+    private static boolean matches(Object[] row, int[] columns, Object[] values) {
+        for (int i = 0; i < columns.length; i++) {
+            if (!Objects.equals(row[columns[i]], values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void putRow(Object[] row) {
+        List<Object> key = RDBMSPrimaryKeyCache.createKey(primaryKeyIndices, row);
+        Object[] previous = rows.put(key, row);
+        for (int i = 0; i < indexedColumns.length; i++) {
+            Map<Object, Set<List<Object>>> index = indices.get(i);
+            if (previous != null) {
+                this.unindex(index, previous[indexedColumns[i]], key);
+            }
+            index.computeIfAbsent(row[indexedColumns[i]], value -> new HashSet<>()).add(key);
+        }
+    }
+
+    private void removeRow(List<Object> key) {
+        Object[] previous = rows.remove(key);
+        if (previous != null) {
+            for (int i = 0; i < indexedColumns.length; i++) {
+                this.unindex(indices.get(i), previous[indexedColumns[i]], key);
+            }
+        }
+    }
+
+    private void unindex(Map<Object, Set<List<Object>>> index, Object value, List<Object> key) {
+        Set<List<Object>> keys = index.get(value);
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                index.remove(value);
+            }
+        }
+    }
+}
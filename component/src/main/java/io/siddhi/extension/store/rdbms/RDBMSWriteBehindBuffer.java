@@ -0,0 +1,452 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms;
+
+import io.siddhi.core.exception.ConnectionUnavailableException;
+import io.siddhi.core.util.collection.operator.CompiledCondition;
+import io.siddhi.core.util.collection.operator.CompiledExpression;
+import io.siddhi.extension.store.rdbms.metrics.RDBMSMetrics;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded buffer which decouples RDBMS Event Table write operations from the event processing threads. Writes are
+ * queued in arrival order and a dedicated flusher executes them once the configured number of rows is buffered or
+ * the oldest buffered write exceeds the flush interval. Consecutive writes of the same kind are coalesced, so that
+ * they are executed as a single batch.
+ */
+public class RDBMSWriteBehindBuffer {
+
+    private static final Log log = LogFactory.getLog(RDBMSWriteBehindBuffer.class);
+    private static final long RETRY_INTERVAL_MILLIS = 1000;
+
+    private final String tableName;
+    private final Writer writer;
+    private final int bufferSize;
+    private final int flushSize;
+    private final long flushIntervalNanos;
+
+    private final ArrayDeque<WriteOperation> operations = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition stopped = lock.newCondition();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private int queuedRows;
+    private int inFlightRows;
+    private long oldestWriteTime;
+    private boolean running;
+    private boolean flusherActive;
+    private volatile long lastFlushLatency;
+
+    public RDBMSWriteBehindBuffer(String tableName, Writer writer, RDBMSMetrics metrics, int bufferSize,
+                                  int flushSize, long flushIntervalMillis) {
+        this.tableName = tableName;
+        this.writer = writer;
+        this.bufferSize = bufferSize;
+        this.flushSize = flushSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        if (metrics != null) {
+            metrics.setWriteBehindBufferDepth(this::getDepth);
+            metrics.setWriteBehindFlushLatency(this::getLastFlushLatency);
+        }
+    }
+
+    /**
+     * Starts the flusher of the buffer, if it is not already running.
+     *
+     * @param executorService the executor service on which the flusher should run.
+     */
+    public void start(ExecutorService executorService) {
+        lock.lock();
+        try {
+            if (running) {
+                return;
+            }
+            running = true;
+            flusherActive = true;
+        } finally {
+            lock.unlock();
+        }
+        executorService.execute(this::runFlusher);
+    }
+
+    /**
+     * Stops the flusher and attempts to write all buffered operations. Operations which could not be written due to
+     * an unavailable connection are retained, so that they are written once the buffer is started again.
+     */
+    public void stop() {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+            notFull.signalAll();
+            while (flusherActive) {
+                stopped.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            this.flush();
+        } catch (ConnectionUnavailableException e) {
+            log.error("Failed to flush " + getDepth() + " buffered rows of store '" + tableName + "' while " +
+                    "stopping the write-behind buffer. They will be written once the store is reconnected.", e);
+        }
+    }
+
+    public void add(List<Object[]> records) {
+        // Records are copied as the event arrays are not owned by the store once add() returns.
+        List<Object[]> copiedRecords = new ArrayList<>(records.size());
+        for (Object[] record : records) {
+            copiedRecords.add(record.clone());
+        }
+        this.enqueue(new AddOperation(copiedRecords));
+    }
+
+    public void update(CompiledCondition compiledCondition, List<Map<String, Object>> updateConditionParameterMaps,
+                       Map<String, CompiledExpression> updateSetExpressions,
+                       List<Map<String, Object>> updateSetParameterMaps) {
+        this.enqueue(new UpdateOperation(compiledCondition, new ArrayList<>(updateConditionParameterMaps),
+                updateSetExpressions, new ArrayList<>(updateSetParameterMaps)));
+    }
+
+    public void delete(List<Map<String, Object>> deleteConditionParameterMaps, CompiledCondition compiledCondition) {
+        this.enqueue(new DeleteOperation(new ArrayList<>(deleteConditionParameterMaps), compiledCondition));
+    }
+
+    /**
+     * Returns the number of rows which are buffered or currently being written.
+     *
+     * @return the depth of the buffer.
+     */
+    public long getDepth() {
+        lock.lock();
+        try {
+            return queuedRows + inFlightRows;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the time taken by the last flush which wrote any operations.
+     *
+     * @return the latency of the last flush in milliseconds.
+     */
+    public long getLastFlushLatency() {
+        return lastFlushLatency;
+    }
+
+    /**
+     * Synchronously writes all buffered operations in arrival order. This is used by read operations, so that they
+     * observe all writes which were accepted before them.
+     *
+     * @throws ConnectionUnavailableException if the connection is lost while writing. The unwritten operations are
+     *                                        retained in the buffer.
+     */
+    public void flush() throws ConnectionUnavailableException {
+        flushLock.lock();
+        try {
+            List<WriteOperation> drained;
+            int drainedRows;
+            lock.lock();
+            try {
+                if (operations.isEmpty()) {
+                    return;
+                }
+                drained = new ArrayList<>(operations);
+                drainedRows = queuedRows;
+                operations.clear();
+                queuedRows = 0;
+                inFlightRows += drainedRows;
+            } finally {
+                lock.unlock();
+            }
+            long startTime = System.nanoTime();
+            int index = 0;
+            try {
+                for (; index < drained.size(); index++) {
+                    WriteOperation operation = drained.get(index);
+                    try {
+                        operation.execute(writer);
+                    } catch (RuntimeException e) {
+                        // Any other failure is isolated to its operation, so that the rest of the drained
+                        // operations are still written.
+                        log.error("Failed to write " + operation.size() + " buffered rows to store '" + tableName +
+                                "'. Hence they are dropped.", e);
+                    }
+                }
+            } catch (ConnectionUnavailableException e) {
+                lock.lock();
+                try {
+                    for (int i = drained.size() - 1; i >= index; i--) {
+                        operations.addFirst(drained.get(i));
+                        queuedRows += drained.get(i).size();
+                    }
+                    oldestWriteTime = System.nanoTime();
+                } finally {
+                    lock.unlock();
+                }
+                throw e;
+            } finally {
+                lock.lock();
+                try {
+                    inFlightRows -= drainedRows;
+                    notFull.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                lastFlushLatency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void enqueue(WriteOperation operation) {
+        lock.lock();
+        try {
+            int depth = queuedRows + inFlightRows;
+            // A write larger than the buffer is accepted once the buffer is drained, to avoid blocking it forever.
+            while (running && depth > 0 && depth + operation.size() > bufferSize) {
+                notFull.awaitUninterruptibly();
+                depth = queuedRows + inFlightRows;
+            }
+            WriteOperation last = operations.peekLast();
+            if (last == null || last.size() + operation.size() > flushSize || !last.merge(operation)) {
+                operations.addLast(operation);
+            }
+            if (queuedRows == 0) {
+                oldestWriteTime = System.nanoTime();
+            }
+            queuedRows += operation.size();
+            if (queuedRows >= flushSize) {
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runFlusher() {
+        try {
+            while (awaitFlush()) {
+                try {
+                    this.flush();
+                } catch (ConnectionUnavailableException e) {
+                    log.error("Failed to flush buffered writes of store '" + tableName + "'. Retrying in " +
+                            RETRY_INTERVAL_MILLIS + " ms.", e);
+                    lock.lock();
+                    try {
+                        if (running) {
+                            notEmpty.await(RETRY_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Unexpected error while flushing buffered writes of store '" + tableName + "'.", e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.lock();
+            try {
+                flusherActive = false;
+                stopped.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Blocks until the buffered rows are due to be flushed.
+     *
+     * @return false if the buffer is stopped.
+     */
+    private boolean awaitFlush() throws InterruptedException {
+        lock.lock();
+        try {
+            while (running) {
+                if (queuedRows >= flushSize) {
+                    return true;
+                }
+                if (queuedRows == 0) {
+                    notEmpty.await();
+                } else {
+                    long remaining = flushIntervalNanos - (System.nanoTime() - oldestWriteTime);
+                    if (remaining <= 0) {
+                        return true;
+                    }
+                    notEmpty.awaitNanos(remaining);
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The write operations of the RDBMS Event Table which are executed by the buffer.
+     */
+    public interface Writer {
+
+        void add(List<Object[]> records) throws ConnectionUnavailableException;
+
+        void update(CompiledCondition compiledCondition, List<Map<String, Object>> updateConditionParameterMaps,
+                    Map<String, CompiledExpression> updateSetExpressions,
+                    List<Map<String, Object>> updateSetParameterMaps) throws ConnectionUnavailableException;
+
+        void delete(List<Map<String, Object>> deleteConditionParameterMaps, CompiledCondition compiledCondition)
+                throws ConnectionUnavailableException;
+    }
+
+    /**
+     * A buffered write operation.
+     */
+    private abstract static class WriteOperation {
+
+        abstract int size();
+
+        /**
+         * Coalesces the given operation into this one, if both can be executed as a single batch.
+         *
+         * @param operation the operation which arrived after this one.
+         * @return true if the operation was coalesced.
+         */
+        abstract boolean merge(WriteOperation operation);
+
+        abstract void execute(Writer writer) throws ConnectionUnavailableException;
+    }
+
+    private static class AddOperation extends WriteOperation {
+
+        private final List<Object[]> records;
+
+        private AddOperation(List<Object[]> records) {
+            this.records = records;
+        }
+
+        @Override
+        int size() {
+            return records.size();
+        }
+
+        @Override
+        boolean merge(WriteOperation operation) {
+            if (operation instanceof AddOperation) {
+                records.addAll(((AddOperation) operation).records);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        void execute(Writer writer) throws ConnectionUnavailableException {
+            writer.add(records);
+        }
+    }
+
+    private static class UpdateOperation extends WriteOperation {
+
+        private final CompiledCondition compiledCondition;
+        private final List<Map<String, Object>> updateConditionParameterMaps;
+        private final Map<String, CompiledExpression> updateSetExpressions;
+        private final List<Map<String, Object>> updateSetParameterMaps;
+
+        private UpdateOperation(CompiledCondition compiledCondition,
+                                List<Map<String, Object>> updateConditionParameterMaps,
+                                Map<String, CompiledExpression> updateSetExpressions,
+                                List<Map<String, Object>> updateSetParameterMaps) {
+            this.compiledCondition = compiledCondition;
+            this.updateConditionParameterMaps = updateConditionParameterMaps;
+            this.updateSetExpressions = updateSetExpressions;
+            this.updateSetParameterMaps = updateSetParameterMaps;
+        }
+
+        @Override
+        int size() {
+            return updateConditionParameterMaps.size();
+        }
+
+        @Override
+        boolean merge(WriteOperation operation) {
+            if (operation instanceof UpdateOperation) {
+                UpdateOperation updateOperation = (UpdateOperation) operation;
+                if (updateOperation.compiledCondition == compiledCondition &&
+                        updateOperation.updateSetExpressions == updateSetExpressions) {
+                    updateConditionParameterMaps.addAll(updateOperation.updateConditionParameterMaps);
+                    updateSetParameterMaps.addAll(updateOperation.updateSetParameterMaps);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        void execute(Writer writer) throws ConnectionUnavailableException {
+            writer.update(compiledCondition, updateConditionParameterMaps, updateSetExpressions,
+                    updateSetParameterMaps);
+        }
+    }
+
+    private static class DeleteOperation extends WriteOperation {
+
+        private final List<Map<String, Object>> deleteConditionParameterMaps;
+        private final CompiledCondition compiledCondition;
+
+        private DeleteOperation(List<Map<String, Object>> deleteConditionParameterMaps,
+                                CompiledCondition compiledCondition) {
+            this.deleteConditionParameterMaps = deleteConditionParameterMaps;
+            this.compiledCondition = compiledCondition;
+        }
+
+        @Override
+        int size() {
+            return deleteConditionParameterMaps.size();
+        }
+
+        @Override
+        boolean merge(WriteOperation operation) {
+            if (operation instanceof DeleteOperation &&
+                    ((DeleteOperation) operation).compiledCondition == compiledCondition) {
+                deleteConditionParameterMaps.addAll(((DeleteOperation) operation).deleteConditionParameterMaps);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        void execute(Writer writer) throws ConnectionUnavailableException {
+            writer.delete(deleteConditionParameterMaps, compiledCondition);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms.config;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlValue;
+
+/**
+ * This class represents the SQL rendering of a Siddhi function which is pushed down to the database, per supported
+ * DB vendor. The template refers to the function arguments as {{0}}, {{1}}, ... or to all of them as
+ * {{PARAMETERS}}, and must use each argument exactly once and in order, since the arguments are bound positionally.
+ * Templates which do not are rejected when the table connects.
+ * A template which needs a later version of the database than its entry covers declares the version it needs.
+ */
+public class RDBMSFunctionTemplate {
+
+    private String name;
+    private String template;
+    private double minVersion;
+
+    @XmlAttribute(name = "name", required = true)
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @XmlAttribute(name = "minVersion")
+    public double getMinVersion() {
+        return minVersion;
+    }
+
+    public void setMinVersion(double minVersion) {
+        this.minVersion = minVersion;
+    }
+
+    @XmlValue
+    public String getTemplate() {
+        return template;
+    }
+
+    public void setTemplate(String template) {
+        this.template = template;
+    }
+}
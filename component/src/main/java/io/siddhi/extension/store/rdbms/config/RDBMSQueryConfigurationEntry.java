@@ -20,6 +20,7 @@ package io.siddhi.extension.store.rdbms.config;
 
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 
 /**
@@ -38,14 +39,21 @@ public class RDBMSQueryConfigurationEntry {
     private String recordSelectQuery;
     private String recordExistsQuery;
     private String recordInsertQuery;
+    private String recordMultiInsertQuery;
+    private String recordCopyQuery;
     private String recordUpdateQuery;
+    private String recordUpsertQuery;
     private String recordDeleteQuery;
     private boolean keyExplicitNotNull = false;
     private String stringSize;
     private int fieldSizeLimit;
     private RDBMSTypeMapping rdbmsTypeMapping;
     private RDBMSSelectQueryTemplate rdbmsSelectQueryTemplate;
+    private RDBMSFunctionTemplate[] functionTemplates;
     private int batchSize;
+    private int fetchSize;
+    private String streamingMode;
+    private int multiInsertParameterLimit;
     private boolean batchEnable = false;
     private String collation;
     private boolean transactionSupported = true;
@@ -141,6 +149,24 @@ public class RDBMSQueryConfigurationEntry {
         this.recordInsertQuery = recordInsertQuery;
     }
 
+    @XmlElement(name = "recordMultiInsertQuery")
+    public String getRecordMultiInsertQuery() {
+        return recordMultiInsertQuery;
+    }
+
+    public void setRecordMultiInsertQuery(String recordMultiInsertQuery) {
+        this.recordMultiInsertQuery = recordMultiInsertQuery;
+    }
+
+    @XmlElement(name = "recordCopyQuery")
+    public String getRecordCopyQuery() {
+        return recordCopyQuery;
+    }
+
+    public void setRecordCopyQuery(String recordCopyQuery) {
+        this.recordCopyQuery = recordCopyQuery;
+    }
+
     @XmlElement(required = true)
     public String getRecordUpdateQuery() {
         return recordUpdateQuery;
@@ -150,6 +176,15 @@ public class RDBMSQueryConfigurationEntry {
         this.recordUpdateQuery = recordUpdateQuery;
     }
 
+    @XmlElement(name = "recordUpsertQuery")
+    public String getRecordUpsertQuery() {
+        return recordUpsertQuery;
+    }
+
+    public void setRecordUpsertQuery(String recordUpsertQuery) {
+        this.recordUpsertQuery = recordUpsertQuery;
+    }
+
     @XmlElement(required = true)
     public String getRecordSelectQuery() {
         return recordSelectQuery;
@@ -227,6 +262,16 @@ public class RDBMSQueryConfigurationEntry {
         this.rdbmsSelectQueryTemplate = rdbmsSelectQueryTemplate;
     }
 
+    @XmlElementWrapper(name = "functionTemplates")
+    @XmlElement(name = "function")
+    public RDBMSFunctionTemplate[] getFunctionTemplates() {
+        return functionTemplates;
+    }
+
+    public void setFunctionTemplates(RDBMSFunctionTemplate[] functionTemplates) {
+        this.functionTemplates = functionTemplates;
+    }
+
     @XmlElement(name = "batchSize", required = true)
     public int getBatchSize() {
         return batchSize;
@@ -236,6 +281,33 @@ public class RDBMSQueryConfigurationEntry {
         this.batchSize = batchSize;
     }
 
+    @XmlElement(name = "multiInsertParameterLimit")
+    public int getMultiInsertParameterLimit() {
+        return multiInsertParameterLimit;
+    }
+
+    public void setMultiInsertParameterLimit(int multiInsertParameterLimit) {
+        this.multiInsertParameterLimit = multiInsertParameterLimit;
+    }
+
+    @XmlElement(name = "fetchSize")
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    @XmlElement(name = "streamingMode")
+    public String getStreamingMode() {
+        return streamingMode;
+    }
+
+    public void setStreamingMode(String streamingMode) {
+        this.streamingMode = streamingMode;
+    }
+
     @XmlElement(name = "fieldSizeLimit", required = false)
     public int getFieldSizeLimit() {
         return fieldSizeLimit;
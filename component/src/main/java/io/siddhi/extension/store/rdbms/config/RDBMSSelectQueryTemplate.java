@@ -25,6 +25,7 @@ public class RDBMSSelectQueryTemplate {
 
     private String selectClause;
     private String selectQueryWithSubSelect;
+    private String selectQueryWithWindow;
     private String whereClause;
     private String groupByClause;
     private String havingClause;
@@ -131,4 +132,12 @@ public class RDBMSSelectQueryTemplate {
     public void setSelectQueryWithSubSelect(String selectQueryWithSubSelect) {
         this.selectQueryWithSubSelect = selectQueryWithSubSelect;
     }
+
+    public String getSelectQueryWithWindow() {
+        return selectQueryWithWindow;
+    }
+
+    public void setSelectQueryWithWindow(String selectQueryWithWindow) {
+        this.selectQueryWithWindow = selectQueryWithWindow;
+    }
 }
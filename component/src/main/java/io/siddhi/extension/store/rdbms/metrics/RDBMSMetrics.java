@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.function.LongSupplier;
 
 /**
  * Class which holds the RDBMS metrics.
@@ -49,7 +50,8 @@ public class RDBMSMetrics {
     private long lastDeleteTime;
     private boolean isInitialised;
     private long lastChangeTime;
-
+    private LongSupplier writeBehindBufferDepth;
+    private LongSupplier writeBehindFlushLatency;
 
     public RDBMSMetrics(String siddhiAppName, String url, String tableName) {
         this.siddhiAppName = siddhiAppName;
@@ -159,6 +161,70 @@ public class RDBMSMetrics {
                         });
     }
 
+    private void writeBehindMetrics() {
+        if (writeBehindBufferDepth == null) {
+            return;
+        }
+        MetricsDataHolder.getInstance().getMetricService()
+                .gauge(String.format("io.siddhi.SiddhiApps.%s.Siddhi.Store.RDBMS.%s.%s",
+                        siddhiAppName, "write_behind_buffer_depth", getDatabaseURL()),
+                        Level.INFO, () -> writeBehindBufferDepth.getAsLong());
+        MetricsDataHolder.getInstance().getMetricService()
+                .gauge(String.format("io.siddhi.SiddhiApps.%s.Siddhi.Store.RDBMS.%s.%s",
+                        siddhiAppName, "write_behind_flush_latency", getDatabaseURL()),
+                        Level.INFO, () -> writeBehindFlushLatency.getAsLong());
+    }
+
+    public void setWriteBehindBufferDepth(LongSupplier writeBehindBufferDepth) {
+        this.writeBehindBufferDepth = writeBehindBufferDepth;
+    }
+
+    public void setWriteBehindFlushLatency(LongSupplier writeBehindFlushLatency) {
+        this.writeBehindFlushLatency = writeBehindFlushLatency;
+    }
+
+    public Counter getPrimaryKeyCacheHitCountMetric() {
+        return MetricsDataHolder.getInstance().getMetricService()
+                .counter(String.format("io.siddhi.SiddhiApps.%s.Siddhi.Store.RDBMS.%s.%s",
+                        siddhiAppName, "primary_key_cache_hit_count", getDatabaseURL()), Level.INFO);
+    }
+
+    public Counter getPrimaryKeyCacheMissCountMetric() {
+        return MetricsDataHolder.getInstance().getMetricService()
+                .counter(String.format("io.siddhi.SiddhiApps.%s.Siddhi.Store.RDBMS.%s.%s",
+                        siddhiAppName, "primary_key_cache_miss_count", getDatabaseURL()), Level.INFO);
+    }
+
+    public Counter getPrimaryKeyCacheEvictionCountMetric() {
+        return MetricsDataHolder.getInstance().getMetricService()
+                .counter(String.format("io.siddhi.SiddhiApps.%s.Siddhi.Store.RDBMS.%s.%s",
+                        siddhiAppName, "primary_key_cache_eviction_count", getDatabaseURL()), Level.INFO);
+    }
+
+    public Counter getBloomFilterNegativeCountMetric() {
+        return MetricsDataHolder.getInstance().getMetricService()
+                .counter(String.format("io.siddhi.SiddhiApps.%s.Siddhi.Store.RDBMS.%s.%s",
+                        siddhiAppName, "bloom_filter_negative_count", getDatabaseURL()), Level.INFO);
+    }
+
+    public Counter getBloomFilterFalsePositiveCountMetric() {
+        return MetricsDataHolder.getInstance().getMetricService()
+                .counter(String.format("io.siddhi.SiddhiApps.%s.Siddhi.Store.RDBMS.%s.%s",
+                        siddhiAppName, "bloom_filter_false_positive_count", getDatabaseURL()), Level.INFO);
+    }
+
+    public Counter getQueryCacheHitCountMetric() {
+        return MetricsDataHolder.getInstance().getMetricService()
+                .counter(String.format("io.siddhi.SiddhiApps.%s.Siddhi.Store.RDBMS.%s.%s",
+                        siddhiAppName, "query_cache_hit_count", getDatabaseURL()), Level.INFO);
+    }
+
+    public Counter getQueryCacheMissCountMetric() {
+        return MetricsDataHolder.getInstance().getMetricService()
+                .counter(String.format("io.siddhi.SiddhiApps.%s.Siddhi.Store.RDBMS.%s.%s",
+                        siddhiAppName, "query_cache_miss_count", getDatabaseURL()), Level.INFO);
+    }
+
     private Counter getTotalErrorCountMetric() {
         return MetricsDataHolder.getInstance().getMetricService().counter(
                 String.format("io.siddhi.SiddhiApps.%s.Siddhi.Store.RDBMS.%s.%s",
@@ -254,6 +320,7 @@ public class RDBMSMetrics {
             getWritesCountMetrics();
             getTotalWriteMetrics();
             getTotalErrorCountMetric();
+            writeBehindMetrics();
             isInitialised = true;
         }
     }
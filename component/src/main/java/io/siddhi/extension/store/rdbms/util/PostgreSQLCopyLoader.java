@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms.util;
+
+import io.siddhi.query.api.definition.Attribute;
+
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Class which bulk loads records into a PostgreSQL table through the COPY protocol. Records are encoded to CSV
+ * lazily while the driver drains the stream, so a chunk of records is never materialized as a whole. The driver
+ * API is resolved through the class loader of the physical connection, so that the PostgreSQL driver does not have
+ * to be visible to this bundle and a driver loaded by a different class loader is still recognized.
+ */
+public class PostgreSQLCopyLoader {
+
+    private static final char CSV_DELIMITER = ',';
+    private static final char CSV_QUOTE = '"';
+    private static final char CSV_NEW_LINE = '\n';
+    private static final String PG_CONNECTION_CLASS = "org.postgresql.PGConnection";
+    private static final String GET_COPY_API_METHOD = "getCopyAPI";
+    private static final String COPY_IN_METHOD = "copyIn";
+
+    private final String copyQuery;
+    private final Attribute.Type[] types;
+
+    public PostgreSQLCopyLoader(String copyQuery, List<Attribute> attributes) {
+        this.copyQuery = copyQuery;
+        this.types = new Attribute.Type[attributes.size()];
+        for (int i = 0; i < attributes.size(); i++) {
+            this.types[i] = attributes.get(i).getType();
+        }
+    }
+
+    /**
+     * Checks whether the given connection can be used for COPY based loading.
+     *
+     * @param conn the connection to be checked.
+     * @return true if the connection is (or wraps) a PostgreSQL connection.
+     */
+    public static boolean isSupported(Connection conn) {
+        try {
+            return unwrapPGConnection(conn) != null;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the given attributes can be encoded as CSV. Binary (OBJECT) attributes are not supported.
+     *
+     * @param attributes the attributes of the table.
+     * @return true if all attributes can be loaded through COPY.
+     */
+    public static boolean isSupported(List<Attribute> attributes) {
+        for (Attribute attribute : attributes) {
+            if (attribute.getType() == Attribute.Type.OBJECT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Streams the given records into the table using 'COPY ... FROM STDIN'. The caller is responsible for
+     * committing or rolling back the transaction of the given connection.
+     *
+     * @param conn    the connection to be used.
+     * @param records the records to be loaded.
+     * @return the number of rows loaded.
+     * @throws SQLException if the COPY operation fails.
+     */
+    public long copyIn(Connection conn, List<Object[]> records) throws SQLException {
+        Connection pgConnection = unwrapPGConnection(conn);
+        if (pgConnection == null) {
+            throw new SQLException("Connection does not wrap a PostgreSQL connection, hence COPY cannot be used");
+        }
+        try {
+            Object copyManager = loadPGConnectionClass(pgConnection).getMethod(GET_COPY_API_METHOD)
+                    .invoke(pgConnection);
+            Object count = copyManager.getClass().getMethod(COPY_IN_METHOD, String.class, Reader.class)
+                    .invoke(copyManager, this.copyQuery, new CsvRecordReader(records));
+            return ((Number) count).longValue();
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            throw new SQLException("Error occurred while streaming records through COPY", cause);
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException("The PostgreSQL driver does not provide the COPY API", e);
+        }
+    }
+
+    /**
+     * Resolves the PostgreSQL connection behind the given (possibly pooled) connection. The PostgreSQL connection
+     * interface is loaded through the class loader of the physical connection, as the copy of the interface visible
+     * to this class (if any) may belong to a different class loader, in which case it would never match.
+     *
+     * @param conn the connection to be unwrapped.
+     * @return the PostgreSQL connection, or null if the connection is not a PostgreSQL connection.
+     * @throws SQLException if the connection cannot be unwrapped.
+     */
+    private static Connection unwrapPGConnection(Connection conn) throws SQLException {
+        Connection physicalConn = conn.isWrapperFor(Connection.class) ? conn.unwrap(Connection.class) : conn;
+        Class<?> pgConnectionClass = loadPGConnectionClass(physicalConn);
+        if (pgConnectionClass == null) {
+            return null;
+        }
+        if (pgConnectionClass.isInstance(physicalConn)) {
+            return physicalConn;
+        }
+        return conn.isWrapperFor(pgConnectionClass) ? (Connection) conn.unwrap(pgConnectionClass) : null;
+    }
+
+    private static Class<?> loadPGConnectionClass(Connection conn) {
+        try {
+            return Class.forName(PG_CONNECTION_CLASS, false, conn.getClass().getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reader which encodes one record at a time into CSV as the COPY stream is consumed.
+     */
+    private class CsvRecordReader extends Reader {
+
+        private final List<Object[]> records;
+        private final StringBuilder buffer = new StringBuilder();
+        private int recordIndex = 0;
+        private int bufferIndex = 0;
+
+        private CsvRecordReader(List<Object[]> records) {
+            this.records = records;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            int read = 0;
+            while (read < len) {
+                if (bufferIndex == buffer.length()) {
+                    if (recordIndex == records.size()) {
+                        break;
+                    }
+                    buffer.setLength(0);
+                    bufferIndex = 0;
+                    encode(records.get(recordIndex++));
+                }
+                int count = Math.min(len - read, buffer.length() - bufferIndex);
+                buffer.getChars(bufferIndex, bufferIndex + count, cbuf, off + read);
+                bufferIndex += count;
+                read += count;
+            }
+            return read == 0 ? -1 : read;
+        }
+
+        private void encode(Object[] record) {
+            for (int i = 0; i < types.length; i++) {
+                if (i > 0) {
+                    buffer.append(CSV_DELIMITER);
+                }
+                Object value = record[i];
+                if (value == null) {
+                    // An unquoted empty field is read as NULL by PostgreSQL.
+                    continue;
+                }
+                if (types[i] == Attribute.Type.STRING) {
+                    String text = (String) value;
+                    buffer.append(CSV_QUOTE);
+                    for (int j = 0; j < text.length(); j++) {
+                        char c = text.charAt(j);
+                        if (c == CSV_QUOTE) {
+                            buffer.append(CSV_QUOTE);
+                        }
+                        buffer.append(c);
+                    }
+                    buffer.append(CSV_QUOTE);
+                } else {
+                    buffer.append(value);
+                }
+            }
+            buffer.append(CSV_NEW_LINE);
+        }
+
+        @Override
+        public void close() {
+            //Nothing to release as records are held by the caller.
+        }
+    }
+}
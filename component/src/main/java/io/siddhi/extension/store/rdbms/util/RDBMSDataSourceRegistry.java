@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms.util;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class which shares the connection pools created from the "@Store" annotation across the RDBMS tables of the
+ * process. Tables with the same JDBC URL, credentials, driver and pool properties are handed the same pool, which is
+ * reference counted and closed once the last of them is disconnected. Pools are created and closed holding only the
+ * lock of their own connection properties, so that a database which is slow to connect does not hold up the tables
+ * of other databases.
+ */
+public class RDBMSDataSourceRegistry {
+
+    private static final Log log = LogFactory.getLog(RDBMSDataSourceRegistry.class);
+
+    private static final Map<Map<String, String>, SharedDataSource> DATA_SOURCES = new ConcurrentHashMap<>();
+    private static final Map<HikariDataSource, SharedDataSource> LEASES = new ConcurrentHashMap<>();
+
+    private RDBMSDataSourceRegistry() {
+        //preventing initialization
+    }
+
+    /**
+     * Returns the pool for the given connection properties, creating it if no table holds one yet.
+     *
+     * @param connectionProperties the Hikari configuration of the pool.
+     * @return the shared pool, which should be handed back through {@link #release(HikariDataSource)}.
+     */
+    public static HikariDataSource acquire(Properties connectionProperties) {
+        Map<String, String> key = new HashMap<>();
+        connectionProperties.stringPropertyNames().forEach(name ->
+                key.put(name, connectionProperties.getProperty(name)));
+        while (true) {
+            SharedDataSource sharedDataSource = DATA_SOURCES.computeIfAbsent(key, SharedDataSource::new);
+            synchronized (sharedDataSource) {
+                if (sharedDataSource.removed) {
+                    // The last table released it in the meantime
+                    continue;
+                }
+                if (sharedDataSource.dataSource == null || sharedDataSource.dataSource.isClosed()) {
+                    if (sharedDataSource.dataSource != null) {
+                        LEASES.remove(sharedDataSource.dataSource);
+                    }
+                    try {
+                        sharedDataSource.dataSource = new HikariDataSource(new HikariConfig(connectionProperties));
+                    } catch (RuntimeException e) {
+                        if (sharedDataSource.references == 0) {
+                            sharedDataSource.removed = true;
+                            DATA_SOURCES.remove(key, sharedDataSource);
+                        }
+                        throw e;
+                    }
+                    LEASES.put(sharedDataSource.dataSource, sharedDataSource);
+                } else if (log.isDebugEnabled()) {
+                    log.debug("Sharing the pool name: " + sharedDataSource.dataSource.getPoolName() + " with " +
+                            sharedDataSource.references + " other table(s).");
+                }
+                sharedDataSource.references++;
+                return sharedDataSource.dataSource;
+            }
+        }
+    }
+
+    /**
+     * Releases a pool obtained through {@link #acquire(Properties)}, closing it if no other table holds it.
+     *
+     * @param dataSource the pool to be released.
+     */
+    public static void release(HikariDataSource dataSource) {
+        SharedDataSource sharedDataSource = LEASES.get(dataSource);
+        if (sharedDataSource == null) {
+            return;
+        }
+        synchronized (sharedDataSource) {
+            if (--sharedDataSource.references > 0) {
+                return;
+            }
+            sharedDataSource.removed = true;
+            LEASES.remove(dataSource);
+            DATA_SOURCES.remove(sharedDataSource.key, sharedDataSource);
+        }
+        dataSource.close();
+        if (log.isDebugEnabled()) {
+            log.debug("Closing the pool name: " + dataSource.getPoolName());
+        }
+    }
+
+    /**
+     * A pool and the number of tables holding it.
+     */
+    private static class SharedDataSource {
+
+        private final Map<String, String> key;
+        private HikariDataSource dataSource;
+        private int references;
+        private boolean removed;
+
+        private SharedDataSource(Map<String, String> key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms.util;
+
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.extension.store.rdbms.config.RDBMSFunctionTemplate;
+import io.siddhi.extension.store.rdbms.config.RDBMSQueryConfigurationEntry;
+import io.siddhi.extension.store.rdbms.config.RDBMSSelectQueryTemplate;
+import io.siddhi.extension.store.rdbms.config.RDBMSTypeMapping;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.BATCH_ENABLE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.BATCH_SIZE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.BIG_STRING_TYPE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.BINARY_TYPE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.BOOLEAN_TYPE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.COLLATION;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.DOUBLE_TYPE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FETCH_SIZE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FIELD_SIZE_LIMIT;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FLOAT_TYPE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FUNCTION_LAST;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FUNCTION_LAST_WINDOW;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FUNCTION_TEMPLATES;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.GROUP_BY_CLAUSE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.HAVING_CLAUSE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.INDEX_CREATE_QUERY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.INTEGER_TYPE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.IS_LIMIT_BEFORE_OFFSET;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.LIMIT_CLAUSE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.LIMIT_WRAPPER_CLAUSE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.LONG_TYPE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.MULTI_INSERT_PARAMETER_LIMIT;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.OFFSET_CLAUSE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.OFFSET_WRAPPER_CLAUSE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.ORDER_BY_CLAUSE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_VALUES;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PROPERTY_SEPARATOR;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.QUERY_WRAPPER_CLAUSE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.QUESTION_MARK;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_CONTAINS_CONDITION;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_COPY_QUERY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_DELETE_QUERY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_EXISTS_QUERY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_INSERT_QUERY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_MULTI_INSERT_QUERY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_SELECT_QUERY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_UPDATE_QUERY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.RECORD_UPSERT_QUERY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SELECT_CLAUSE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SELECT_QUERY_TEMPLATE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SELECT_QUERY_WITH_SUB_SELECT_TEMPLATE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SELECT_QUERY_WITH_WINDOW_TEMPLATE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.STREAMING_MODE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.STRING_SIZE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.STRING_TYPE;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.TABLE_CHECK_QUERY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.TABLE_CREATE_QUERY;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.TRANSACTION_SUPPORTED;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.TYPE_MAPPING;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.WHERE_CLAUSE;
+
+/**
+ * Class which holds the configuration of a database, as resolved from its entry in the RDBMS query configuration
+ * and the overrides given through the config reader. It is resolved once per datasource and config reader, and
+ * shared by all the tables on them, which then only fill in their table and column names. The templates keep the
+ * {{TABLE_NAME}} placeholder, and instances are not modified once created.
+ */
+public class RDBMSDialect {
+
+    private final RDBMSQueryConfigurationEntry queryConfigurationEntry;
+    private final String databaseName;
+    private final String recordSelectQuery;
+    private final String recordExistsQuery;
+    private final String recordDeleteQuery;
+    private final String recordInsertQuery;
+    private final String recordMultiInsertQuery;
+    private final String recordCopyQuery;
+    private final String recordUpdateQuery;
+    private final String recordUpsertQuery;
+    private final String recordContainsCondition;
+    private final String tableCheckQuery;
+    private final String tableCreateQuery;
+    private final String indexCreateQuery;
+    private final int batchSize;
+    private final int fieldSizeLimit;
+    private final int fetchSize;
+    private final int multiInsertParameterLimit;
+    private final String streamingMode;
+    private final boolean batchEnable;
+    private final boolean transactionSupported;
+    private final String collation;
+    private final RDBMSTypeMapping typeMapping;
+    private final String booleanType;
+    private final String doubleType;
+    private final String floatType;
+    private final String integerType;
+    private final String longType;
+    private final String binaryType;
+    private final String stringType;
+    private final String bigStringType;
+    private final String stringSize;
+    private final RDBMSSelectQueryTemplate selectQueryTemplate;
+    private final RDBMSFunctionRenderer functionRenderer;
+
+    public RDBMSDialect(RDBMSQueryConfigurationEntry queryConfigurationEntry, ConfigReader configReader,
+                        double databaseVersion) {
+        this.queryConfigurationEntry = queryConfigurationEntry;
+        this.databaseName = queryConfigurationEntry.getDatabaseName();
+        String prefix = this.databaseName + PROPERTY_SEPARATOR;
+        this.recordSelectQuery = configReader.readConfig(prefix + RECORD_SELECT_QUERY,
+                queryConfigurationEntry.getRecordSelectQuery());
+        this.recordExistsQuery = configReader.readConfig(prefix + RECORD_EXISTS_QUERY,
+                queryConfigurationEntry.getRecordExistsQuery());
+        this.recordDeleteQuery = configReader.readConfig(prefix + RECORD_DELETE_QUERY,
+                queryConfigurationEntry.getRecordDeleteQuery());
+        this.recordInsertQuery = configReader.readConfig(prefix + RECORD_INSERT_QUERY,
+                queryConfigurationEntry.getRecordInsertQuery());
+        this.recordMultiInsertQuery = configReader.readConfig(prefix + RECORD_MULTI_INSERT_QUERY,
+                queryConfigurationEntry.getRecordMultiInsertQuery());
+        this.recordCopyQuery = configReader.readConfig(prefix + RECORD_COPY_QUERY,
+                queryConfigurationEntry.getRecordCopyQuery());
+        this.recordUpdateQuery = configReader.readConfig(prefix + RECORD_UPDATE_QUERY,
+                queryConfigurationEntry.getRecordUpdateQuery());
+        this.recordUpsertQuery = configReader.readConfig(prefix + RECORD_UPSERT_QUERY,
+                queryConfigurationEntry.getRecordUpsertQuery());
+        this.recordContainsCondition = configReader.readConfig(prefix + RECORD_CONTAINS_CONDITION,
+                queryConfigurationEntry.getRecordContainsCondition()).replace(PLACEHOLDER_VALUES, QUESTION_MARK);
+        this.tableCheckQuery = configReader.readConfig(prefix + TABLE_CHECK_QUERY,
+                queryConfigurationEntry.getTableCheckQuery());
+        this.tableCreateQuery = configReader.readConfig(prefix + TABLE_CREATE_QUERY,
+                queryConfigurationEntry.getTableCreateQuery());
+        this.indexCreateQuery = configReader.readConfig(prefix + INDEX_CREATE_QUERY,
+                queryConfigurationEntry.getIndexCreateQuery());
+        this.batchSize = Integer.parseInt(configReader.readConfig(prefix + BATCH_SIZE,
+                String.valueOf(queryConfigurationEntry.getBatchSize())));
+        this.fieldSizeLimit = Integer.parseInt(configReader.readConfig(prefix + FIELD_SIZE_LIMIT,
+                String.valueOf(queryConfigurationEntry.getFieldSizeLimit())));
+        this.fetchSize = Integer.parseInt(configReader.readConfig(prefix + FETCH_SIZE,
+                String.valueOf(queryConfigurationEntry.getFetchSize())));
+        this.multiInsertParameterLimit = Integer.parseInt(configReader.readConfig(prefix +
+                MULTI_INSERT_PARAMETER_LIMIT, String.valueOf(queryConfigurationEntry.getMultiInsertParameterLimit())));
+        this.streamingMode = configReader.readConfig(prefix + STREAMING_MODE,
+                queryConfigurationEntry.getStreamingMode());
+        this.batchEnable = Boolean.parseBoolean(configReader.readConfig(prefix + BATCH_ENABLE,
+                String.valueOf(queryConfigurationEntry.getBatchEnable())));
+        this.transactionSupported = Boolean.parseBoolean(configReader.readConfig(prefix + TRANSACTION_SUPPORTED,
+                String.valueOf(queryConfigurationEntry.isTransactionSupported())));
+        this.collation = configReader.readConfig(prefix + COLLATION,
+                String.valueOf(queryConfigurationEntry.getCollation()));
+        this.typeMapping = queryConfigurationEntry.getRdbmsTypeMapping();
+        String typePrefix = prefix + TYPE_MAPPING + PROPERTY_SEPARATOR;
+        this.booleanType = configReader.readConfig(typePrefix + BOOLEAN_TYPE,
+                typeMapping.getBooleanType().getTypeName());
+        this.doubleType = configReader.readConfig(typePrefix + DOUBLE_TYPE,
+                typeMapping.getDoubleType().getTypeName());
+        this.floatType = configReader.readConfig(typePrefix + FLOAT_TYPE,
+                typeMapping.getFloatType().getTypeName());
+        this.integerType = configReader.readConfig(typePrefix + INTEGER_TYPE,
+                typeMapping.getIntegerType().getTypeName());
+        this.longType = configReader.readConfig(typePrefix + LONG_TYPE,
+                typeMapping.getLongType().getTypeName());
+        this.binaryType = configReader.readConfig(typePrefix + BINARY_TYPE,
+                typeMapping.getBinaryType().getTypeName());
+        this.stringType = configReader.readConfig(typePrefix + STRING_TYPE,
+                typeMapping.getStringType().getTypeName());
+        this.bigStringType = configReader.readConfig(typePrefix + BIG_STRING_TYPE,
+                typeMapping.getBigStringType() != null ? typeMapping.getBigStringType().getTypeName() : null);
+        this.stringSize = configReader.readConfig(prefix + STRING_SIZE, queryConfigurationEntry.getStringSize());
+        this.selectQueryTemplate = resolveSelectQueryTemplate(queryConfigurationEntry.getRdbmsSelectQueryTemplate(),
+                configReader, prefix + SELECT_QUERY_TEMPLATE + PROPERTY_SEPARATOR);
+        this.functionRenderer = new RDBMSFunctionRenderer(resolveFunctionTemplates(queryConfigurationEntry,
+                configReader, prefix + FUNCTION_TEMPLATES + PROPERTY_SEPARATOR, databaseVersion), this.databaseName);
+    }
+
+    private static RDBMSSelectQueryTemplate resolveSelectQueryTemplate(RDBMSSelectQueryTemplate template,
+                                                                       ConfigReader configReader, String prefix) {
+        RDBMSSelectQueryTemplate resolved = new RDBMSSelectQueryTemplate();
+        resolved.setSelectClause(configReader.readConfig(prefix + SELECT_CLAUSE, template.getSelectClause()));
+        resolved.setSelectQueryWithSubSelect(configReader.readConfig(prefix + SELECT_QUERY_WITH_SUB_SELECT_TEMPLATE,
+                template.getSelectQueryWithSubSelect()));
+        resolved.setSelectQueryWithWindow(configReader.readConfig(prefix + SELECT_QUERY_WITH_WINDOW_TEMPLATE,
+                template.getSelectQueryWithWindow()));
+        resolved.setWhereClause(configReader.readConfig(prefix + WHERE_CLAUSE, template.getWhereClause()));
+        resolved.setGroupByClause(configReader.readConfig(prefix + GROUP_BY_CLAUSE, template.getGroupByClause()));
+        resolved.setHavingClause(configReader.readConfig(prefix + HAVING_CLAUSE, template.getHavingClause()));
+        resolved.setOrderByClause(configReader.readConfig(prefix + ORDER_BY_CLAUSE, template.getOrderByClause()));
+        resolved.setLimitClause(configReader.readConfig(prefix + LIMIT_CLAUSE, template.getLimitClause()));
+        resolved.setOffsetClause(configReader.readConfig(prefix + OFFSET_CLAUSE, template.getOffsetClause()));
+        resolved.setIsLimitBeforeOffset(configReader.readConfig(prefix + IS_LIMIT_BEFORE_OFFSET,
+                template.getIsLimitBeforeOffset()));
+        resolved.setQueryWrapperClause(configReader.readConfig(prefix + QUERY_WRAPPER_CLAUSE,
+                template.getQueryWrapperClause()));
+        resolved.setLimitWrapperClause(configReader.readConfig(prefix + LIMIT_WRAPPER_CLAUSE,
+                template.getLimitWrapperClause()));
+        resolved.setOffsetWrapperClause(configReader.readConfig(prefix + OFFSET_WRAPPER_CLAUSE,
+                template.getOffsetWrapperClause()));
+        return resolved;
+    }
+
+    private static Map<String, String> resolveFunctionTemplates(RDBMSQueryConfigurationEntry queryConfigurationEntry,
+                                                                ConfigReader configReader, String prefix,
+                                                                double databaseVersion) {
+        Map<String, String> functionTemplates = new HashMap<>();
+        if (queryConfigurationEntry.getFunctionTemplates() != null) {
+            for (RDBMSFunctionTemplate functionTemplate : queryConfigurationEntry.getFunctionTemplates()) {
+                if (functionTemplate.getMinVersion() != 0 && databaseVersion < functionTemplate.getMinVersion()) {
+                    continue;
+                }
+                functionTemplates.put(functionTemplate.getName(), configReader.readConfig(
+                        prefix + functionTemplate.getName(), functionTemplate.getTemplate()));
+            }
+        }
+        for (String lastValueFunction : new String[]{FUNCTION_LAST, FUNCTION_LAST_WINDOW}) {
+            if (!functionTemplates.containsKey(lastValueFunction)) {
+                // last() falls back to the sub-select unless a template is given for the database
+                String lastValueTemplate = configReader.readConfig(prefix + lastValueFunction, null);
+                if (lastValueTemplate != null && !lastValueTemplate.trim().isEmpty()) {
+                    functionTemplates.put(lastValueFunction, lastValueTemplate);
+                }
+            }
+        }
+        return functionTemplates;
+    }
+
+    public RDBMSQueryConfigurationEntry getQueryConfigurationEntry() {
+        return queryConfigurationEntry;
+    }
+
+    public String getDatabaseName() {
+        return databaseName;
+    }
+
+    public String getRecordSelectQuery() {
+        return recordSelectQuery;
+    }
+
+    public String getRecordExistsQuery() {
+        return recordExistsQuery;
+    }
+
+    public String getRecordDeleteQuery() {
+        return recordDeleteQuery;
+    }
+
+    public String getRecordInsertQuery() {
+        return recordInsertQuery;
+    }
+
+    public String getRecordMultiInsertQuery() {
+        return recordMultiInsertQuery;
+    }
+
+    public String getRecordCopyQuery() {
+        return recordCopyQuery;
+    }
+
+    public String getRecordUpdateQuery() {
+        return recordUpdateQuery;
+    }
+
+    public String getRecordUpsertQuery() {
+        return recordUpsertQuery;
+    }
+
+    public String getRecordContainsCondition() {
+        return recordContainsCondition;
+    }
+
+    public String getTableCheckQuery() {
+        return tableCheckQuery;
+    }
+
+    public String getTableCreateQuery() {
+        return tableCreateQuery;
+    }
+
+    public String getIndexCreateQuery() {
+        return indexCreateQuery;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getFieldSizeLimit() {
+        return fieldSizeLimit;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public int getMultiInsertParameterLimit() {
+        return multiInsertParameterLimit;
+    }
+
+    public String getStreamingMode() {
+        return streamingMode;
+    }
+
+    public boolean isBatchEnable() {
+        return batchEnable;
+    }
+
+    public boolean isTransactionSupported() {
+        return transactionSupported;
+    }
+
+    public String getCollation() {
+        return collation;
+    }
+
+    public RDBMSTypeMapping getTypeMapping() {
+        return typeMapping;
+    }
+
+    public String getBooleanType() {
+        return booleanType;
+    }
+
+    public String getDoubleType() {
+        return doubleType;
+    }
+
+    public String getFloatType() {
+        return floatType;
+    }
+
+    public String getIntegerType() {
+        return integerType;
+    }
+
+    public String getLongType() {
+        return longType;
+    }
+
+    public String getBinaryType() {
+        return binaryType;
+    }
+
+    public String getStringType() {
+        return stringType;
+    }
+
+    public String getBigStringType() {
+        return bigStringType;
+    }
+
+    public String getStringSize() {
+        return stringSize;
+    }
+
+    /**
+     * Returns the clauses of a SELECT query, of which the select clause, the select queries with a sub-select or a
+     * window, and the where clause still refer to the table as {{TABLE_NAME}}.
+     *
+     * @return the select query template, which must not be modified.
+     */
+    public RDBMSSelectQueryTemplate getSelectQueryTemplate() {
+        return selectQueryTemplate;
+    }
+
+    /**
+     * Returns the renderer of the functions pushed down to the database, which memoizes the queries it renders for
+     * all the tables sharing this dialect.
+     *
+     * @return the function renderer.
+     */
+    public RDBMSFunctionRenderer getFunctionRenderer() {
+        return functionRenderer;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms.util;
+
+import io.siddhi.extension.store.rdbms.exception.RDBMSTableException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FUNCTION_MARKER_END;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FUNCTION_MARKER_SEPARATOR;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.FUNCTION_MARKER_START;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_PARAMETERS;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SEPARATOR;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.WHITESPACE;
+
+/**
+ * Class which renders the functions pushed down by {@link io.siddhi.extension.store.rdbms.RDBMSConditionVisitor}
+ * into the SQL of the connected database. Conditions and selections are compiled before the database is known, hence
+ * the visitor emits each function as {{FUNCTION:name}} arg {{,}} arg {{/FUNCTION}}, which is replaced here using the
+ * function templates of the database. Queries are rendered once, when they are composed and retained on the
+ * compiled conditions and selections, hence they are prepared as is on every execution.
+ */
+public class RDBMSFunctionRenderer {
+
+    private static final Pattern ARGUMENT_PLACEHOLDER = Pattern.compile("\\{\\{(\\d+)}}");
+
+    private final Map<String, String> templates;
+    private final String databaseName;
+
+    public RDBMSFunctionRenderer(Map<String, String> templates, String databaseName) {
+        this.templates = templates;
+        this.databaseName = databaseName;
+        templates.forEach(this::validateTemplate);
+    }
+
+    /**
+     * Rejects a template which does not use its arguments exactly once and in order, as the parameters of the
+     * arguments are bound in the order the visitor emitted them.
+     */
+    private void validateTemplate(String name, String template) {
+        Matcher matcher = ARGUMENT_PLACEHOLDER.matcher(template);
+        int expected = 0;
+        while (matcher.find()) {
+            if (Integer.parseInt(matcher.group(1)) != expected) {
+                throw new RDBMSTableException("Template '" + template + "' of function '" + name + "' configured " +
+                        "for the database '" + databaseName + "' uses " + matcher.group() + " where {{" + expected +
+                        "}} is expected. Each argument must be used exactly once and in order.");
+            }
+            expected++;
+        }
+        int parametersIndex = template.indexOf(PLACEHOLDER_PARAMETERS);
+        if (parametersIndex >= 0 && (expected > 0 ||
+                template.indexOf(PLACEHOLDER_PARAMETERS, parametersIndex + 1) >= 0)) {
+            throw new RDBMSTableException("Template '" + template + "' of function '" + name + "' configured " +
+                    "for the database '" + databaseName + "' uses the arguments more than once. " +
+                    PLACEHOLDER_PARAMETERS + " must be used once and not together with numbered arguments.");
+        }
+    }
+
+    /**
+     * Checks whether a template is configured for the given function on the connected database.
+     *
+     * @param name the name of the function.
+     * @return true if the function can be rendered.
+     */
+    public boolean isSupported(String name) {
+        return templates.containsKey(name);
+    }
+
+    /**
+     * Replaces the function markers in the given SQL with the SQL of the connected database.
+     *
+     * @param sql the SQL which may contain function markers.
+     * @return the SQL to be executed.
+     */
+    public String render(String sql) {
+        if (!sql.contains(FUNCTION_MARKER_START)) {
+            return sql;
+        }
+        StringBuilder rendered = new StringBuilder();
+        int[] position = {0};
+        int start;
+        while ((start = sql.indexOf(FUNCTION_MARKER_START, position[0])) >= 0) {
+            rendered.append(sql, position[0], start);
+            position[0] = start;
+            rendered.append(this.renderFunction(sql, position));
+        }
+        return rendered.append(sql.substring(position[0])).toString();
+    }
+
+    /**
+     * Renders the function whose start marker is at the given position, advancing the position past its end marker.
+     */
+    private String renderFunction(String sql, int[] position) {
+        int nameEnd = sql.indexOf("}}", position[0]);
+        String name = sql.substring(position[0] + FUNCTION_MARKER_START.length(), nameEnd);
+        String template = templates.get(name);
+        if (template == null) {
+            throw new RDBMSTableException("Function '" + name + "' cannot be pushed down to the database '" +
+                    databaseName + "' as no template is configured for it under '" +
+                    RDBMSTableConstants.FUNCTION_TEMPLATES + "'.");
+        }
+        List<String> arguments = new ArrayList<>();
+        StringBuilder argument = new StringBuilder();
+        position[0] = nameEnd + 2;
+        while (true) {
+            if (position[0] >= sql.length()) {
+                throw new RDBMSTableException("Function '" + name + "' is not terminated in query '" + sql + "'.");
+            } else if (sql.startsWith(FUNCTION_MARKER_START, position[0])) {
+                argument.append(this.renderFunction(sql, position));
+            } else if (sql.startsWith(FUNCTION_MARKER_SEPARATOR, position[0])) {
+                arguments.add(argument.toString().trim());
+                argument.setLength(0);
+                position[0] += FUNCTION_MARKER_SEPARATOR.length();
+            } else if (sql.startsWith(FUNCTION_MARKER_END, position[0])) {
+                if (!arguments.isEmpty() || argument.toString().trim().length() > 0) {
+                    arguments.add(argument.toString().trim());
+                }
+                position[0] += FUNCTION_MARKER_END.length();
+                break;
+            } else {
+                argument.append(sql.charAt(position[0]));
+                position[0]++;
+            }
+        }
+        String rendered = template.trim().replace(PLACEHOLDER_PARAMETERS, String.join(SEPARATOR, arguments));
+        for (int i = 0; i < arguments.size(); i++) {
+            rendered = rendered.replace("{{" + i + "}}", arguments.get(i));
+        }
+        return rendered + WHITESPACE;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms.util;
+
+import io.siddhi.extension.store.rdbms.config.RDBMSTypeMapping;
+import io.siddhi.query.api.definition.Attribute;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Binds the parameters of a compiled condition to a {@link PreparedStatement}. The parameters are flattened into
+ * arrays ordered by their ordinals when the binder is built, with a resolved {@link RDBMSValueBinder} per parameter.
+ */
+public class RDBMSParameterBinder {
+
+    private final int[] ordinals;
+    private final RDBMSValueBinder[] binders;
+    private final Object[] constantValues;
+    private final String[] variableNames;
+    private final boolean[] containsPatterns;
+    private final int maxOrdinal;
+
+    public RDBMSParameterBinder(SortedMap<Integer, Object> parameters, List<Integer> ordinalOfContainPattern,
+                                RDBMSTypeMapping typeMapping) {
+        int size = parameters.size();
+        this.ordinals = new int[size];
+        this.binders = new RDBMSValueBinder[size];
+        this.constantValues = new Object[size];
+        this.variableNames = new String[size];
+        this.containsPatterns = new boolean[size];
+        int i = 0;
+        int max = 0;
+        for (Map.Entry<Integer, Object> entry : parameters.entrySet()) {
+            ordinals[i] = entry.getKey();
+            max = Math.max(max, entry.getKey());
+            if (entry.getValue() instanceof Constant) {
+                Constant constant = (Constant) entry.getValue();
+                binders[i] = RDBMSValueBinder.forType(constant.getType(), typeMapping);
+                constantValues[i] = constant.getValue();
+            } else {
+                Attribute variable = (Attribute) entry.getValue();
+                binders[i] = RDBMSValueBinder.forType(variable.getType(), typeMapping);
+                variableNames[i] = variable.getName();
+            }
+            containsPatterns[i] = ordinalOfContainPattern != null && ordinalOfContainPattern.contains(entry.getKey());
+            i++;
+        }
+        this.maxOrdinal = max;
+    }
+
+    /**
+     * Binds the parameters at their ordinals, offset by the given seed.
+     *
+     * @param stmt         the statement to which the parameters should be set.
+     * @param parameterMap the runtime values of the stream variables.
+     * @param seed         the number of parameters in the statement which precede the condition.
+     * @param containsMode whether the parameters of contains patterns should be wrapped with wildcards.
+     * @return the maximum ordinal of the parameters.
+     * @throws SQLException if there are issues when the parameters are being set.
+     */
+    public int bind(PreparedStatement stmt, Map<String, Object> parameterMap, int seed, boolean containsMode)
+            throws SQLException {
+        for (int i = 0; i < ordinals.length; i++) {
+            Object value = variableNames[i] == null ? constantValues[i] : parameterMap.get(variableNames[i]);
+            if (containsMode && containsPatterns[i]) {
+                value = "%" + value + "%";
+            }
+            binders[i].bind(stmt, seed + ordinals[i], value);
+        }
+        return maxOrdinal;
+    }
+
+    /**
+     * Binds the parameters in the order of their ordinals to consecutive positions from the given ordinal.
+     *
+     * @param stmt         the statement to which the parameters should be set.
+     * @param parameterMap the runtime values of the stream variables.
+     * @param startOrdinal the position of the first parameter in the statement.
+     * @return the position following the last bound parameter.
+     * @throws SQLException if there are issues when the parameters are being set.
+     */
+    public int bindInOrder(PreparedStatement stmt, Map<String, Object> parameterMap, int startOrdinal)
+            throws SQLException {
+        for (int i = 0; i < ordinals.length; i++) {
+            binders[i].bind(stmt, startOrdinal + i,
+                    variableNames[i] == null ? constantValues[i] : parameterMap.get(variableNames[i]));
+        }
+        return startOrdinal + ordinals.length;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms.util;
+
+import io.siddhi.core.config.SiddhiAppContext;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.SCHEMA_CATALOG_EXPIRY_TIME;
+
+/**
+ * Class which holds a snapshot of the columns of the tables of a Siddhi app in the current schema of a datasource,
+ * read through a single {@link DatabaseMetaData#getColumns(String, String, String, String)} call. Tables connected
+ * while the snapshot is fresh look themselves up in it, instead of each probing the database with the table check
+ * query. The schema is read at most once for each app and datasource, and each table is answered from the snapshot
+ * only once, so a table which is reconnected, possibly after being dropped, is probed again.
+ */
+public class RDBMSSchemaCatalog {
+
+    private static final Log log = LogFactory.getLog(RDBMSSchemaCatalog.class);
+
+    private static final Map<SiddhiAppContext, Map<DataSource, RDBMSSchemaCatalog>> CATALOGS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, Map<String, Integer>> tableColumns;
+    private final boolean caseSensitive;
+    private final long expiryTime;
+
+    private RDBMSSchemaCatalog(Map<String, Map<String, Integer>> tableColumns, boolean caseSensitive) {
+        this.tableColumns = tableColumns;
+        this.caseSensitive = caseSensitive;
+        this.expiryTime = System.currentTimeMillis() + SCHEMA_CATALOG_EXPIRY_TIME;
+    }
+
+    /**
+     * Returns the snapshot of the given tables of an app in the schema of the given datasource, reading it if it has
+     * not been read for the app yet.
+     *
+     * @param siddhiAppContext the context of the app the tables belong to.
+     * @param ds               the datasource whose schema is looked up.
+     * @param tableNames       the names of the tables of the app which are looked up in the snapshot.
+     * @return the snapshot, which is empty if the schema cannot be read through the database metadata.
+     */
+    public static RDBMSSchemaCatalog lookup(SiddhiAppContext siddhiAppContext, DataSource ds,
+                                            Set<String> tableNames) {
+        return CATALOGS.computeIfAbsent(siddhiAppContext, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(ds, key -> read(key, tableNames));
+    }
+
+    /**
+     * Returns the columns of the given table and removes the table from the snapshot.
+     *
+     * @param tableName the name of the table.
+     * @return the SQL types of the columns, as defined in {@link Types}, by column names in upper case unless the
+     * database stores identifiers case sensitively, or null if the table was not in the schema when the snapshot was
+     * taken, has already been looked up, or the snapshot has expired.
+     */
+    public Map<String, Integer> takeColumns(String tableName) {
+        Map<String, Integer> columns = tableColumns.remove(this.normalize(tableName));
+        return (expiryTime < System.currentTimeMillis()) ? null : columns;
+    }
+
+    /**
+     * Normalizes an unquoted identifier the way it is compared against the snapshot.
+     *
+     * @param identifier the name of a table or column.
+     * @return the identifier as stored in the snapshot.
+     */
+    public String normalize(String identifier) {
+        return caseSensitive ? identifier : identifier.toUpperCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Checks whether a column of the given SQL type can hold the values of an attribute mapped to the other type,
+     * that is whether both are character, numeric or binary types. Types outside of these are not checked.
+     *
+     * @param columnType   the SQL type of the column.
+     * @param expectedType the SQL type the attribute is mapped to.
+     * @return true unless the types belong to different kinds.
+     */
+    public static boolean isCompatible(int columnType, int expectedType) {
+        TypeKind columnKind = TypeKind.of(columnType);
+        TypeKind expectedKind = TypeKind.of(expectedType);
+        return columnKind == null || expectedKind == null || columnKind == expectedKind;
+    }
+
+    private static RDBMSSchemaCatalog read(DataSource ds, Set<String> tableNames) {
+        Connection conn = null;
+        ResultSet rs = null;
+        try {
+            conn = ds.getConnection();
+            DatabaseMetaData dmd = conn.getMetaData();
+            boolean caseSensitive = dmd.storesMixedCaseIdentifiers();
+            String catalog = conn.getCatalog();
+            String schema = currentSchema(conn);
+            Map<String, Map<String, Integer>> tableColumns = new ConcurrentHashMap<>();
+            if (catalog == null && schema == null) {
+                // Tables of the same name in other schemas would be taken for the ones of the current schema
+                return new RDBMSSchemaCatalog(tableColumns, caseSensitive);
+            }
+            Set<String> names = caseSensitive ? tableNames : tableNames.stream()
+                    .map(name -> name.toUpperCase(Locale.ENGLISH)).collect(Collectors.toSet());
+            rs = dmd.getColumns(catalog, schema, null, null);
+            while (rs.next()) {
+                String tableName = rs.getString("TABLE_NAME");
+                if (!caseSensitive) {
+                    tableName = tableName.toUpperCase(Locale.ENGLISH);
+                }
+                if (names.contains(tableName)) {
+                    String columnName = rs.getString("COLUMN_NAME");
+                    tableColumns.computeIfAbsent(tableName, k -> new HashMap<>()).put(
+                            caseSensitive ? columnName : columnName.toUpperCase(Locale.ENGLISH),
+                            rs.getInt("DATA_TYPE"));
+                }
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Read " + tableColumns.size() + " of " + names.size() + " tables from the schema of " +
+                        "the datasource.");
+            }
+            return new RDBMSSchemaCatalog(tableColumns, caseSensitive);
+        } catch (SQLException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Tables will be probed individually as the schema cannot be read through the database " +
+                        "metadata: " + e.getMessage(), e);
+            }
+            return new RDBMSSchemaCatalog(new ConcurrentHashMap<>(), false);
+        } finally {
+            RDBMSTableUtils.cleanupConnection(rs, null, conn);
+        }
+    }
+
+    /**
+     * Returns the schema of the connection, or null if the database has no schemas or the driver cannot report it.
+     */
+    private static String currentSchema(Connection conn) {
+        try {
+            return conn.getSchema();
+        } catch (SQLException | AbstractMethodError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Kinds of SQL types between which the values of attributes cannot be converted.
+     */
+    private enum TypeKind {
+        CHARACTER, NUMERIC, BINARY;
+
+        private static TypeKind of(int type) {
+            switch (type) {
+                case Types.CHAR:
+                case Types.VARCHAR:
+                case Types.LONGVARCHAR:
+                case Types.NCHAR:
+                case Types.NVARCHAR:
+                case Types.LONGNVARCHAR:
+                case Types.CLOB:
+                case Types.NCLOB:
+                    return CHARACTER;
+                case Types.BIT:
+                case Types.BOOLEAN:
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                case Types.BIGINT:
+                case Types.REAL:
+                case Types.FLOAT:
+                case Types.DOUBLE:
+                case Types.NUMERIC:
+                case Types.DECIMAL:
+                    return NUMERIC;
+                case Types.BINARY:
+                case Types.VARBINARY:
+                case Types.LONGVARBINARY:
+                case Types.BLOB:
+                case Types.JAVA_OBJECT:
+                    return BINARY;
+                default:
+                    return null;
+            }
+        }
+    }
+}
@@ -25,6 +25,8 @@ public class RDBMSTableConstants {
     //Constants for retrieving database metadata information
     public static final String VERSION = "Version";
     public static final String DATABASE_PRODUCT_NAME = "Database Product Name";
+    public static final String DATABASE_URL = "URL";
+    public static final String DATABASE_CATALOG = "Catalog";
 
     //Placeholder strings needed for processing the query configuration file
     public static final String RDBMS_QUERY_CONFIG_FILE = "rdbms-table-config.xml";
@@ -41,6 +43,18 @@ public class RDBMSTableConstants {
     public static final String PLACEHOLDER_LIMIT_WRAPPER = "{{LIMIT_WRAPPER}}";
     public static final String PLACEHOLDER_OFFSET_WRAPPER = "{{OFFSET_WRAPPER}}";
     public static final String PLACEHOLDER_INDEX_NUMBER = "{{INDEX_NUM}}";
+    public static final String PLACEHOLDER_ROWS = "{{ROWS}}";
+    public static final String PLACEHOLDER_PRIMARY_KEYS = "{{PRIMARY_KEYS}}";
+    public static final String PLACEHOLDER_PRIMARY_KEYS_MATCH = "{{PRIMARY_KEYS_MATCH}}";
+    public static final String PLACEHOLDER_VALUES_AS_COLUMNS = "{{VALUES_AS_COLUMNS}}";
+    public static final String PLACEHOLDER_SOURCE_COLUMNS = "{{SOURCE_COLUMNS}}";
+    public static final String PLACEHOLDER_PARAMETERS = "{{PARAMETERS}}";
+    public static final String PLACEHOLDER_PARTITION = "{{PARTITION}}";
+    public static final String FUNCTION_MARKER_START = "{{FUNCTION:";
+    public static final String FUNCTION_MARKER_SEPARATOR = "{{,}}";
+    public static final String FUNCTION_MARKER_END = "{{/FUNCTION}}";
+    public static final String FUNCTION_LAST = "last";
+    public static final String FUNCTION_LAST_WINDOW = "last.window";
 
     //Miscellaneous SQL constants
     public static final String SQL_MATH_ADD = "+";
@@ -59,12 +73,15 @@ public class RDBMSTableConstants {
     public static final String SQL_NOT = "NOT";
     public static final String SQL_IN = "IN";
     public static final String SQL_IS_NULL = "IS NULL";
+    public static final String SQL_TAUTOLOGY = "1 = 1";
     public static final String SQL_NOT_NULL = "NOT NULL";
     public static final String SQL_PRIMARY_KEY_DEF = "PRIMARY KEY";
     public static final String SQL_WHERE = "WHERE";
     public static final String SQL_COLLATE = "COLLATE";
     public static final String SQL_AS = " AS ";
     public static final String SQL_MAX = "MAX"; // Used for incrementalAggregator:last()
+    public static final String SQL_PARTITION_BY = "PARTITION BY ";
+    public static final String LAST_VALUE_COLUMN_PREFIX = "LAST_VALUE_";
     public static final String WHITESPACE = " ";
     public static final String SEPARATOR = ", ";
     public static final String EQUALS = "=";
@@ -72,20 +89,46 @@ public class RDBMSTableConstants {
     public static final String OPEN_PARENTHESIS = "(";
     public static final String CLOSE_PARENTHESIS = ")";
     public static final String SUB_SELECT_QUERY_REF = "t2";
+    public static final String UPSERT_SOURCE_REF = "src";
 
     public static final String CONTAINS_CONDITION_REGEX = "(CONTAINS\\()([a-zA-z0-9_.]*)(\\s\\?\\s\\))";
 
     //Annotation field names
+    public static final String RDBMS_STORE_TYPE = "rdbms";
     public static final String ANNOTATION_ELEMENT_URL = "jdbc.url";
     public static final String ANNOTATION_ELEMENT_USERNAME = "username";
     public static final String ANNOTATION_ELEMENT_PASSWORD = "password";
     public static final String ANNOTATION_ELEMENT_TABLE_NAME = "table.name";
     public static final String ANNOTATION_ELEMENT_TABLE_CHECK_QUERY = "table.check.query";
+    public static final String ANNOTATION_ELEMENT_TABLE_CHECK_METADATA = "table.check.metadata";
     public static final String ANNOTATION_ELEMENT_FIELD_LENGTHS = "field.length";
     public static final String ANNOTATION_ELEMENT_POOL_PROPERTIES = "pool.properties";
     public static final String ANNOTATION_ELEMENT_JNDI_RESOURCE = "jndi.resource";
     public static final String ANNOTATION_DRIVER_CLASS_NAME = "jdbc.driver.name";
     public static final String ANNOTATION_ELEMENT_DATASOURCE = "datasource";
+    public static final String ANNOTATION_ELEMENT_READ_URL = "read.jdbc.url";
+    public static final String ANNOTATION_ELEMENT_READ_DATASOURCE = "read.datasource";
+    public static final String ANNOTATION_ELEMENT_READ_REPLICA_LAG = "read.replica.lag";
+    public static final String ANNOTATION_ELEMENT_MULTI_ROW_INSERT = "multi.row.insert";
+    public static final String ANNOTATION_ELEMENT_COPY_BULK_LOAD = "copy.bulk.load";
+    public static final String ANNOTATION_ELEMENT_WRITE_BEHIND = "write.behind";
+    public static final String ANNOTATION_ELEMENT_WRITE_BEHIND_BUFFER_SIZE = "write.behind.buffer.size";
+    public static final String ANNOTATION_ELEMENT_WRITE_BEHIND_FLUSH_SIZE = "write.behind.flush.size";
+    public static final String ANNOTATION_ELEMENT_WRITE_BEHIND_FLUSH_INTERVAL = "write.behind.flush.interval";
+    public static final String ANNOTATION_ELEMENT_FETCH_SIZE = "fetch.size";
+    public static final String ANNOTATION_ELEMENT_PRIMARY_KEY_CACHE_SIZE = "primary.key.cache.size";
+    public static final String ANNOTATION_ELEMENT_PRIMARY_KEY_CACHE_MAX_MEMORY = "primary.key.cache.max.memory";
+    public static final String ANNOTATION_ELEMENT_PRIMARY_KEY_CACHE_EXPIRY_TIME = "primary.key.cache.expiry.time";
+    public static final String ANNOTATION_ELEMENT_QUERY_CACHE_EXPIRY_TIME = "query.cache.expiry.time";
+    public static final String ANNOTATION_ELEMENT_QUERY_CACHE_MAX_MEMORY = "query.cache.max.memory";
+    public static final String ANNOTATION_ELEMENT_KEYSET_PAGINATION = "keyset.pagination";
+    public static final String ANNOTATION_ELEMENT_BATCH_LOOKUP_SIZE = "batch.lookup.size";
+    public static final String ANNOTATION_ELEMENT_BATCH_LOOKUP_CONCURRENCY = "batch.lookup.concurrency";
+    public static final String ANNOTATION_ELEMENT_BLOOM_FILTER_SIZE = "bloom.filter.size";
+    public static final String ANNOTATION_ELEMENT_BLOOM_FILTER_FP_RATE = "bloom.filter.false.positive.rate";
+    public static final String ANNOTATION_ELEMENT_MIRROR = "mirror";
+    public static final String ANNOTATION_ELEMENT_MIRROR_REFRESH_INTERVAL = "mirror.refresh.interval";
+    public static final String ANNOTATION_ELEMENT_MIRROR_LAST_MODIFIED_COLUMN = "mirror.last.modified.column";
 
     //Configurable System Parameters
     public static final String PROPERTY_SEPARATOR = ".";
@@ -95,7 +138,10 @@ public class RDBMSTableConstants {
     public static final String TABLE_CREATE_QUERY = "tableCreateQuery";
     public static final String INDEX_CREATE_QUERY = "indexCreateQuery";
     public static final String RECORD_INSERT_QUERY = "recordInsertQuery";
+    public static final String RECORD_MULTI_INSERT_QUERY = "recordMultiInsertQuery";
+    public static final String RECORD_COPY_QUERY = "recordCopyQuery";
     public static final String RECORD_UPDATE_QUERY = "recordUpdateQuery";
+    public static final String RECORD_UPSERT_QUERY = "recordUpsertQuery";
     public static final String RECORD_SELECT_QUERY = "recordSelectQuery";
     public static final String RECORD_EXISTS_QUERY = "recordExistsQuery";
     public static final String RECORD_DELETE_QUERY = "recordDeleteQuery";
@@ -111,12 +157,18 @@ public class RDBMSTableConstants {
     public static final String STRING_TYPE = "stringType";
     public static final String BIG_STRING_TYPE = "bigStringType";
     public static final String BATCH_SIZE = "batchSize";
+    public static final String MULTI_INSERT_PARAMETER_LIMIT = "multiInsertParameterLimit";
+    public static final String FETCH_SIZE = "fetchSize";
+    public static final String STREAMING_MODE = "streamingMode";
+    public static final String STREAMING_MODE_ROW = "row";
+    public static final String STREAMING_MODE_CURSOR = "cursor";
     public static final String FIELD_SIZE_LIMIT = "fieldSizeLimit";
     public static final String BATCH_ENABLE = "batchEnable";
     public static final String COLLATION = "collation";
     public static final String TRANSACTION_SUPPORTED = "transactionSupported";
     public static final String SELECT_QUERY_TEMPLATE = "selectQueryTemplate";
     public static final String SELECT_QUERY_WITH_SUB_SELECT_TEMPLATE = "selectQueryWithSubSelect";
+    public static final String SELECT_QUERY_WITH_WINDOW_TEMPLATE = "selectQueryWithWindow";
     public static final String SELECT_CLAUSE = "selectClause";
     public static final String WHERE_CLAUSE = "whereClause";
     public static final String GROUP_BY_CLAUSE = "groupByClause";
@@ -128,8 +180,27 @@ public class RDBMSTableConstants {
     public static final String QUERY_WRAPPER_CLAUSE = "queryWrapperClause";
     public static final String LIMIT_WRAPPER_CLAUSE = "limitWrapperClause";
     public static final String OFFSET_WRAPPER_CLAUSE = "offsetWrapperClause";
+    public static final String FUNCTION_TEMPLATES = "functionTemplates";
     public static final String MICROSOFT_SQL_SERVER_NAME = "Microsoft SQL Server";
 
+    //Write-behind buffer defaults
+    public static final int DEFAULT_WRITE_BEHIND_BUFFER_SIZE = 50000;
+    public static final int DEFAULT_WRITE_BEHIND_FLUSH_SIZE = 5000;
+    public static final int DEFAULT_WRITE_BEHIND_FLUSH_INTERVAL = 50;
+    public static final double DEFAULT_BLOOM_FILTER_FALSE_POSITIVE_RATE = 0.01;
+    public static final int DEFAULT_QUERY_CACHE_MAX_MEMORY = 16;
+    public static final int DEFAULT_BATCH_LOOKUP_CONCURRENCY = 1;
+    public static final int KEYSET_PAGINATION_MAX_BOUNDARIES = 10000;
+
+    //Time in milliseconds for which a snapshot of the schema is trusted while tables are being connected
+    public static final long SCHEMA_CATALOG_EXPIRY_TIME = 60000;
+
+    //Time in milliseconds for which reads are not routed to a read replica after it was found unavailable
+    public static final long READ_REPLICA_RETRY_INTERVAL = 30000;
+
+    //Number of lock stripes used to serialize update or insert operations on the same primary keys
+    public static final int UPDATE_OR_ADD_LOCK_STRIPES = 64;
+
     public static final String USE_COLLATION = "use.collation";
     public static final String ALLOW_NULL = "allow.null.values";
 
@@ -42,11 +42,14 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.SortedMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -56,7 +59,9 @@ import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.CONTAINS_CONDITION_REGEX;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.DATABASE_CATALOG;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.DATABASE_PRODUCT_NAME;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.DATABASE_URL;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.MAX_VERSION;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.MIN_VERSION;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.PLACEHOLDER_COLUMNS;
@@ -77,7 +82,11 @@ public class RDBMSTableUtils {
 
     private static final Log log = LogFactory.getLog(RDBMSTableUtils.class);
     private static final Pattern CONTAINS_CONDITION_REGEX_PATTERN = Pattern.compile(CONTAINS_CONDITION_REGEX);
-    private static RDBMSConfigurationMapper mapper;
+    private static final Map<DataSource, AtomicReference<Map<String, Object>>> DATABASE_INFO =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<DataSource, Map<Map<String, String>, RDBMSDialect>> DIALECTS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private static volatile RDBMSConfigurationMapper mapper;
 
     private RDBMSTableUtils() {
         //preventing initialization
@@ -169,25 +178,7 @@ public class RDBMSTableUtils {
     public static int resolveCondition(PreparedStatement stmt, RDBMSCompiledCondition compiledCondition,
                                        Map<String, Object> conditionParameterMap, int seed,
                                        RDBMSTypeMapping typeMapping) throws SQLException {
-        int maxOrdinal = 0;
-        SortedMap<Integer, Object> parameters = compiledCondition.getParameters();
-        for (Map.Entry<Integer, Object> entry : parameters.entrySet()) {
-            Object parameter = entry.getValue();
-            int ordinal = entry.getKey();
-            if (ordinal > maxOrdinal) {
-                maxOrdinal = ordinal;
-            }
-            if (parameter instanceof Constant) {
-                Constant constant = (Constant) parameter;
-                populateStatementWithSingleElement(stmt, seed + ordinal, constant.getType(),
-                        constant.getValue(), typeMapping);
-            } else {
-                Attribute variable = (Attribute) parameter;
-                populateStatementWithSingleElement(stmt, seed + ordinal, variable.getType(),
-                        conditionParameterMap.get(variable.getName()), typeMapping);
-            }
-        }
-        return maxOrdinal;
+        return compiledCondition.getParameterBinder(typeMapping).bind(stmt, conditionParameterMap, seed, false);
     }
 
     public static void resolveQuery(PreparedStatement stmt, RDBMSCompiledSelection rdbmsCompiledSelection,
@@ -228,59 +219,35 @@ public class RDBMSTableUtils {
                                                        Map<String, Object> conditionParameterMap, int seed,
                                                        RDBMSTypeMapping typeMapping)
             throws SQLException {
-        int maxOrdinal = 0;
-        SortedMap<Integer, Object> parameters = compiledCondition.getParameters();
-        for (Map.Entry<Integer, Object> entry : parameters.entrySet()) {
-            Object parameter = entry.getValue();
-            int ordinal = entry.getKey();
-            if (ordinal > maxOrdinal) {
-                maxOrdinal = ordinal;
-            }
-            if (parameter instanceof Constant) {
-                Constant constant = (Constant) parameter;
-                if (compiledCondition.getOrdinalOfContainPattern().contains(entry.getKey())) {
-                    populateStatementWithSingleElement(stmt, seed + entry.getKey(), constant.getType(),
-                            "%" + constant.getValue() + "%", typeMapping);
-                } else {
-                    populateStatementWithSingleElement(stmt, seed + entry.getKey(), constant.getType(),
-                            constant.getValue(), typeMapping);
-                }
-            } else {
-                Attribute variable = (Attribute) parameter;
-                if (compiledCondition.getOrdinalOfContainPattern().contains(entry.getKey())) {
-                    populateStatementWithSingleElement(stmt, seed + entry.getKey(), variable.getType(),
-                            "%" + conditionParameterMap.get(variable.getName()) + "%", typeMapping);
-                } else {
-                    populateStatementWithSingleElement(stmt, seed + entry.getKey(), variable.getType(),
-                            conditionParameterMap.get(variable.getName()), typeMapping);
-                }
-
-            }
-        }
-        return maxOrdinal;
+        return compiledCondition.getParameterBinder(typeMapping).bind(stmt, conditionParameterMap, seed, true);
     }
 
     public static int enumerateUpdateSetEntries(Map<String, CompiledExpression> updateSetExpressions,
                                                 PreparedStatement stmt, Map<String, Object> updateSetMap,
                                                 RDBMSTypeMapping typeMapping)
             throws SQLException {
-        Object parameter;
-        int ordinal = 1;
-        for (Map.Entry<String, CompiledExpression> assignmentEntry : updateSetExpressions.entrySet()) {
-            for (Map.Entry<Integer, Object> parameterEntry :
-                    ((RDBMSCompiledCondition) assignmentEntry.getValue()).getParameters().entrySet()) {
-                parameter = parameterEntry.getValue();
-                if (parameter instanceof Constant) {
-                    Constant constant = (Constant) parameter;
-                    RDBMSTableUtils.populateStatementWithSingleElement(stmt, ordinal, constant.getType(),
-                            constant.getValue(), typeMapping);
-                } else {
-                    Attribute variable = (Attribute) parameter;
-                    RDBMSTableUtils.populateStatementWithSingleElement(stmt, ordinal, variable.getType(),
-                            updateSetMap.get(variable.getName()), typeMapping);
-                }
-                ordinal++;
-            }
+        return enumerateUpdateSetEntries(updateSetExpressions, stmt, updateSetMap, 1, typeMapping);
+    }
+
+    /**
+     * Util method which populates the parameters of the given SET expressions starting from the given ordinal.
+     *
+     * @param updateSetExpressions the compiled SET expressions.
+     * @param stmt                 the statement to which the values should be set.
+     * @param updateSetMap         the runtime values of the stream variables in the SET expressions.
+     * @param startOrdinal         the ordinal of the first SET parameter in the statement.
+     * @param typeMapping          the type mapping of the database.
+     * @return the ordinal following the last populated parameter.
+     * @throws SQLException if there are issues when the elements are being set.
+     */
+    public static int enumerateUpdateSetEntries(Map<String, CompiledExpression> updateSetExpressions,
+                                                PreparedStatement stmt, Map<String, Object> updateSetMap,
+                                                int startOrdinal, RDBMSTypeMapping typeMapping)
+            throws SQLException {
+        int ordinal = startOrdinal;
+        for (CompiledExpression setExpression : updateSetExpressions.values()) {
+            ordinal = ((RDBMSCompiledCondition) setExpression).getParameterBinder(typeMapping)
+                    .bindInOrder(stmt, updateSetMap, ordinal);
         }
         return ordinal;
     }
@@ -351,6 +318,32 @@ public class RDBMSTableUtils {
         }
     }
 
+    /**
+     * Util method which returns the SQL type an attribute type is mapped to.
+     *
+     * @param type        the attribute type.
+     * @param typeMapping the type mapping of the database.
+     * @return the SQL type, as defined in {@link java.sql.Types}.
+     */
+    public static int lookupSqlType(Attribute.Type type, RDBMSTypeMapping typeMapping) {
+        switch (type) {
+            case BOOL:
+                return typeMapping.getBooleanType().getTypeValue();
+            case DOUBLE:
+                return typeMapping.getDoubleType().getTypeValue();
+            case FLOAT:
+                return typeMapping.getFloatType().getTypeValue();
+            case INT:
+                return typeMapping.getIntegerType().getTypeValue();
+            case LONG:
+                return typeMapping.getLongType().getTypeValue();
+            case OBJECT:
+                return typeMapping.getBinaryType().getTypeValue();
+            default:
+                return typeMapping.getStringType().getTypeValue();
+        }
+    }
+
     /**
      * Util method which validates the elements from an annotation to verify that they comply to the accepted standards.
      *
@@ -437,18 +430,38 @@ public class RDBMSTableUtils {
     }
 
     /**
-     * Utility method used for looking up DB metadata information from a given datasource.
+     * Utility method used for looking up DB metadata information from a given datasource. The metadata is looked up
+     * once per datasource, as tables sharing a datasource would otherwise each check out a connection for it. The
+     * lookup locks only its own datasource, and a failed lookup is not retained, hence it is retried by the next table.
      *
      * @param ds the datasource from which the metadata needs to be looked up.
      * @return a list of DB metadata.
      */
     public static Map<String, Object> lookupDatabaseInfo(DataSource ds) {
+        AtomicReference<Map<String, Object>> databaseInfo = DATABASE_INFO.computeIfAbsent(ds,
+                key -> new AtomicReference<>());
+        Map<String, Object> result = databaseInfo.get();
+        if (result == null) {
+            synchronized (databaseInfo) {
+                result = databaseInfo.get();
+                if (result == null) {
+                    result = Collections.unmodifiableMap(queryDatabaseInfo(ds));
+                    databaseInfo.set(result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Object> queryDatabaseInfo(DataSource ds) {
         Connection conn = null;
         try {
             conn = ds.getConnection();
             DatabaseMetaData dmd = conn.getMetaData();
             Map<String, Object> result = new HashMap<>();
             result.put(DATABASE_PRODUCT_NAME, dmd.getDatabaseProductName());
+            result.put(DATABASE_URL, dmd.getURL());
+            result.put(DATABASE_CATALOG, conn.getCatalog());
             result.put(VERSION, Double.parseDouble(dmd.getDatabaseMajorVersion() + "."
                     + dmd.getDatabaseMinorVersion()));
             return result;
@@ -468,8 +481,10 @@ public class RDBMSTableUtils {
     private static RDBMSConfigurationMapper loadRDBMSConfigurationMapper() throws CannotLoadConfigurationException {
         if (mapper == null) {
             synchronized (RDBMSTableUtils.class) {
-                RDBMSQueryConfiguration config = loadQueryConfiguration();
-                mapper = new RDBMSConfigurationMapper(config);
+                if (mapper == null) {
+                    RDBMSQueryConfiguration config = loadQueryConfiguration();
+                    mapper = new RDBMSConfigurationMapper(config);
+                }
             }
         }
         return mapper;
@@ -496,6 +511,33 @@ public class RDBMSTableUtils {
         }
     }
 
+    /**
+     * Looks up the dialect of the database behind a given datasource, which is resolved once for each datasource and
+     * set of configurations, and shared by the tables using them.
+     *
+     * @param ds           the datasource of the database.
+     * @param configReader the config reader holding the overrides of the query configuration.
+     * @return the dialect of the database.
+     * @throws CannotLoadConfigurationException if the configuration cannot be loaded.
+     */
+    public static RDBMSDialect lookupDialect(DataSource ds, ConfigReader configReader)
+            throws CannotLoadConfigurationException {
+        Map<String, String> configs = configReader.getAllConfigs() == null ? Collections.emptyMap() :
+                new HashMap<>(configReader.getAllConfigs());
+        Map<Map<String, String>, RDBMSDialect> dialects = DIALECTS.computeIfAbsent(ds,
+                key -> new ConcurrentHashMap<>());
+        RDBMSDialect dialect = dialects.get(configs);
+        if (dialect == null) {
+            dialect = new RDBMSDialect(lookupCurrentQueryConfigurationEntry(ds, configReader), configReader,
+                    (double) lookupDatabaseInfo(ds).get(VERSION));
+            RDBMSDialect existing = dialects.putIfAbsent(configs, dialect);
+            if (existing != null) {
+                dialect = existing;
+            }
+        }
+        return dialect;
+    }
+
     /**
      * Utility method which matches the contain condition regex and replace the contain condition in findCondition
      * by the record contains condition template.
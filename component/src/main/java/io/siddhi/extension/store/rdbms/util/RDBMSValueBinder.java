@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms.util;
+
+import io.siddhi.extension.store.rdbms.config.RDBMSTypeMapping;
+import io.siddhi.query.api.definition.Attribute;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Sets a value of a particular Siddhi type to a {@link PreparedStatement}. A binder is resolved once per column or
+ * condition parameter, hence binding a value does not require dispatching on the attribute type.
+ */
+@FunctionalInterface
+public interface RDBMSValueBinder {
+
+    /**
+     * Sets the given value to the statement.
+     *
+     * @param stmt    the statement to which the value should be set.
+     * @param ordinal the ordinal of the value in the statement.
+     * @param value   the value, which may be null.
+     * @throws SQLException if there are issues when the value is being set.
+     */
+    void bind(PreparedStatement stmt, int ordinal, Object value) throws SQLException;
+
+    /**
+     * Resolves the binder for the given attribute type.
+     *
+     * @param type        the type of the values to be set.
+     * @param typeMapping the type mapping of the database, used for setting null values.
+     * @return the binder for the type.
+     */
+    static RDBMSValueBinder forType(Attribute.Type type, RDBMSTypeMapping typeMapping) {
+        switch (type) {
+            case BOOL:
+                return (stmt, ordinal, value) -> {
+                    if (value != null) {
+                        stmt.setBoolean(ordinal, (Boolean) value);
+                    } else {
+                        stmt.setNull(ordinal, typeMapping.getBooleanType().getTypeValue());
+                    }
+                };
+            case DOUBLE:
+                return (stmt, ordinal, value) -> {
+                    if (value != null) {
+                        stmt.setDouble(ordinal, (Double) value);
+                    } else {
+                        stmt.setNull(ordinal, typeMapping.getDoubleType().getTypeValue());
+                    }
+                };
+            case FLOAT:
+                return (stmt, ordinal, value) -> {
+                    if (value != null) {
+                        stmt.setFloat(ordinal, (Float) value);
+                    } else {
+                        stmt.setNull(ordinal, typeMapping.getFloatType().getTypeValue());
+                    }
+                };
+            case INT:
+                return (stmt, ordinal, value) -> {
+                    if (value != null) {
+                        stmt.setInt(ordinal, (Integer) value);
+                    } else {
+                        stmt.setNull(ordinal, typeMapping.getIntegerType().getTypeValue());
+                    }
+                };
+            case LONG:
+                return (stmt, ordinal, value) -> {
+                    if (value != null) {
+                        stmt.setLong(ordinal, (Long) value);
+                    } else {
+                        stmt.setNull(ordinal, typeMapping.getLongType().getTypeValue());
+                    }
+                };
+            case OBJECT:
+                return (stmt, ordinal, value) -> {
+                    if (value != null) {
+                        stmt.setObject(ordinal, value);
+                    } else {
+                        stmt.setNull(ordinal, typeMapping.getBinaryType().getTypeValue());
+                    }
+                };
+            case STRING:
+                return (stmt, ordinal, value) -> {
+                    if (value != null) {
+                        stmt.setString(ordinal, (String) value);
+                    } else {
+                        stmt.setNull(ordinal, typeMapping.getStringType().getTypeValue());
+                    }
+                };
+            default:
+                return (stmt, ordinal, value) -> {
+                };
+        }
+    }
+}
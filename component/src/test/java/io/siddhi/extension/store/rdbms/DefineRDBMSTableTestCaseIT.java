@@ -31,6 +31,8 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import javax.naming.NamingException;
 
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils.TABLE_NAME;
@@ -978,4 +980,97 @@ public class DefineRDBMSTableTestCaseIT {
         Assert.assertEquals(totalIndexInTable, 3, "Indices creation failed");
         siddhiAppRuntime.shutdown();
     }
+
+    @Test(dependsOnMethods = "rdbmstabledefinitiontest25")
+    public void rdbmstabledefinitiontest26() throws InterruptedException, SQLException {
+        //Testing that an existing table is found through the database metadata without probing it
+        log.info("rdbmstabledefinitiontest26");
+        boolean isH2 = RDBMSTableTestUtils.testDatabaseType == RDBMSTableTestUtils.TestType.H2;
+        RDBMSTableTestUtils.runStatements("CREATE TABLE StockTable (symbol VARCHAR(100), price REAL, volume BIGINT)");
+        RDBMSTableTestUtils.executeUpdate("INSERT INTO StockTable VALUES (?, ?, ?)", "WSO2", 55.6F, 100L);
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", jdbc.driver.name=\"" + driverClassName + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\",field.length=\"symbol:100\", " +
+                "pool.properties=\"maximumPoolSize:1\", table.check.metadata=\"true\")\n" +
+                "define table StockTable (symbol string, price float, volume long); ";
+
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream   " +
+                "insert into StockTable ;";
+
+        List<String> warnings = new ArrayList<>();
+        LoggerAppender.setLoggerCallBack(new LoggerCallBack("exists but") {
+            @Override
+            public void receive(String logEventMessage) {
+                warnings.add(logEventMessage);
+            }
+        });
+        if (isH2) {
+            RDBMSTableTestUtils.executeUpdate("SET QUERY_STATISTICS TRUE");
+        }
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        try {
+            InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+            siddhiAppRuntime.start();
+            stockStream.send(new Object[]{"IBM", 75.6F, 100L});
+            Thread.sleep(1000);
+
+            Assert.assertEquals(RDBMSTableTestUtils.getRowsInTable(TABLE_NAME), 2, "Definition/Insertion failed");
+            Assert.assertTrue(warnings.isEmpty(), "Matching table reported as mismatched: " + warnings);
+            if (isH2) {
+                Assert.assertFalse(RDBMSTableTestUtils.getExecutedQueries(TABLE_NAME).stream()
+                        .anyMatch(executedQuery -> executedQuery.contains("LIMIT 1")), "Table probed");
+            }
+        } finally {
+            if (isH2) {
+                RDBMSTableTestUtils.executeUpdate("SET QUERY_STATISTICS FALSE");
+            }
+            LoggerAppender.setLoggerCallBack(null);
+            siddhiAppRuntime.shutdown();
+        }
+    }
+
+    @Test(dependsOnMethods = "rdbmstabledefinitiontest26")
+    public void rdbmstabledefinitiontest27() throws InterruptedException, SQLException {
+        //Testing that the columns of an existing table are validated against the definition
+        log.info("rdbmstabledefinitiontest27");
+        RDBMSTableTestUtils.runStatements("CREATE TABLE StockTable (symbol VARCHAR(100), price VARCHAR(100))");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", jdbc.driver.name=\"" + driverClassName + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\",field.length=\"symbol:100\", " +
+                "pool.properties=\"maximumPoolSize:1\", table.check.metadata=\"true\", " +
+                "table.name=\"StockTable\")\n" +
+                "define table MyTable (symbol string, price float, volume long); ";
+
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream   " +
+                "insert into MyTable ;";
+
+        List<String> warnings = new ArrayList<>();
+        LoggerAppender.setLoggerCallBack(new LoggerCallBack("exists but") {
+            @Override
+            public void receive(String logEventMessage) {
+                warnings.add(logEventMessage);
+            }
+        });
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        try {
+            siddhiAppRuntime.start();
+
+            Assert.assertEquals(warnings.size(), 2, "Mismatches reported: " + warnings);
+            Assert.assertTrue(warnings.get(0).contains("[volume]") && warnings.get(0).endsWith("'MyTable'."),
+                    "Missing column reported as: " + warnings.get(0));
+            Assert.assertTrue(warnings.get(1).contains("[price (VARCHAR)]") && warnings.get(1).endsWith("'MyTable'."),
+                    "Mismatched column reported as: " + warnings.get(1));
+        } finally {
+            LoggerAppender.setLoggerCallBack(null);
+            siddhiAppRuntime.shutdown();
+        }
+    }
 }
@@ -20,9 +20,15 @@ package io.siddhi.extension.store.rdbms;
 import io.siddhi.core.SiddhiAppRuntime;
 import io.siddhi.core.SiddhiManager;
 import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.ConnectionUnavailableException;
 import io.siddhi.core.query.output.callback.QueryCallback;
 import io.siddhi.core.stream.input.InputHandler;
 import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.collection.operator.CompiledCondition;
+import io.siddhi.core.util.collection.operator.CompiledExpression;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import io.siddhi.extension.store.rdbms.util.LoggerAppender;
+import io.siddhi.extension.store.rdbms.util.LoggerCallBack;
 import io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils;
 import org.apache.log4j.Logger;
 import org.awaitility.Awaitility;
@@ -36,7 +42,15 @@ import org.testng.annotations.Test;
 import java.io.File;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils.TABLE_NAME;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils.driverClassName;
@@ -309,6 +323,340 @@ public class InsertIntoRDBMSTableTestCaseIT {
         siddhiAppRuntime.shutdown();
     }
 
+    @Test
+    public void insertIntoRDBMSTableTest7() throws InterruptedException, SQLException {
+        //Testing multi-row VALUES insertion of an event chunk spanning more than one statement
+        log.info("insertIntoRDBMSTableTest7");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long);\n";
+
+        String table = "" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", table.name=\"StockTable\"," +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\", allow.null.values=\"true\", multi.row.insert=\"true\", " +
+                "batch.size=\"2\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table MyTable (symbol string, price float, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream   " +
+                "select symbol, price, volume " +
+                "insert into MyTable ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + table + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Event[]{
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 55.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"BMS", 56.6F, null}),
+                new Event(System.currentTimeMillis(), new Object[]{"IBM", 57.6F, 80L}),
+                new Event(System.currentTimeMillis(), new Object[]{"MSFT", null, 50L}),
+                new Event(System.currentTimeMillis(), new Object[]{"LSF", 58.6F, 60L})
+        });
+        Thread.sleep(1000);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        Assert.assertEquals(totalRowsInTable, 5, "Definition/Insertion failed");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void insertIntoRDBMSTableTest8() throws InterruptedException, SQLException {
+        //Testing that buffered writes are executed in arrival order once the write-behind buffer is flushed
+        log.info("insertIntoRDBMSTableTest8");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long);\n" +
+                "define stream UpdateStream (symbol string, price float);\n" +
+                "define stream DeleteStream (symbol string);\n";
+
+        String table = "" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", table.name=\"StockTable\"," +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\", write.behind=\"true\", write.behind.flush.size=\"100\", " +
+                "write.behind.flush.interval=\"60000\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table MyTable (symbol string, price float, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "select symbol, price, volume " +
+                "insert into MyTable;\n" +
+                "@info(name = 'query2') " +
+                "from UpdateStream " +
+                "update MyTable " +
+                "set MyTable.price = price " +
+                "on MyTable.symbol == symbol;\n" +
+                "@info(name = 'query3') " +
+                "from DeleteStream " +
+                "delete MyTable " +
+                "on MyTable.symbol == symbol;\n";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + table + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler updateStream = siddhiAppRuntime.getInputHandler("UpdateStream");
+        InputHandler deleteStream = siddhiAppRuntime.getInputHandler("DeleteStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6F, 100L});
+        stockStream.send(new Object[]{"IBM", 57.6F, 80L});
+        updateStream.send(new Object[]{"WSO2", 65.6F});
+        deleteStream.send(new Object[]{"IBM"});
+        stockStream.send(new Object[]{"MSFT", 58.6F, 50L});
+        updateStream.send(new Object[]{"MSFT", 68.6F});
+
+        Assert.assertEquals(RDBMSTableTestUtils.getRowsInTable(TABLE_NAME), 0, "Writes were not buffered");
+        //Shutting down flushes the buffer
+        siddhiAppRuntime.shutdown();
+        Assert.assertEquals(RDBMSTableTestUtils.getRowsInTable(TABLE_NAME), 2, "Buffered writes were not flushed");
+
+        SiddhiAppRuntime readRuntime = siddhiManager.createSiddhiAppRuntime(streams + table);
+        readRuntime.start();
+        Event[] events = readRuntime.query("" +
+                "from MyTable " +
+                "select symbol, price " +
+                "order by symbol ");
+        readRuntime.shutdown();
+        Assert.assertNotNull(events);
+        Assert.assertEquals(events.length, 2);
+        Assert.assertEquals(events[0].getData(), new Object[]{"MSFT", 68.6F});
+        Assert.assertEquals(events[1].getData(), new Object[]{"WSO2", 65.6F});
+    }
+
+    @Test
+    public void insertIntoRDBMSTableTest9() throws InterruptedException, SQLException {
+        //Testing data insertion through COPY, falling back to regular inserts for connections other than PostgreSQL
+        log.info("insertIntoRDBMSTableTest9");
+        boolean isPostgres = RDBMSTableTestUtils.testDatabaseType == RDBMSTableTestUtils.TestType.POSTGRES;
+        Map<String, String> extensionConfigs = new HashMap<>();
+        extensionConfigs.put("store.rdbms.h2.recordCopyQuery", "COPY {{TABLE_NAME}} ({{COLUMNS}}) FROM STDIN WITH CSV");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(extensionConfigs, null));
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long);\n";
+
+        String table = "" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", table.name=\"StockTable\"," +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\", allow.null.values=\"true\", copy.bulk.load=\"true\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table MyTable (symbol string, price float, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream   " +
+                "select symbol, price, volume " +
+                "insert into MyTable ;";
+
+        AtomicBoolean isFallbackLogged = new AtomicBoolean(false);
+        LoggerAppender.setLoggerCallBack(new LoggerCallBack("do not support the PostgreSQL COPY API") {
+            @Override
+            public void receive(String logEventMessage) {
+                isFallbackLogged.set(true);
+            }
+        });
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + table + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Event[]{
+                new Event(System.currentTimeMillis(), new Object[]{"WSO2", 55.6F, 100L}),
+                new Event(System.currentTimeMillis(), new Object[]{"IBM, \"Inc\"", 57.6F, null}),
+                new Event(System.currentTimeMillis(), new Object[]{"MSFT", null, 50L})
+        });
+        Thread.sleep(1000);
+        LoggerAppender.setLoggerCallBack(null);
+
+        long totalRowsInTable = RDBMSTableTestUtils.getRowsInTable(TABLE_NAME);
+        Assert.assertEquals(totalRowsInTable, 3, "Definition/Insertion failed");
+        Assert.assertEquals(isFallbackLogged.get(), !isPostgres, "COPY support was not detected correctly");
+        Event[] events = siddhiAppRuntime.query("" +
+                "from MyTable " +
+                "on volume is null " +
+                "select symbol, price ");
+        Assert.assertNotNull(events);
+        Assert.assertEquals(events.length, 1);
+        Assert.assertEquals(events[0].getData(), new Object[]{"IBM, \"Inc\"", 57.6F});
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void insertIntoRDBMSTableTest10() throws InterruptedException, SQLException {
+        //Testing that a read flushes the writes buffered before it
+        log.info("insertIntoRDBMSTableTest10");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long);\n" +
+                "define stream UpdateStream (symbol string, price float);\n" +
+                "define stream DeleteStream (symbol string);\n" +
+                "define stream FooStream (symbol string);\n";
+
+        String table = "" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", table.name=\"StockTable\"," +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\", write.behind=\"true\", write.behind.flush.size=\"100\", " +
+                "write.behind.flush.interval=\"60000\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table MyTable (symbol string, price float, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "select symbol, price, volume " +
+                "insert into MyTable;\n" +
+                "@info(name = 'query2') " +
+                "from UpdateStream " +
+                "update MyTable " +
+                "set MyTable.price = price " +
+                "on MyTable.symbol == symbol;\n" +
+                "@info(name = 'query3') " +
+                "from DeleteStream " +
+                "delete MyTable " +
+                "on MyTable.symbol == symbol;\n" +
+                "@info(name = 'query4') " +
+                "from FooStream join MyTable " +
+                "on MyTable.symbol == FooStream.symbol " +
+                "select MyTable.symbol as symbol, MyTable.price as price " +
+                "insert into OutputStream;\n";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + table + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler updateStream = siddhiAppRuntime.getInputHandler("UpdateStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        List<Object[]> received = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query4", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        received.add(event.getData());
+                    }
+                }
+            }
+        });
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6F, 100L});
+        updateStream.send(new Object[]{"WSO2", 65.6F});
+        Assert.assertEquals(RDBMSTableTestUtils.getRowsInTable(TABLE_NAME), 0, "Writes were not buffered");
+        fooStream.send(new Object[]{"WSO2"});
+
+        Assert.assertEquals(received.size(), 1, "Read did not observe the buffered writes");
+        Assert.assertEquals(received.get(0), new Object[]{"WSO2", 65.6F});
+        Assert.assertEquals(RDBMSTableTestUtils.getRowsInTable(TABLE_NAME), 1, "Buffered writes were not flushed");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void insertIntoRDBMSTableTest11() throws InterruptedException, SQLException {
+        //Testing that a failing buffered write is dropped without dropping the writes around it
+        log.info("insertIntoRDBMSTableTest11");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long);\n" +
+                "define stream UpdateStream (symbol string, price float);\n" +
+                "define stream DeleteStream (symbol string);\n";
+
+        String table = "" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", table.name=\"StockTable\"," +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\", write.behind=\"true\", write.behind.flush.size=\"100\", " +
+                "write.behind.flush.interval=\"60000\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table MyTable (symbol string, price float, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "select symbol, price, volume " +
+                "insert into MyTable;\n" +
+                "@info(name = 'query2') " +
+                "from UpdateStream " +
+                "update MyTable " +
+                "set MyTable.price = price " +
+                "on MyTable.symbol == symbol;\n" +
+                "@info(name = 'query3') " +
+                "from DeleteStream " +
+                "delete MyTable " +
+                "on MyTable.symbol == symbol;\n";
+
+        AtomicInteger droppedWrites = new AtomicInteger(0);
+        LoggerAppender.setLoggerCallBack(new LoggerCallBack("Failed to write 1 buffered rows to store") {
+            @Override
+            public void receive(String logEventMessage) {
+                droppedWrites.incrementAndGet();
+            }
+        });
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + table + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler updateStream = siddhiAppRuntime.getInputHandler("UpdateStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6F, 100L});
+        updateStream.send(new Object[]{"WSO2", 65.6F});
+        //Violates the primary key, hence fails once written
+        stockStream.send(new Object[]{"WSO2", 75.6F, 200L});
+        updateStream.send(new Object[]{"WSO2", 85.6F});
+        Assert.assertEquals(RDBMSTableTestUtils.getRowsInTable(TABLE_NAME), 0, "Writes were not buffered");
+
+        Event[] events = siddhiAppRuntime.query("" +
+                "from MyTable " +
+                "select symbol, price, volume ");
+        LoggerAppender.setLoggerCallBack(null);
+        siddhiAppRuntime.shutdown();
+        Assert.assertEquals(droppedWrites.get(), 1, "Failing write was not isolated");
+        Assert.assertNotNull(events);
+        Assert.assertEquals(events.length, 1);
+        Assert.assertEquals(events[0].getData(), new Object[]{"WSO2", 85.6F, 100L});
+    }
+
+    @Test
+    public void insertIntoRDBMSTableTest12() throws ConnectionUnavailableException {
+        //Testing the buffer depth and flush latency reported by the write-behind buffer
+        log.info("insertIntoRDBMSTableTest12");
+        AtomicReference<RDBMSWriteBehindBuffer> buffer = new AtomicReference<>();
+        List<Long> depthsWhileWriting = new ArrayList<>();
+        buffer.set(new RDBMSWriteBehindBuffer(TABLE_NAME, new RDBMSWriteBehindBuffer.Writer() {
+            @Override
+            public void add(List<Object[]> records) {
+                depthsWhileWriting.add(buffer.get().getDepth());
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void update(CompiledCondition compiledCondition,
+                               List<Map<String, Object>> updateConditionParameterMaps,
+                               Map<String, CompiledExpression> updateSetExpressions,
+                               List<Map<String, Object>> updateSetParameterMaps) {
+            }
+
+            @Override
+            public void delete(List<Map<String, Object>> deleteConditionParameterMaps,
+                               CompiledCondition compiledCondition) {
+            }
+        }, null, 100, 100, 60000));
+
+        Assert.assertEquals(buffer.get().getDepth(), 0);
+        buffer.get().add(Arrays.asList(new Object[]{"WSO2", 55.6F, 100L}, new Object[]{"IBM", 57.6F, 80L}));
+        buffer.get().add(Collections.singletonList(new Object[]{"MSFT", 58.6F, 50L}));
+        Assert.assertEquals(buffer.get().getDepth(), 3, "Buffered rows were not counted");
+        Assert.assertEquals(buffer.get().getLastFlushLatency(), 0);
+
+        buffer.get().flush();
+        Assert.assertEquals(depthsWhileWriting, Collections.singletonList(3L), "Rows being written were not counted");
+        Assert.assertEquals(buffer.get().getDepth(), 0, "Written rows were still counted");
+        Assert.assertTrue(buffer.get().getLastFlushLatency() >= 50, "Flush latency was not recorded");
+    }
+
     private static void waitTillVariableCountMatches(long expected, Duration duration) {
         Awaitility.await().atMost(duration).until(() -> {
             return actualEventCount.get() == expected;
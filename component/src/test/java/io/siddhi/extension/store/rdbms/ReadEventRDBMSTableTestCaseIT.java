@@ -25,14 +25,31 @@ import io.siddhi.core.stream.input.InputHandler;
 import io.siddhi.core.util.EventPrinter;
 import io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils;
 import io.siddhi.query.compiler.exception.SiddhiParserException;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.log4j.Logger;
 import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils.TABLE_NAME;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils.driverClassName;
@@ -924,4 +941,629 @@ public class ReadEventRDBMSTableTestCaseIT {
         siddhiAppRuntime2.shutdown();
     }
 
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase12")
+    public void readEventRDBMSTableTestCase13() throws InterruptedException {
+        //Read events from a RDBMS table repeatedly through a single pooled connection
+        log.info("readEventRDBMSTableTestCase13");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (name string);\n" +
+                "define stream StockStream (itemId string, type string, volume long);\n" +
+                "define stream OutputStream (checkName string, checkCategory string, checkVolume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"itemId:100\", pool.properties=\"maximumPoolSize:1\")\n" +
+                "@PrimaryKey(\"itemId\")\n" +
+                "define table StockTable (itemId string, type string, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "select *\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "from FooStream#window.length(1) join StockTable on FooStream.name==StockTable.itemId \n" +
+                "select FooStream.name as checkName, StockTable.type as checkCategory, " +
+                "StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        switch (inEventCount) {
+                            case 1:
+                            case 3:
+                                Assert.assertEquals(event.getData(), new Object[]{"WSO2", "type1", 100L});
+                                break;
+                            case 2:
+                                Assert.assertEquals(event.getData(), new Object[]{"IBM", "type3", 10L});
+                                break;
+                            default:
+                                Assert.assertSame(3, inEventCount);
+                        }
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", "type1", 100L});
+        stockStream.send(new Object[]{"CSC", "type2", 10L});
+        stockStream.send(new Object[]{"IBM", "type3", 10L});
+        fooStream.send(new Object[]{"WSO2"});
+        fooStream.send(new Object[]{"IBM"});
+        fooStream.send(new Object[]{"WSO2"});
+
+        Thread.sleep(1000);
+
+        Assert.assertEquals(inEventCount, 3, "Number of success events");
+        Assert.assertEquals(eventArrived, true, "Event arrived");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase13")
+    public void readEventRDBMSTableTestCase14() throws InterruptedException {
+        //Read events from a RDBMS table through the primary key cache, with writes invalidating the cache
+        log.info("readEventRDBMSTableTestCase14");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (name string);\n" +
+                "define stream StockStream (itemId string, type string, volume long);\n" +
+                "define stream UpdateStream (itemId string, volume long);\n" +
+                "define stream OutputStream (checkName string, checkCategory string, checkVolume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"itemId:100\", pool.properties=\"maximumPoolSize:1\", " +
+                "primary.key.cache.size=\"10\")\n" +
+                "@PrimaryKey(\"itemId\")\n" +
+                "define table StockTable (itemId string, type string, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "select *\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "from FooStream#window.length(1) join StockTable on StockTable.itemId==FooStream.name \n" +
+                "select FooStream.name as checkName, StockTable.type as checkCategory, " +
+                "StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;\n" +
+                "@info(name = 'query3')\n" +
+                "from UpdateStream\n" +
+                "update StockTable\n" +
+                "set StockTable.volume = volume\n" +
+                "on StockTable.itemId == itemId;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler updateStream = siddhiAppRuntime.getInputHandler("UpdateStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        switch (inEventCount) {
+                            case 1:
+                            case 2:
+                                Assert.assertEquals(event.getData(), new Object[]{"WSO2", "type1", 100L});
+                                break;
+                            case 3:
+                                Assert.assertEquals(event.getData(), new Object[]{"WSO2", "type1", 200L});
+                                break;
+                            case 4:
+                                Assert.assertEquals(event.getData(), new Object[]{"IBM", "type3", 10L});
+                                break;
+                            default:
+                                Assert.assertSame(4, inEventCount);
+                        }
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", "type1", 100L});
+        fooStream.send(new Object[]{"WSO2"});
+        fooStream.send(new Object[]{"WSO2"});
+        updateStream.send(new Object[]{"WSO2", 200L});
+        fooStream.send(new Object[]{"WSO2"});
+        fooStream.send(new Object[]{"IBM"});
+        stockStream.send(new Object[]{"IBM", "type3", 10L});
+        fooStream.send(new Object[]{"IBM"});
+
+        Thread.sleep(1000);
+
+        Assert.assertEquals(inEventCount, 4, "Number of success events");
+        Assert.assertEquals(eventArrived, true, "Event arrived");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase14")
+    public void readEventRDBMSTableTestCase15() throws InterruptedException {
+        //Read events from a RDBMS table through the mirror, with writes applied to the mirror
+        log.info("readEventRDBMSTableTestCase15");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (name string);\n" +
+                "define stream StockStream (itemId string, type string, volume long);\n" +
+                "define stream UpdateStream (itemId string, volume long);\n" +
+                "define stream DeleteStream (itemId string);\n" +
+                "define stream OutputStream (checkName string, checkCategory string, checkVolume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"itemId:100\", pool.properties=\"maximumPoolSize:1\", mirror=\"true\")\n" +
+                "@PrimaryKey(\"itemId\")\n" +
+                "@Index(\"type\")\n" +
+                "define table StockTable (itemId string, type string, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "select *\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "from FooStream#window.length(1) join StockTable on StockTable.type==FooStream.name \n" +
+                "select StockTable.itemId as checkName, StockTable.type as checkCategory, " +
+                "StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;\n" +
+                "@info(name = 'query3')\n" +
+                "from UpdateStream\n" +
+                "update StockTable\n" +
+                "set StockTable.volume = volume\n" +
+                "on StockTable.itemId == itemId;\n" +
+                "@info(name = 'query4')\n" +
+                "from DeleteStream\n" +
+                "delete StockTable\n" +
+                "on StockTable.itemId == itemId;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler updateStream = siddhiAppRuntime.getInputHandler("UpdateStream");
+        InputHandler deleteStream = siddhiAppRuntime.getInputHandler("DeleteStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        switch (inEventCount) {
+                            case 1:
+                                Assert.assertEquals(event.getData(), new Object[]{"WSO2", "type1", 100L});
+                                break;
+                            case 2:
+                                Assert.assertEquals(event.getData(), new Object[]{"WSO2", "type1", 200L});
+                                break;
+                            case 3:
+                                Assert.assertEquals(event.getData(), new Object[]{"ORCL", "type2", 50L});
+                                break;
+                            default:
+                                Assert.assertSame(3, inEventCount);
+                        }
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", "type1", 100L});
+        stockStream.send(new Object[]{"IBM", "type2", 10L});
+        fooStream.send(new Object[]{"type1"});
+        updateStream.send(new Object[]{"WSO2", 200L});
+        fooStream.send(new Object[]{"type1"});
+        deleteStream.send(new Object[]{"IBM"});
+        fooStream.send(new Object[]{"type2"});
+        stockStream.send(new Object[]{"ORCL", "type2", 50L});
+        fooStream.send(new Object[]{"type2"});
+
+        Thread.sleep(1000);
+
+        Assert.assertEquals(inEventCount, 3, "Number of success events");
+        Assert.assertEquals(eventArrived, true, "Event arrived");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase15")
+    public void readEventRDBMSTableTestCase16() throws InterruptedException {
+        //Read events from a RDBMS table with a composite primary key through batched key lookups
+        log.info("readEventRDBMSTableTestCase16");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (name string, category string);\n" +
+                "define stream StockStream (itemId string, type string, volume long);\n" +
+                "define stream OutputStream (checkName string, checkCategory string, checkVolume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"itemId:100, type:100\", batch.lookup.size=\"8\")\n" +
+                "@PrimaryKey(\"itemId\", \"type\")\n" +
+                "define table StockTable (itemId string, type string, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "select *\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "from FooStream join StockTable " +
+                "on StockTable.itemId == FooStream.name and StockTable.type == FooStream.category\n" +
+                "select FooStream.name as checkName, StockTable.type as checkCategory, " +
+                "StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        switch (inEventCount) {
+                            case 1:
+                                Assert.assertEquals(event.getData(), new Object[]{"WSO2", "type1", 100L});
+                                break;
+                            case 2:
+                                Assert.assertEquals(event.getData(), new Object[]{"WSO2", "type2", 200L});
+                                break;
+                            default:
+                                Assert.assertSame(2, inEventCount);
+                        }
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", "type1", 100L});
+        stockStream.send(new Object[]{"WSO2", "type2", 200L});
+        fooStream.send(new Object[]{"WSO2", "type1"});
+        fooStream.send(new Object[]{"WSO2", "type3"});
+        fooStream.send(new Object[]{"WSO2", "type2"});
+
+        Thread.sleep(1000);
+
+        Assert.assertEquals(inEventCount, 2, "Number of success events");
+        Assert.assertEquals(eventArrived, true, "Event arrived");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase16")
+    public void readEventRDBMSTableTestCase17() throws InterruptedException, SQLException {
+        //Read events from a RDBMS table through a read replica, and from the primary database within the replica
+        //lag after a write
+        log.info("readEventRDBMSTableTestCase17");
+        if (RDBMSTableTestUtils.testDatabaseType != RDBMSTableTestUtils.TestType.H2) {
+            throw new SkipException("The read replica is emulated through a separate H2 database.");
+        }
+        String replicaUrl = "jdbc:h2:./target/testdb_replica";
+        try (Connection conn = DriverManager.getConnection(replicaUrl, user, password);
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS " + TABLE_NAME);
+            stmt.execute("CREATE TABLE " + TABLE_NAME + " (itemId VARCHAR(100) PRIMARY KEY, type VARCHAR(254), " +
+                    "volume BIGINT)");
+            stmt.execute("INSERT INTO " + TABLE_NAME + " VALUES ('WSO2', 'replica', 1)");
+        }
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (name string);\n" +
+                "define stream StockStream (itemId string, type string, volume long);\n" +
+                "define stream OutputStream (checkName string, checkCategory string, checkVolume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", read.jdbc.url=\"" + replicaUrl + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"itemId:100\", read.replica.lag=\"500\")\n" +
+                "@PrimaryKey(\"itemId\")\n" +
+                "define table StockTable (itemId string, type string, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "select *\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "from FooStream join StockTable on FooStream.name==StockTable.itemId \n" +
+                "select FooStream.name as checkName, StockTable.type as checkCategory, " +
+                "StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        List<Object[]> received = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        received.add(event.getData());
+                    }
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+        try {
+            //Served by the replica, as no write has been made through the table
+            fooStream.send(new Object[]{"WSO2"});
+            //Served by the primary database, as the write is within the replica lag
+            stockStream.send(new Object[]{"WSO2", "type1", 100L});
+            fooStream.send(new Object[]{"WSO2"});
+            Thread.sleep(1000);
+            //Served by the replica again, as the replica lag has passed since the write
+            fooStream.send(new Object[]{"WSO2"});
+            Thread.sleep(500);
+
+            Assert.assertEquals(received.size(), 3, "Number of success events");
+            Assert.assertEquals(received.get(0), new Object[]{"WSO2", "replica", 1L}, "Read before the write");
+            Assert.assertEquals(received.get(1), new Object[]{"WSO2", "type1", 100L}, "Read within the replica lag");
+            Assert.assertEquals(received.get(2), new Object[]{"WSO2", "replica", 1L}, "Read after the replica lag");
+        } finally {
+            siddhiAppRuntime.shutdown();
+        }
+    }
+
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase17")
+    public void readEventRDBMSTableTestCase18() throws InterruptedException {
+        //Read events from a RDBMS table through batched key lookups issued from concurrent threads
+        log.info("readEventRDBMSTableTestCase18");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (name string);\n" +
+                "define stream StockStream (itemId string, type string, volume long);\n" +
+                "define stream OutputStream (checkName string, checkCategory string, checkVolume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"itemId:100\", batch.lookup.size=\"8\", batch.lookup.concurrency=\"2\")\n" +
+                "@PrimaryKey(\"itemId\")\n" +
+                "define table StockTable (itemId string, type string, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "select *\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "@synchronized('false')\n" +
+                "from FooStream join StockTable on FooStream.name == StockTable.itemId\n" +
+                "select FooStream.name as checkName, StockTable.type as checkCategory, " +
+                "StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        Map<String, Object[]> results = new ConcurrentHashMap<>();
+        AtomicInteger resultCount = new AtomicInteger(0);
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        resultCount.incrementAndGet();
+                        results.put((String) event.getData(0), event.getData());
+                    }
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        int keyCount = 64;
+        for (int i = 0; i < keyCount; i += 2) {
+            stockStream.send(new Object[]{"ITEM" + i, "type" + i, (long) i});
+        }
+        List<Object[]> lookups = new ArrayList<>();
+        for (int i = 0; i < keyCount; i++) {
+            lookups.add(new Object[]{"ITEM" + i});
+        }
+        sendConcurrently(fooStream, lookups, 8);
+
+        Assert.assertEquals(resultCount.get(), keyCount / 2, "Number of success events");
+        for (int i = 0; i < keyCount; i += 2) {
+            Assert.assertEquals(results.get("ITEM" + i), new Object[]{"ITEM" + i, "type" + i, (long) i});
+        }
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase18")
+    public void readEventRDBMSTableTestCase19() throws InterruptedException {
+        //Read events from a RDBMS table with a composite primary key through batched key lookups issued from
+        //concurrent threads
+        log.info("readEventRDBMSTableTestCase19");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (name string, category string);\n" +
+                "define stream StockStream (itemId string, type string, volume long);\n" +
+                "define stream OutputStream (checkName string, checkCategory string, checkVolume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"itemId:100, type:100\", batch.lookup.size=\"8\")\n" +
+                "@PrimaryKey(\"itemId\", \"type\")\n" +
+                "define table StockTable (itemId string, type string, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from StockStream\n" +
+                "select *\n" +
+                "insert into StockTable;\n" +
+                "@info(name = 'query2')\n" +
+                "@synchronized('false')\n" +
+                "from FooStream join StockTable " +
+                "on StockTable.itemId == FooStream.name and StockTable.type == FooStream.category\n" +
+                "select FooStream.name as checkName, StockTable.type as checkCategory, " +
+                "StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        Map<String, Object[]> results = new ConcurrentHashMap<>();
+        AtomicInteger resultCount = new AtomicInteger(0);
+        siddhiAppRuntime.addCallback("query2", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        resultCount.incrementAndGet();
+                        results.put(event.getData(0) + ":" + event.getData(1), event.getData());
+                    }
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+
+        int keyCount = 32;
+        for (int i = 0; i < keyCount; i++) {
+            stockStream.send(new Object[]{"ITEM" + i, "type1", (long) i});
+            stockStream.send(new Object[]{"ITEM" + i, "type2", i + 100L});
+        }
+        List<Object[]> lookups = new ArrayList<>();
+        for (int i = 0; i < keyCount; i++) {
+            lookups.add(new Object[]{"ITEM" + i, "type" + (1 + i % 3)});
+        }
+        sendConcurrently(fooStream, lookups, 8);
+
+        int expectedCount = 0;
+        for (int i = 0; i < keyCount; i++) {
+            switch (i % 3) {
+                case 0:
+                    expectedCount++;
+                    Assert.assertEquals(results.get("ITEM" + i + ":type1"),
+                            new Object[]{"ITEM" + i, "type1", (long) i});
+                    break;
+                case 1:
+                    expectedCount++;
+                    Assert.assertEquals(results.get("ITEM" + i + ":type2"),
+                            new Object[]{"ITEM" + i, "type2", i + 100L});
+                    break;
+                default:
+                    Assert.assertNull(results.get("ITEM" + i + ":type3"));
+            }
+        }
+        Assert.assertEquals(resultCount.get(), expectedCount, "Number of success events");
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(dependsOnMethods = "readEventRDBMSTableTestCase19")
+    public void readEventRDBMSTableTestCase20() throws InterruptedException, SQLException {
+        //Read events through the primary key cache from an existing RDBMS table, which has a column that is not
+        //part of the table definition
+        log.info("readEventRDBMSTableTestCase20");
+        boolean isH2 = RDBMSTableTestUtils.testDatabaseType == RDBMSTableTestUtils.TestType.H2;
+        RDBMSTableTestUtils.executeUpdate("CREATE TABLE " + TABLE_NAME + " (notes VARCHAR(4000), " +
+                "itemId VARCHAR(100) NOT NULL, type VARCHAR(100), volume NUMERIC(19), PRIMARY KEY (itemId))");
+        RDBMSTableTestUtils.executeUpdate("INSERT INTO " + TABLE_NAME + " (notes, itemId, type, volume) " +
+                "VALUES (?, ?, ?, ?)", StringUtils.repeat("x", 4000), "WSO2", "type1", 100L);
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream FooStream (name string);\n" +
+                "define stream OutputStream (checkName string, checkCategory string, checkVolume long);\n" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"itemId:100\", primary.key.cache.size=\"10\")\n" +
+                "@PrimaryKey(\"itemId\")\n" +
+                "define table StockTable (itemId string, type string, volume long);\n";
+
+        String query = "" +
+                "@info(name = 'query1')\n" +
+                "from FooStream join StockTable on FooStream.name == StockTable.itemId\n" +
+                "select FooStream.name as checkName, StockTable.type as checkCategory, " +
+                "StockTable.volume as checkVolume\n" +
+                "insert into OutputStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        InputHandler fooStream = siddhiAppRuntime.getInputHandler("FooStream");
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        Assert.assertEquals(event.getData(), new Object[]{"WSO2", "type1", 100L});
+                    }
+                    eventArrived = true;
+                }
+            }
+        });
+
+        siddhiAppRuntime.start();
+        if (isH2) {
+            RDBMSTableTestUtils.executeUpdate("SET QUERY_STATISTICS TRUE");
+        }
+        try {
+            fooStream.send(new Object[]{"WSO2"});
+            fooStream.send(new Object[]{"IBM"});
+            Thread.sleep(500);
+            if (isH2) {
+                //The record select query lists the defined columns, hence the extra column is not transferred
+                List<String> selects = new ArrayList<>();
+                for (String executedQuery : RDBMSTableTestUtils.getExecutedQueries(TABLE_NAME)) {
+                    if (executedQuery.toUpperCase().startsWith("SELECT")) {
+                        selects.add(executedQuery.toUpperCase());
+                    }
+                }
+                Assert.assertFalse(selects.isEmpty(), "No reads of the table were recorded");
+                for (String select : selects) {
+                    Assert.assertTrue(select.contains("ITEMID"), select);
+                    Assert.assertFalse(select.contains("NOTES"), select);
+                    Assert.assertFalse(select.contains("*"), select);
+                }
+            }
+        } finally {
+            if (isH2) {
+                RDBMSTableTestUtils.executeUpdate("SET QUERY_STATISTICS FALSE");
+            }
+        }
+
+        Assert.assertEquals(inEventCount, 1, "Number of success events");
+        Assert.assertEquals(eventArrived, true, "Event arrived");
+        siddhiAppRuntime.shutdown();
+    }
+
+    private static void sendConcurrently(InputHandler inputHandler, List<Object[]> events, int threadCount)
+            throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Object[] event : events) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                inputHandler.send(event);
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } catch (ExecutionException | TimeoutException e) {
+            Assert.fail("Failed to send events concurrently", e);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
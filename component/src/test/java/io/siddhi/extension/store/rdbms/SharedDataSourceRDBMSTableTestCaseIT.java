@@ -0,0 +1,294 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.siddhi.extension.store.rdbms;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.CannotLoadConfigurationException;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import io.siddhi.extension.store.rdbms.util.RDBMSDataSourceRegistry;
+import io.siddhi.extension.store.rdbms.util.RDBMSDialect;
+import io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils;
+import io.siddhi.extension.store.rdbms.util.RDBMSTableUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableConstants.DATABASE_PRODUCT_NAME;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils.TABLE_NAME;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils.driverClassName;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils.password;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils.url;
+import static io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils.user;
+
+public class SharedDataSourceRDBMSTableTestCaseIT {
+    private static final Log log = LogFactory.getLog(SharedDataSourceRDBMSTableTestCaseIT.class);
+
+    @BeforeClass
+    public static void startTest() {
+        log.info("== RDBMS Table shared data source tests started ==");
+    }
+
+    @AfterClass
+    public static void shutdown() {
+        log.info("== RDBMS Table shared data source tests completed ==");
+    }
+
+    @BeforeMethod
+    public void init() {
+        try {
+            RDBMSTableTestUtils.initDatabaseTable(TABLE_NAME);
+        } catch (SQLException e) {
+            log.info("Test case ignored due to " + e.getMessage());
+        }
+    }
+
+    private static Properties connectionProperties(String poolName) {
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("jdbcUrl", url);
+        connectionProperties.setProperty("dataSource.user", user);
+        connectionProperties.setProperty("dataSource.password", password);
+        connectionProperties.setProperty("driverClassName", driverClassName);
+        connectionProperties.setProperty("poolName", poolName);
+        connectionProperties.setProperty("maximumPoolSize", "1");
+        return connectionProperties;
+    }
+
+    @Test
+    public void sharedDataSourceTest1() {
+        //Testing that a pool is shared and closed once the last holder releases it
+        log.info("sharedDataSourceTest1");
+        HikariDataSource first = RDBMSDataSourceRegistry.acquire(connectionProperties("sharedDataSourceTest1"));
+        HikariDataSource second = RDBMSDataSourceRegistry.acquire(connectionProperties("sharedDataSourceTest1"));
+        try {
+            Assert.assertSame(second, first, "Pool shared");
+            HikariDataSource other = RDBMSDataSourceRegistry.acquire(connectionProperties("sharedDataSourceTest1b"));
+            try {
+                Assert.assertNotSame(other, first, "Pool of other properties shared");
+            } finally {
+                RDBMSDataSourceRegistry.release(other);
+            }
+            Assert.assertTrue(other.isClosed(), "Pool of other properties closed");
+
+            RDBMSDataSourceRegistry.release(second);
+            Assert.assertFalse(first.isClosed(), "Pool closed while held");
+        } finally {
+            RDBMSDataSourceRegistry.release(first);
+        }
+        Assert.assertTrue(first.isClosed(), "Pool closed once released");
+        //Releasing again does not affect the pool created next
+        RDBMSDataSourceRegistry.release(first);
+        HikariDataSource third = RDBMSDataSourceRegistry.acquire(connectionProperties("sharedDataSourceTest1"));
+        try {
+            Assert.assertNotSame(third, first, "Closed pool handed out");
+            Assert.assertFalse(third.isClosed(), "New pool closed");
+        } finally {
+            RDBMSDataSourceRegistry.release(third);
+        }
+        Assert.assertTrue(third.isClosed(), "New pool closed once released");
+    }
+
+    @Test(dependsOnMethods = "sharedDataSourceTest1")
+    public void sharedDataSourceTest2() throws Exception {
+        //Testing that a pool acquired from several threads at once is created once and reference counted
+        log.info("sharedDataSourceTest2");
+        int threads = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<HikariDataSource>> futures = new ArrayList<>();
+        List<HikariDataSource> dataSources = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    return RDBMSDataSourceRegistry.acquire(connectionProperties("sharedDataSourceTest2"));
+                }));
+            }
+            start.countDown();
+            for (Future<HikariDataSource> future : futures) {
+                dataSources.add(future.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        HikariDataSource dataSource = dataSources.get(0);
+        Assert.assertEquals(Collections.frequency(dataSources, dataSource), threads, "Pool shared by all threads");
+        for (int i = 1; i < threads; i++) {
+            RDBMSDataSourceRegistry.release(dataSources.get(i));
+            Assert.assertFalse(dataSource.isClosed(), "Pool closed while held");
+        }
+        RDBMSDataSourceRegistry.release(dataSource);
+        Assert.assertTrue(dataSource.isClosed(), "Pool closed once released");
+    }
+
+    @Test(dependsOnMethods = "sharedDataSourceTest2")
+    public void sharedDataSourceTest3() throws InterruptedException, SQLException {
+        //Testing that shutting down one of two apps sharing a pool leaves it open for the other
+        log.info("sharedDataSourceTest3");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String app = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", pool.properties=\"maximumPoolSize:1\")\n" +
+                "define table StockTable (symbol string, price float, volume long); " +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "insert into StockTable ;";
+
+        SiddhiAppRuntime firstRuntime = siddhiManager.createSiddhiAppRuntime("@app:name('first') " + app);
+        SiddhiAppRuntime secondRuntime = siddhiManager.createSiddhiAppRuntime("@app:name('second') " + app);
+        firstRuntime.start();
+        secondRuntime.start();
+        try {
+            firstRuntime.getInputHandler("StockStream").send(new Object[]{"WSO2", 55.6F, 100L});
+            firstRuntime.shutdown();
+
+            InputHandler stockStream = secondRuntime.getInputHandler("StockStream");
+            stockStream.send(new Object[]{"IBM", 75.6F, 100L});
+            Event[] events = secondRuntime.query("from StockTable select symbol");
+            Assert.assertNotNull(events, "Table read after the other app shut down");
+            Assert.assertEquals(events.length, 2, "Number of records");
+            Assert.assertEquals(RDBMSTableTestUtils.getRowsInTable(TABLE_NAME), 2, "Definition/Insertion failed");
+        } finally {
+            firstRuntime.shutdown();
+            secondRuntime.shutdown();
+        }
+    }
+
+    @Test(dependsOnMethods = "sharedDataSourceTest3")
+    public void sharedDataSourceTest4() throws CannotLoadConfigurationException {
+        //Testing that the dialect of a pool is resolved once for each set of configurations
+        log.info("sharedDataSourceTest4");
+        Map<String, String> configs = new HashMap<>();
+        configs.put("store.rdbms.h2.batchSize", "250");
+        ConfigReader defaultReader = new InMemoryConfigManager(null, null).generateConfigReader("store", "rdbms");
+        ConfigReader reader = new InMemoryConfigManager(configs, null).generateConfigReader("store", "rdbms");
+        ConfigReader sameReader = new InMemoryConfigManager(new HashMap<>(configs), null)
+                .generateConfigReader("store", "rdbms");
+        HikariDataSource dataSource = RDBMSDataSourceRegistry.acquire(connectionProperties("sharedDataSourceTest4"));
+        try {
+            RDBMSDialect dialect = RDBMSTableUtils.lookupDialect(dataSource, reader);
+            Assert.assertSame(RDBMSTableUtils.lookupDialect(dataSource, sameReader), dialect, "Dialect shared");
+            Assert.assertEquals(dialect.getBatchSize(), 250, "Batch size override");
+            RDBMSDialect defaultDialect = RDBMSTableUtils.lookupDialect(dataSource, defaultReader);
+            Assert.assertNotSame(defaultDialect, dialect, "Dialect of other configurations shared");
+            Assert.assertEquals(defaultDialect.getBatchSize(),
+                    defaultDialect.getQueryConfigurationEntry().getBatchSize(), "Default batch size");
+            Assert.assertTrue(dialect.getSelectQueryTemplate().getSelectClause().contains("{{TABLE_NAME}}"),
+                    "Table name resolved in the shared template");
+        } finally {
+            RDBMSDataSourceRegistry.release(dataSource);
+        }
+    }
+
+    @Test(dependsOnMethods = "sharedDataSourceTest4")
+    public void sharedDataSourceTest5() throws Exception {
+        //Testing that the metadata lookup of a pool neither blocks that of another pool nor retains a failure
+        log.info("sharedDataSourceTest5");
+        HikariDataSource dataSource = RDBMSDataSourceRegistry.acquire(connectionProperties("sharedDataSourceTest5"));
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch lookupReleased = new CountDownLatch(1);
+        AtomicInteger failingAttempts = new AtomicInteger();
+        DataSource blockingDataSource = delegate(dataSource, () -> {
+            lookupStarted.countDown();
+            lookupReleased.await();
+        });
+        DataSource failingDataSource = delegate(dataSource, () -> {
+            if (failingAttempts.getAndIncrement() == 0) {
+                throw new SQLException("Database unavailable");
+            }
+        });
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Map<String, Object>> blockedLookup =
+                    executorService.submit(() -> RDBMSTableUtils.lookupDatabaseInfo(blockingDataSource));
+            Assert.assertTrue(lookupStarted.await(5, TimeUnit.SECONDS), "Lookup started");
+            Future<Map<String, Object>> failedLookup =
+                    executorService.submit(() -> RDBMSTableUtils.lookupDatabaseInfo(failingDataSource));
+            try {
+                failedLookup.get(5, TimeUnit.SECONDS);
+                Assert.fail("Lookup succeeded while the database is unavailable");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause().getMessage().contains("Database unavailable"),
+                        "Lookup failure: " + e.getCause().getMessage());
+            }
+            Map<String, Object> databaseInfo = executorService
+                    .submit(() -> RDBMSTableUtils.lookupDatabaseInfo(failingDataSource)).get(5, TimeUnit.SECONDS);
+            Assert.assertNotNull(databaseInfo.get(DATABASE_PRODUCT_NAME), "Lookup retried after the failure");
+            Assert.assertSame(RDBMSTableUtils.lookupDatabaseInfo(failingDataSource), databaseInfo,
+                    "Lookup retained after it succeeded");
+            Assert.assertEquals(failingAttempts.get(), 2, "Connections checked out for the lookups");
+            Assert.assertFalse(blockedLookup.isDone(), "Lookup of the blocked pool completed");
+            lookupReleased.countDown();
+            Assert.assertEquals(blockedLookup.get(5, TimeUnit.SECONDS).get(DATABASE_PRODUCT_NAME),
+                    databaseInfo.get(DATABASE_PRODUCT_NAME), "Lookup of the blocked pool");
+        } finally {
+            lookupReleased.countDown();
+            executorService.shutdownNow();
+            RDBMSDataSourceRegistry.release(dataSource);
+        }
+    }
+
+    /**
+     * Wraps a datasource so that the given action runs before each connection is checked out of it.
+     */
+    private static DataSource delegate(DataSource dataSource, ConnectionAction beforeConnect) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class[]{DataSource.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getConnection")) {
+                        beforeConnect.run();
+                    }
+                    try {
+                        return method.invoke(dataSource, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private interface ConnectionAction {
+        void run() throws SQLException, InterruptedException;
+    }
+}
@@ -1431,6 +1431,91 @@ public class UpdateOrInsertRDBMSTableTestCaseIT {
         siddhiAppRuntime.shutdown();
     }
 
+    @Test
+    public void updateOrInsertTableTest21() throws InterruptedException, SQLException {
+        log.info("updateOrInsertTableTest21");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long); " +
+                "define stream CheckStockStream (symbol string); " +
+                "define stream UpdateStockStream (symbol string, price float, volume long); " +
+                "define stream RenameStockStream (symbol string, newSymbol string); " +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName +
+                "\", field.length=\"symbol:100\", pool.properties=\"maximumPoolSize:1\", " +
+                "bloom.filter.size=\"100\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table StockTable (symbol string, price float, volume long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "insert into StockTable ;" +
+                "" +
+                "@info(name = 'query2') " +
+                "from UpdateStockStream " +
+                "update or insert into StockTable " +
+                "   on StockTable.symbol==symbol;" +
+                "" +
+                "@info(name = 'query3') " +
+                "from RenameStockStream " +
+                "update StockTable " +
+                "   set StockTable.symbol = newSymbol " +
+                "   on StockTable.symbol==symbol;" +
+                "" +
+                "@info(name = 'query4') " +
+                "from CheckStockStream[(symbol==StockTable.symbol) in StockTable] " +
+                "insert into OutStream;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+        siddhiAppRuntime.addCallback("query4", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        inEventCount++;
+                        switch (inEventCount) {
+                            case 1:
+                                AssertJUnit.assertArrayEquals(new Object[]{"WSO2"}, event.getData());
+                                break;
+                            case 2:
+                                AssertJUnit.assertArrayEquals(new Object[]{"GOOG"}, event.getData());
+                                break;
+                            case 3:
+                                AssertJUnit.assertArrayEquals(new Object[]{"MSFT"}, event.getData());
+                                break;
+                            default:
+                                AssertJUnit.assertSame(3, inEventCount);
+                        }
+                    }
+                    eventArrived = true;
+                }
+            }
+
+        });
+
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+        InputHandler checkStockStream = siddhiAppRuntime.getInputHandler("CheckStockStream");
+        InputHandler updateStockStream = siddhiAppRuntime.getInputHandler("UpdateStockStream");
+        InputHandler renameStockStream = siddhiAppRuntime.getInputHandler("RenameStockStream");
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6F, 100L});
+        stockStream.send(new Object[]{"IBM", 55.6F, 100L});
+        checkStockStream.send(new Object[]{"WSO2"});
+        checkStockStream.send(new Object[]{"ORCL"});
+        updateStockStream.send(new Object[]{"GOOG", 77.6F, 200L});
+        checkStockStream.send(new Object[]{"GOOG"});
+        renameStockStream.send(new Object[]{"IBM", "MSFT"});
+        checkStockStream.send(new Object[]{"MSFT"});
+        checkStockStream.send(new Object[]{"IBM"});
+        Thread.sleep(500);
+
+        AssertJUnit.assertEquals("Number of success events", 3, inEventCount);
+        AssertJUnit.assertEquals("Event arrived", true, eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
     private static void waitTillVariableCountMatches(long expected, Duration duration) {
         Awaitility.await().atMost(duration).until(() -> {
             return actualEventCount.get() == expected;
@@ -25,6 +25,9 @@ import io.siddhi.core.query.output.callback.QueryCallback;
 import io.siddhi.core.stream.input.InputHandler;
 import io.siddhi.core.util.EventPrinter;
 import io.siddhi.core.util.SiddhiTestHelper;
+import io.siddhi.core.util.config.InMemoryConfigManager;
+import io.siddhi.extension.store.rdbms.util.LoggerAppender;
+import io.siddhi.extension.store.rdbms.util.LoggerCallBack;
 import io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils;
 import org.apache.log4j.Logger;
 import org.testng.Assert;
@@ -35,7 +38,10 @@ import org.testng.annotations.Test;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils.driverClassName;
@@ -1414,4 +1420,127 @@ public class SelectOptimisationAggregationTestCaseIT {
         siddhiAppRuntime.shutdown();
     }
 
+    @Test(dependsOnMethods = {"aggregationFunctionTestcase15"})
+    public void aggregationFunctionTestcase16() throws InterruptedException, SQLException {
+        LOG.info("aggregationFunctionTestcase16 - last() computed through the 'last.window' function");
+        RDBMSTableTestUtils.initDatabaseTable("stockAggregation_HOURS");
+        boolean isH2 = RDBMSTableTestUtils.testDatabaseType == RDBMSTableTestUtils.TestType.H2;
+        // H2 1.4.197 has no window functions, hence the last name of each symbol is looked up by a sub-query, which
+        // discards the rest of the name of every other row. The partition goes into a comment, as each argument
+        // has to be used in order.
+        Map<String, String> extensionConfigs = new HashMap<>();
+        extensionConfigs.put("store.rdbms.h2.functionTemplates.last.window", "SUBSTRING({{0}}, 1 /* {{1}} */, " +
+                "CASE WHEN {{2}} = (SELECT MAX(L.AGG_EVENT_TIMESTAMP) FROM stockAggregation_SECONDS L WHERE " +
+                "L.symbol = stockAggregation_SECONDS.symbol) THEN 254 END)");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(extensionConfigs, null));
+
+        String stockStream =
+                "define stream stockStream (symbol string, name string, price float, lastClosingPrice float, " +
+                        "volume long , quantity int, timestamp long);";
+
+        String query =
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", username=\"" + user + "\", password=\"" + password +
+                "\",jdbc.driver.name=\"" + driverClassName + "\")\n" +
+                "@purge(enable='false')" +
+                " define aggregation stockAggregation " +
+                "from stockStream " +
+                "select symbol, name, sum(price) as totalPrice  " +
+                "group by symbol, name " +
+                "aggregate by timestamp every sec...hour ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(stockStream + query);
+
+        InputHandler stockStreamInputHandler = siddhiAppRuntime.getInputHandler("stockStream");
+        siddhiAppRuntime.start();
+
+        // 1 June 2017 04:05:50
+        stockStreamInputHandler.send(new Object[]{"WSO2", "WSO22", 50f, 60f, 90L, 6, 1496289950000L});
+        stockStreamInputHandler.send(new Object[]{"IBM", "IBM1", 70f, null, 40L, 10, 1496289950000L});
+
+        // 1 June 2017 04:05:52
+        stockStreamInputHandler.send(new Object[]{"WSO2", "WSO21", 60f, 44f, 200L, 56, 1496289952500L});
+        stockStreamInputHandler.send(new Object[]{"IBM", "IBM2", 100f, null, 200L, 16, 1496289952000L});
+
+        // 1 June 2017 04:05:54
+        stockStreamInputHandler.send(new Object[]{"IBM", "IBM1", 100f, null, 200L, 26, 1496289954000L});
+
+        // 1 June 2017 04:05:56
+        stockStreamInputHandler.send(new Object[]{"CISCO", "CISCO1", 10f, null, 200L, 96, 1496289956000L});
+
+        Thread.sleep(2000);
+
+        if (isH2) {
+            RDBMSTableTestUtils.executeUpdate("SET QUERY_STATISTICS TRUE");
+        }
+        try {
+            Event[] events = siddhiAppRuntime.query(
+                    "from stockAggregation " +
+                    "within \"2017-06-** **:**:**\" " +
+                    "per \"seconds\" " +
+                    "select symbol, name, sum(totalPrice) as totalPrice " +
+                    "group by symbol;");
+            EventPrinter.print(events);
+
+            Assert.assertNotNull(events);
+            AssertJUnit.assertEquals(3, events.length);
+
+            List<Object[]> eventsOutputList = new ArrayList<>();
+            for (Event event : events) {
+                eventsOutputList.add(event.getData());
+            }
+            //The name of the latest event of each symbol, rather than the greatest name
+            List<Object[]> expected = Arrays.asList(
+                    new Object[]{"WSO2", "WSO21", 110.0},
+                    new Object[]{"IBM", "IBM1", 270.0},
+                    new Object[]{"CISCO", "CISCO1", 10.0}
+            );
+            AssertJUnit.assertTrue("In events matched",
+                    SiddhiTestHelper.isUnsortedEventsMatch(eventsOutputList, expected));
+            if (isH2) {
+                boolean isReadThroughWindow = false;
+                for (String executedQuery : RDBMSTableTestUtils.getExecutedQueries("stockAggregation_SECONDS")) {
+                    isReadThroughWindow |= executedQuery.toUpperCase().contains("LAST_VALUE_");
+                }
+                AssertJUnit.assertTrue("last() read through the derived table", isReadThroughWindow);
+            }
+        } finally {
+            if (isH2) {
+                RDBMSTableTestUtils.executeUpdate("SET QUERY_STATISTICS FALSE");
+            }
+            siddhiAppRuntime.shutdown();
+        }
+    }
+
+    @Test(dependsOnMethods = {"aggregationFunctionTestcase16"})
+    public void aggregationFunctionTestcase17() throws InterruptedException {
+        LOG.info("aggregationFunctionTestcase17 - function template using its arguments out of order is rejected");
+        Map<String, String> extensionConfigs = new HashMap<>();
+        extensionConfigs.put("store.rdbms.h2.functionTemplates.last.window", "CASE WHEN {{2}} IS NOT NULL THEN {{0}} " +
+                "END");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(extensionConfigs, null));
+
+        String streams = "" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", username=\"" + user + "\", password=\"" +
+                password + "\",jdbc.driver.name=\"" + driverClassName + "\")\n" +
+                "define table StockTable (symbol string, price float, volume long); ";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams);
+        AtomicBoolean isConnectionFailed = new AtomicBoolean(false);
+        LoggerAppender.setLoggerCallBack(new LoggerCallBack("Failed to initialize store for table name 'StockTable'") {
+            @Override
+            public void receive(String logEventMessage) {
+                isConnectionFailed.set(true);
+            }
+        });
+        try {
+            siddhiAppRuntime.start();
+            Thread.sleep(1000);
+            Assert.assertTrue(isConnectionFailed.get(), "Table connected with an out of order function template");
+        } finally {
+            LoggerAppender.setLoggerCallBack(null);
+            siddhiAppRuntime.shutdown();
+        }
+    }
 }
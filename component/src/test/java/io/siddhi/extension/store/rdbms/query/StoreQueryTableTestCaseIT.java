@@ -37,6 +37,10 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils.TABLE_NAME;
 import static io.siddhi.extension.store.rdbms.util.RDBMSTableTestUtils.driverClassName;
@@ -1006,4 +1010,262 @@ public class StoreQueryTableTestCaseIT {
         AssertJUnit.assertEquals(57.6f, events[1].getData()[1]);
     }
 
+    @Test
+    public void test23() throws InterruptedException {
+        log.info("Test23 table with fetch size");
+
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long);" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName
+                + "\", field.length=\"symbol:100\", pool.properties=\"maximumPoolSize:1\", fetch.size=\"1\")\n" +
+                "define table StockTable (symbol string, price float, volume long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "insert into StockTable ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6f, 100L});
+        stockStream.send(new Object[]{"IBM", 75.6f, 100L});
+        stockStream.send(new Object[]{"WSO3", 57.6f, 100L});
+        Thread.sleep(500);
+
+        Event[] events = siddhiAppRuntime.query("" +
+                "from StockTable " +
+                "select symbol, price " +
+                "order by price ");
+        EventPrinter.print(events);
+        AssertJUnit.assertEquals(3, events.length);
+        AssertJUnit.assertEquals("WSO2", events[0].getData()[0]);
+        AssertJUnit.assertEquals("IBM", events[2].getData()[0]);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void test24() throws InterruptedException {
+        log.info("Test24 table with query result cache");
+
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long);" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName
+                + "\", field.length=\"symbol:100\", pool.properties=\"maximumPoolSize:1\", " +
+                "query.cache.expiry.time=\"60000\")\n" +
+                "define table StockTable (symbol string, price float, volume long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "insert into StockTable ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6f, 100L});
+        stockStream.send(new Object[]{"IBM", 75.6f, 100L});
+        stockStream.send(new Object[]{"WSO2", 57.6f, 100L});
+        Thread.sleep(500);
+
+        String storeQuery = "" +
+                "from StockTable " +
+                "on volume > 10 " +
+                "select symbol, sum(volume) as totalVolume " +
+                "group by symbol " +
+                "having symbol == 'WSO2'";
+        Event[] events = siddhiAppRuntime.query(storeQuery);
+        EventPrinter.print(events);
+        AssertJUnit.assertEquals(1, events.length);
+        AssertJUnit.assertEquals(200L, events[0].getData()[1]);
+
+        events = siddhiAppRuntime.query(storeQuery);
+        EventPrinter.print(events);
+        AssertJUnit.assertEquals(1, events.length);
+        AssertJUnit.assertEquals(200L, events[0].getData()[1]);
+
+        stockStream.send(new Object[]{"WSO2", 58.6f, 100L});
+        Thread.sleep(500);
+
+        events = siddhiAppRuntime.query(storeQuery);
+        EventPrinter.print(events);
+        AssertJUnit.assertEquals(1, events.length);
+        AssertJUnit.assertEquals(300L, events[0].getData()[1]);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void test25() throws InterruptedException {
+        log.info("Test25 table with keyset pagination");
+
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long);" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName
+                + "\", field.length=\"symbol:100\", pool.properties=\"maximumPoolSize:1\", " +
+                "keyset.pagination=\"true\")\n" +
+                "@PrimaryKey(\"symbol\")" +
+                "define table StockTable (symbol string, price float, volume long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "insert into StockTable ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6f, 100L});
+        stockStream.send(new Object[]{"IBM", 75.6f, 100L});
+        stockStream.send(new Object[]{"GOOG", 57.6f, 100L});
+        stockStream.send(new Object[]{"ORCL", 45.6f, 100L});
+        stockStream.send(new Object[]{"MSFT", 65.6f, 100L});
+        Thread.sleep(500);
+
+        Event[] events = siddhiAppRuntime.query("" +
+                "from StockTable " +
+                "on volume > 10 " +
+                "select symbol, price " +
+                "order by symbol desc " +
+                "limit 2 ");
+        EventPrinter.print(events);
+        AssertJUnit.assertEquals(2, events.length);
+        AssertJUnit.assertEquals("WSO2", events[0].getData()[0]);
+        AssertJUnit.assertEquals("ORCL", events[1].getData()[0]);
+
+        events = siddhiAppRuntime.query("" +
+                "from StockTable " +
+                "on volume > 10 " +
+                "select symbol, price " +
+                "order by symbol desc " +
+                "limit 2 " +
+                "offset 2 ");
+        EventPrinter.print(events);
+        AssertJUnit.assertEquals(2, events.length);
+        AssertJUnit.assertEquals("MSFT", events[0].getData()[0]);
+        AssertJUnit.assertEquals("IBM", events[1].getData()[0]);
+
+        events = siddhiAppRuntime.query("" +
+                "from StockTable " +
+                "on volume > 10 " +
+                "select symbol, price " +
+                "order by symbol desc " +
+                "limit 2 " +
+                "offset 4 ");
+        EventPrinter.print(events);
+        AssertJUnit.assertEquals(1, events.length);
+        AssertJUnit.assertEquals("GOOG", events[0].getData()[0]);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void test26() throws InterruptedException {
+        log.info("Test26 table with functions pushed down to the database");
+
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long);" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName
+                + "\", field.length=\"symbol:100\", pool.properties=\"maximumPoolSize:1\")\n" +
+                "define table StockTable (symbol string, price float, volume long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "insert into StockTable ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6f, 100L});
+        stockStream.send(new Object[]{"IBM", 75.6f, 200L});
+        stockStream.send(new Object[]{"WSO2", 57.6f, 100L});
+        stockStream.send(new Object[]{"WSO2", 57.6f, 300L});
+        Thread.sleep(500);
+
+        Event[] events = siddhiAppRuntime.query("" +
+                "from StockTable " +
+                "on volume > 10 " +
+                "select symbol, count() as trades, distinctCount(price) as prices " +
+                "group by symbol " +
+                "having symbol == 'WSO2'");
+        EventPrinter.print(events);
+        AssertJUnit.assertEquals(1, events.length);
+        AssertJUnit.assertEquals(3L, events[0].getData()[1]);
+        AssertJUnit.assertEquals(2L, events[0].getData()[2]);
+
+        events = siddhiAppRuntime.query("" +
+                "from StockTable " +
+                "on symbol == 'IBM' " +
+                "select convert(volume, 'string') as volumeText, ifThenElse(price > 60f, symbol, 'LOW') as band, " +
+                "coalesce(symbol, 'NA') as name");
+        EventPrinter.print(events);
+        AssertJUnit.assertEquals(1, events.length);
+        AssertJUnit.assertEquals("200", events[0].getData()[0]);
+        AssertJUnit.assertEquals("IBM", events[0].getData()[1]);
+        AssertJUnit.assertEquals("IBM", events[0].getData()[2]);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void test27() throws InterruptedException {
+        log.info("Test27 table with condition partly evaluated in memory");
+
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String streams = "" +
+                "define stream StockStream (symbol string, price float, volume long);" +
+                "@Store(type=\"rdbms\", jdbc.url=\"" + url + "\", " +
+                "username=\"" + user + "\", password=\"" + password + "\", jdbc.driver.name=\"" + driverClassName
+                + "\", field.length=\"symbol:100\", pool.properties=\"maximumPoolSize:1\")\n" +
+                "define table StockTable (symbol string, price float, volume long); ";
+        String query = "" +
+                "@info(name = 'query1') " +
+                "from StockStream " +
+                "insert into StockTable ;";
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streams + query);
+
+        InputHandler stockStream = siddhiAppRuntime.getInputHandler("StockStream");
+
+        siddhiAppRuntime.start();
+
+        stockStream.send(new Object[]{"WSO2", 55.6f, 100L});
+        stockStream.send(new Object[]{"IBM", 75.6f, 200L});
+        stockStream.send(new Object[]{"WSO2", 77.6f, 10L});
+        stockStream.send(new Object[]{"ORCL", 85.6f, 300L});
+        Thread.sleep(500);
+
+        Event[] events = siddhiAppRuntime.query("" +
+                "from StockTable " +
+                "on volume > 50 and maximum(price, 60f) > 70f " +
+                "select symbol, volume ");
+        EventPrinter.print(events);
+        AssertJUnit.assertEquals(2, events.length);
+        List<String> symbols = new ArrayList<>();
+        for (Event event : events) {
+            symbols.add((String) event.getData()[0]);
+        }
+        Collections.sort(symbols);
+        AssertJUnit.assertEquals(Arrays.asList("IBM", "ORCL"), symbols);
+        siddhiAppRuntime.shutdown();
+    }
 }
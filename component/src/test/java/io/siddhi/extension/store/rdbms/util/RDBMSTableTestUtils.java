@@ -32,6 +32,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import javax.naming.Context;
 import javax.naming.InitialContext;
@@ -170,6 +172,50 @@ public class RDBMSTableTestUtils {
         }
     }
 
+    public static void executeUpdate(String query, Object... parameters) throws SQLException {
+        PreparedStatement stmt = null;
+        Connection con = null;
+        try {
+            con = getTestDataSource().getConnection();
+            stmt = con.prepareStatement(query);
+            for (int i = 0; i < parameters.length; i++) {
+                stmt.setObject(i + 1, parameters[i]);
+            }
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            log.error("Executing '" + query + "' failed due to " + e.getMessage(), e);
+            throw e;
+        } finally {
+            RDBMSTableUtils.cleanupConnection(null, stmt, con);
+        }
+    }
+
+    /**
+     * Returns the statements H2 executed on the given table since query statistics were enabled through
+     * 'SET QUERY_STATISTICS TRUE'.
+     */
+    public static List<String> getExecutedQueries(String tableName) throws SQLException {
+        PreparedStatement stmt = null;
+        Connection con = null;
+        List<String> queries = new ArrayList<>();
+        try {
+            con = getTestDataSource().getConnection();
+            stmt = con.prepareStatement("SELECT SQL_STATEMENT FROM INFORMATION_SCHEMA.QUERY_STATISTICS " +
+                    "WHERE UPPER(SQL_STATEMENT) LIKE ?");
+            stmt.setString(1, "%" + tableName.toUpperCase() + "%");
+            ResultSet resultSet = stmt.executeQuery();
+            while (resultSet.next()) {
+                queries.add(resultSet.getString(1));
+            }
+            return queries;
+        } catch (SQLException e) {
+            log.error("Getting executed queries failed due to " + e.getMessage(), e);
+            throw e;
+        } finally {
+            RDBMSTableUtils.cleanupConnection(null, stmt, con);
+        }
+    }
+
     public static long getRowsInTable(String tableName) throws SQLException {
         PreparedStatement stmt = null;
         Connection con = null;